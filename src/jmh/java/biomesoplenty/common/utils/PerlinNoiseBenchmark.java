@@ -0,0 +1,88 @@
+package biomesoplenty.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares per-point perlin noise against the batched grid and column methods, over the sizes the End generator uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PerlinNoiseBenchmark
+{
+	private static final int SIZE = 16;
+	private static final int HEIGHT = 128;
+	private static final float DIVISOR = 12.0F;
+	
+	private PerlinNoise noise;
+	private float[] grid;
+	private float[] column;
+	private int chunkX;
+	
+	@Setup
+	public void setup()
+	{
+		noise = new PerlinNoise(8214906547102L);
+		grid = new float[SIZE * SIZE];
+		column = new float[HEIGHT];
+	}
+	
+	@Benchmark
+	public float[] noise2SinglePoint()
+	{
+		int x = nextChunk();
+		
+		for (int j = 0; j < SIZE; j++)
+		{
+			for (int i = 0; i < SIZE; i++)
+			{
+				grid[i + j * SIZE] = noise.noise2((x + i) / DIVISOR, j / DIVISOR);
+			}
+		}
+		
+		return grid;
+	}
+	
+	@Benchmark
+	public float[] noise2Batched()
+	{
+		noise.noise2(grid, nextChunk(), 0, SIZE, SIZE, DIVISOR);
+		
+		return grid;
+	}
+	
+	@Benchmark
+	public float[] noise3SinglePoint()
+	{
+		float x = nextChunk() / DIVISOR;
+		
+		for (int k = 0; k < HEIGHT; k++)
+		{
+			column[k] = noise.noise3(x, 0.0F, k / DIVISOR);
+		}
+		
+		return column;
+	}
+	
+	@Benchmark
+	public float[] noise3ColumnBatched()
+	{
+		noise.noise3Column(column, nextChunk() / DIVISOR, 0.0F, 0, HEIGHT - 1, DIVISOR);
+		
+		return column;
+	}
+	
+	private int nextChunk()
+	{
+		chunkX = (chunkX + SIZE) & 0xFFFFF;
+		return chunkX;
+	}
+}
@@ -0,0 +1,111 @@
+package biomesoplenty.common.world.layer.hell;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.util.WeightedRandom;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraftforge.common.BiomeManager.BiomeEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import biomesoplenty.common.world.BOPBiomeManager;
+
+/**
+ * Compares picking Nether biomes from the precomputed weight table against walking the biome list with WeightedRandom,
+ * for the area the first zoom layer asks the biome layer for.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BiomeLayerHellBiomesBenchmark
+{
+	private static final int SIZE = 22;
+	private static final BiomeGenBase[] STAND_IN_BIOMES = { BiomeGenBase.desert, BiomeGenBase.forest, BiomeGenBase.taiga, BiomeGenBase.swampland, BiomeGenBase.jungle, BiomeGenBase.mesa, BiomeGenBase.savanna };
+	
+	/** The number of biomes added alongside Hell, as the Nether biomes enabled in the config would be */
+	@Param({ "1", "4", "7" })
+	public int biomeCount;
+	
+	private BiomeLayerHellBiomes weightTable;
+	private WeightedRandomHellBiomes weightedRandom;
+	private int chunkX;
+	
+	@Setup
+	public void setup()
+	{
+		BOPBiomeManager.netherBiomes.clear();
+		
+		for (int i = 0; i < biomeCount; i++)
+		{
+			BOPBiomeManager.netherBiomes.add(new BiomeEntry(STAND_IN_BIOMES[i], 10));
+		}
+		
+		weightTable = new BiomeLayerHellBiomes(200L);
+		weightedRandom = new WeightedRandomHellBiomes(200L);
+		weightTable.initWorldGenSeed(8214906547102L);
+		weightedRandom.initWorldGenSeed(8214906547102L);
+	}
+	
+	@Benchmark
+	public int[] weightTable()
+	{
+		return weightTable.getInts(nextChunk(), 0, SIZE, SIZE);
+	}
+	
+	@Benchmark
+	public int[] weightedRandom()
+	{
+		return weightedRandom.getInts(nextChunk(), 0, SIZE, SIZE);
+	}
+	
+	private int nextChunk()
+	{
+		chunkX = (chunkX + 4) & 0xFFFFF;
+		return chunkX;
+	}
+	
+	/**
+	 * The Nether biome layer as it was before the weight table, picking every cell with WeightedRandom
+	 */
+	private static class WeightedRandomHellBiomes extends BiomeLayerHell
+	{
+		private final List<BiomeEntry> netherBiomes = new ArrayList<BiomeEntry>();
+		private int[] outputBuffer;
+		
+		public WeightedRandomHellBiomes(long seed)
+		{
+			super(seed);
+			
+			this.netherBiomes.add(new BiomeEntry(BiomeGenBase.hell, 10));
+			this.netherBiomes.addAll(BOPBiomeManager.netherBiomes);
+		}
+		
+		@Override
+		public int[] getInts(int x, int z, int width, int length)
+		{
+			//Uses its own buffer like the weight table does, so only the biome picking is compared
+			int[] ints = outputBuffer = ensureCapacity(outputBuffer, width * length);
+			
+			for (int j = 0; j < length; ++j)
+			{
+				for (int i = 0; i < width; ++i)
+				{
+					this.initChunkSeed((long)(i + x), (long)(j + z));
+					
+					ints[i + j * width] = ((BiomeEntry)WeightedRandom.getItem(netherBiomes, (int)this.nextLong(WeightedRandom.getTotalWeight(netherBiomes) / 10) * 10)).biome.biomeID;
+				}
+			}
+			
+			return ints;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package biomesoplenty.common.world.noise;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares filling a chunk-sized grid of simplex noise one point at a time against the batched grid method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimplexNoiseBenchmark
+{
+	private static final int SIZE = 16;
+	private static final double SCALE = 0.0045D;
+	
+	private SimplexNoise noise;
+	private double[] output;
+	private int chunkX;
+	
+	@Setup
+	public void setup()
+	{
+		noise = new SimplexNoise(8214906547102L);
+		output = new double[SIZE * SIZE];
+	}
+	
+	@Benchmark
+	public double[] singlePoint()
+	{
+		int x = nextChunk();
+		
+		for (int j = 0; j < SIZE; j++)
+		{
+			for (int i = 0; i < SIZE; i++)
+			{
+				output[i + j * SIZE] = noise.noise((x + i) * SCALE, j * SCALE);
+			}
+		}
+		
+		return output;
+	}
+	
+	@Benchmark
+	public double[] batched()
+	{
+		noise.noise(output, nextChunk(), 0, SIZE, SIZE, SCALE);
+		
+		return output;
+	}
+	
+	private int nextChunk()
+	{
+		chunkX = (chunkX + SIZE) & 0xFFFFF;
+		return chunkX;
+	}
+}
@@ -1,7 +1,10 @@
 package biomesoplenty;
 
 import net.minecraft.creativetab.CreativeTabs;
+import biomesoplenty.common.commands.CommandBOP;
+import biomesoplenty.common.commands.CommandBOPProfile;
 import biomesoplenty.common.configuration.BOPConfiguration;
+import biomesoplenty.common.configuration.BOPConfigurationMisc;
 import biomesoplenty.common.configuration.structures.BOPConfigurationStrongholds;
 import biomesoplenty.common.configuration.structures.BOPConfigurationVillages;
 import biomesoplenty.common.core.BOPBiomes;
@@ -19,8 +22,12 @@ import biomesoplenty.common.integration.BOPIntegration;
 import biomesoplenty.common.integration.TreecapitatorIntegration;
 import biomesoplenty.common.network.BOPPacketHandler;
 import biomesoplenty.common.utils.BOPModInfo;
+import biomesoplenty.common.utils.StartupProfiler;
+import biomesoplenty.common.world.BiomeMapRenderer;
+import biomesoplenty.common.world.WorldPregenerator;
 import biomesoplenty.common.world.WorldTypeBOP;
 import biomesoplenty.common.world.WorldTypeBOPAmplified;
+import biomesoplenty.common.world.generation.DecorationProfiler;
 import biomesoplenty.common.world.generation.WorldGenFieldAssociation;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.Mod.EventHandler;
@@ -29,6 +36,9 @@ import cpw.mods.fml.common.SidedProxy;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartedEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
+import cpw.mods.fml.common.event.FMLServerStoppingEvent;
 
 @Mod(modid = BOPModInfo.modID, name = BOPModInfo.modName, dependencies = "after:Natura; required-after:Forge@[10.13.4.1566,)")
 public class BiomesOPlenty
@@ -45,39 +55,85 @@ public class BiomesOPlenty
     @EventHandler
     public void preInit(FMLPreInitializationEvent event)
     {
+        StartupProfiler.begin("Pre-initialization");
+        StartupProfiler.phase("configuration");
         configPath = event.getModConfigurationDirectory() + "/biomesoplenty/";
         BOPConfiguration.init(configPath);
         tabBiomesOPlenty = new CreativeTabsBOP(CreativeTabs.getNextID(), "tabBiomesOPlenty");
         BOPPacketHandler.init();
+        StartupProfiler.phase("potions and fluids");
         BOPPotions.init();
         BOPFluids.preInit();
+        StartupProfiler.phase("blocks");
         BOPBlocks.init();
+        StartupProfiler.phase("items");
         BOPItems.init();
         BOPFluids.init();
+        StartupProfiler.phase("crafting");
         BOPCrafting.init();
+        StartupProfiler.phase("feature associations");
         WorldGenFieldAssociation.init();
+        StartupProfiler.phase("biomes");
         BOPBiomes.init();
+        StartupProfiler.phase("structures");
         BOPConfigurationVillages.init(BOPConfiguration.villagesConfigFile);
         BOPConfigurationStrongholds.init(BOPConfiguration.strongholdsConfigFile);
+        StartupProfiler.phase("entities");
         BOPEntities.init();
+        StartupProfiler.phase("vanilla compatibility");
         BOPVanillaCompat.init();
+        StartupProfiler.phase("event handlers");
         BOPEventHandlers.init();
+        StartupProfiler.phase("renderers");
         proxy.registerRenderers();
+        StartupProfiler.phase("integration");
         BOPIntegration.preInit();
+        StartupProfiler.end();
     }
 
     @EventHandler
     public void load(FMLInitializationEvent event)
     {
+        StartupProfiler.begin("Initialization");
+        StartupProfiler.phase("integration");
         TreecapitatorIntegration.init();
+        StartupProfiler.phase("dimensions");
         BOPDimensions.init();
+        StartupProfiler.end();
     }
 
     @EventHandler
     public void postInit(FMLPostInitializationEvent event)
     {
+        StartupProfiler.begin("Post-initialization");
+        StartupProfiler.phase("integration");
     	BOPIntegration.postInit();
+        StartupProfiler.phase("biome decorators");
+        BOPBiomes.prepareDecorators();
+        StartupProfiler.phase("world types");
         BOPBiomes.worldTypeBOP = new WorldTypeBOP();
         BOPBiomes.worldTypeBOPAmplified = new WorldTypeBOPAmplified();
+        StartupProfiler.end();
+    }
+    
+    @EventHandler
+    public void serverStarting(FMLServerStartingEvent event)
+    {
+        event.registerServerCommand(new CommandBOP());
+        event.registerServerCommand(new CommandBOPProfile());
+        DecorationProfiler.setEnabled(BOPConfigurationMisc.decorationProfiler);
+    }
+    
+    @EventHandler
+    public void serverStarted(FMLServerStartedEvent event)
+    {
+        WorldPregenerator.resume();
+    }
+    
+    @EventHandler
+    public void serverStopping(FMLServerStoppingEvent event)
+    {
+        WorldPregenerator.pause();
+        BiomeMapRenderer.cancel();
     }
 }
@@ -2,13 +2,22 @@ package biomesoplenty.api.biome;
 
 import java.util.Random;
 
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.common.world.generation.DecorationProfiler;
+import biomesoplenty.common.world.generation.DecorationProfiler.Category;
 
 public class BOPBiome<T extends BOPBiomeDecorator> extends BiomeGenBase
 {
 	public final T theBiomeDecorator;
 	
+	/** The shared tree generators for this biome, used instead of creating new generators for every tree */
+	protected TreePalette treePalette;
+	
 	public BOPBiome(int biomeID, Class<T> clazz, boolean register) 
 	{
 		super(biomeID, register);
@@ -34,11 +43,135 @@ public class BOPBiome<T extends BOPBiomeDecorator> extends BiomeGenBase
 		this(biomeID, clazz, true);
 	}
 	
-	//TODO: Wrap tree method
+    @Override
+	public WorldGenAbstractTree func_150567_a(Random random)
+    {
+        WorldGenAbstractTree tree = this.treePalette != null ? this.treePalette.getRandomTree(random) : super.func_150567_a(random);
+        
+        if (DecorationProfiler.isEnabled()) DecorationProfiler.count(Category.TREE, tree.getClass().getSimpleName(), this);
+        
+        return tree;
+    }
 	
     @Override
 	public void decorate(World world, Random random, int chunkX, int chunkZ)
     {
         this.theBiomeDecorator.decorateChunk(world, random, this, chunkX, chunkZ);
     }
+    
+    @Override
+    public void genTerrainBlocks(World world, Random random, Block[] blocks, byte[] metadata, int x, int z, double noise)
+    {
+        SurfaceBlocks surface = this.getSurfaceBlocks(noise);
+        
+        if (surface != null)
+        {
+            this.genBiomeTerrain(world, random, blocks, metadata, x, z, noise, surface);
+        }
+        else
+        {
+            this.genBiomeTerrain(world, random, blocks, metadata, x, z, noise);
+        }
+    }
+    
+    /**
+     * Chooses the surface for a column from its terrain noise. Biomes override this rather than changing
+     * their own topBlock and fillerBlock fields, so that surfaces can be built from any thread.
+     * 
+     * @return the surface for the column, or null to use the biome's own fields
+     */
+    protected SurfaceBlocks getSurfaceBlocks(double noise)
+    {
+        return null;
+    }
+    
+    /**
+     * Equivalent to genBiomeTerrain, with the surface blocks passed in rather than read from the biome
+     */
+    protected void genBiomeTerrain(World world, Random random, Block[] blocks, byte[] metadata, int x, int z, double noise, SurfaceBlocks surface)
+    {
+        Block topBlock = surface.topBlock;
+        byte topMeta = (byte)(surface.topMeta & 255);
+        Block fillerBlock = surface.fillerBlock;
+        int depth = -1;
+        int surfaceDepth = (int)(noise / 3.0D + 3.0D + random.nextDouble() * 0.25D);
+        int localX = x & 15;
+        int localZ = z & 15;
+        int height = blocks.length / 256;
+        
+        for (int y = 255; y >= 0; --y)
+        {
+            int index = (localZ * 16 + localX) * height + y;
+            
+            if (y <= 0 + random.nextInt(5))
+            {
+                blocks[index] = Blocks.bedrock;
+            }
+            else
+            {
+                Block block = blocks[index];
+                
+                if (block != null && block.getMaterial() != Material.air)
+                {
+                    if (block == Blocks.stone)
+                    {
+                        if (depth == -1)
+                        {
+                            if (surfaceDepth <= 0)
+                            {
+                                topBlock = null;
+                                topMeta = 0;
+                                fillerBlock = Blocks.stone;
+                            }
+                            else if (y >= 59 && y <= 64)
+                            {
+                                topBlock = surface.topBlock;
+                                topMeta = (byte)(surface.topMeta & 255);
+                                fillerBlock = surface.fillerBlock;
+                            }
+                            
+                            if (y < 63 && (topBlock == null || topBlock.getMaterial() == Material.air))
+                            {
+                                topBlock = this.getFloatTemperature(x, y, z) < 0.15F ? Blocks.ice : Blocks.water;
+                                topMeta = 0;
+                            }
+                            
+                            depth = surfaceDepth;
+                            
+                            if (y >= 62)
+                            {
+                                blocks[index] = topBlock;
+                                metadata[index] = topMeta;
+                            }
+                            else if (y < 56 - surfaceDepth)
+                            {
+                                topBlock = null;
+                                fillerBlock = Blocks.stone;
+                                blocks[index] = Blocks.gravel;
+                            }
+                            else
+                            {
+                                blocks[index] = fillerBlock;
+                            }
+                        }
+                        else if (depth > 0)
+                        {
+                            --depth;
+                            blocks[index] = fillerBlock;
+                            
+                            if (depth == 0 && fillerBlock == Blocks.sand)
+                            {
+                                depth = random.nextInt(4) + Math.max(0, y - 63);
+                                fillerBlock = Blocks.sandstone;
+                            }
+                        }
+                    }
+                }
+                else
+                {
+                    depth = -1;
+                }
+            }
+        }
+    }
 }
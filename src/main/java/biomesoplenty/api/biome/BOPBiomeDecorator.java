@@ -3,6 +3,7 @@ package biomesoplenty.api.biome;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.FLOWERS;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.GRASS;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
@@ -12,7 +13,11 @@ import net.minecraft.world.biome.BiomeDecorator;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.feature.WorldGenerator;
 import net.minecraftforge.event.terraingen.TerrainGen;
-import biomesoplenty.common.utils.RandomForcedPositiveOwned;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.DecorationProfiler;
+import biomesoplenty.common.world.generation.DecorationProfiler.Category;
+import biomesoplenty.common.world.generation.DecorationRandom;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.IBOPWorldGenerator;
 import biomesoplenty.common.world.generation.WorldGenFieldAssociation;
 
@@ -20,6 +25,19 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
 {
     public T bopFeatures;
     
+    /** The chunks being decorated, shared by every feature generated for the current chunk */
+    protected DecorationRegion currentRegion;
+    
+    /** The random for the chunk being decorated, from which every BoP feature gets its own substream */
+    protected DecorationRandom decorationRandom;
+    
+    /** The indices of the features in bopFeatures which are set, found when the biome is first decorated */
+    private BitSet activeFeatures;
+    
+    /** The grass and flower generators from bopFeatures, with their weights totalled ahead of time */
+    private WeightedGeneratorTable<WorldGenerator> weightedGrassGenerators;
+    private WeightedGeneratorTable<WorldGenerator> weightedFlowerGenerators;
+    
     public BOPBiomeDecorator(Class<T> biomeFeaturesClass)
     {
     	super();
@@ -44,31 +62,63 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
         else
         {
             this.currentWorld = world;
-            this.randomGenerator = new RandomForcedPositiveOwned(random);
+            this.decorationRandom = new DecorationRandom(world, chunkX >> 4, chunkZ >> 4);
+            this.randomGenerator = this.decorationRandom;
             this.chunk_X = chunkX;
             this.chunk_Z = chunkZ;
-            this.genDecorations(biome);
+            this.currentRegion = new DecorationRegion(world, chunkX, chunkZ);
+            
+            DecorationBlockWriter.begin(world, currentRegion);
+            
+            try
+            {
+                this.genDecorations(biome);
+            }
+            finally
+            {
+                DecorationBlockWriter.end();
+            }
+            
             this.currentWorld = null;
+            this.currentRegion = null;
             this.randomGenerator = null;
+            this.decorationRandom = null;
         }
     }
     
     @Override
     protected void genDecorations(BiomeGenBase biome)
     {
+        long startTime = DecorationProfiler.start();
+        
     	super.genDecorations(biome);
     	
-    	BOPBiome bopBiome = (BOPBiome)biome;
+    	DecorationProfiler.record(Category.STAGE, "vanilla", biome, startTime);
+    	
+    	this.genBOPFeatures((BOPBiome)biome);
+    }
+    
+    /**
+     * Generates every BoP feature in bopFeatures which is set for the current chunk
+     */
+    protected void genBOPFeatures(BOPBiome bopBiome)
+    {
+    	if (activeFeatures == null) this.updateActiveFeatures();
     	
-    	for (String featureName : bopFeatures.getFeatureNames())
+    	BiomeFeaturesMetadata metadata = bopFeatures.getMetadata();
+    	
+    	for (int index = activeFeatures.nextSetBit(0); index >= 0; index = activeFeatures.nextSetBit(index + 1))
     	{
+    		String featureName = metadata.getName(index);
+    		DecorationRandom featureRandom = decorationRandom.getSubstream(featureName);
+    		
             if (featureName.equals("bopFlowersPerChunk"))
             {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, FLOWERS)) continue;
+                if (!TerrainGen.decorate(currentWorld, featureRandom, chunk_X, chunk_Z, FLOWERS)) continue;
             }
             else if (featureName.equals("bopGrassPerChunk"))
             {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, GRASS)) continue;
+                if (!TerrainGen.decorate(currentWorld, featureRandom, chunk_X, chunk_Z, GRASS)) continue;
             }
 
             WorldGenFieldAssociation.WorldFeature worldFeature = WorldGenFieldAssociation.getAssociatedFeature(featureName);
@@ -79,12 +129,109 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
 
                 if (worldGenerator != null)
                 {
-                    worldGenerator.setupGeneration(currentWorld, randomGenerator, bopBiome, featureName, chunk_X, chunk_Z);
+                    long startTime = DecorationProfiler.start();
+                    
+                    worldGenerator.setupGeneration(currentWorld, currentRegion, featureRandom, bopBiome, featureName, chunk_X, chunk_Z);
+                    
+                    DecorationProfiler.record(Category.FEATURE, featureName, bopBiome, startTime);
                 }
             }
     	}
     }
     
+    /**
+     * Finds which features are set, so that those which would generate nothing are skipped. This happens the
+     * first time the biome is decorated, once every feature has been set up, but needs to be called again if
+     * bopFeatures is changed after that.
+     */
+    public void updateActiveFeatures()
+    {
+    	BiomeFeaturesMetadata metadata = bopFeatures.getMetadata();
+    	BitSet features = new BitSet(metadata.getFeatureCount());
+    	
+    	for (int index = 0; index < metadata.getFeatureCount(); index++)
+    	{
+    		WorldGenFieldAssociation.WorldFeature worldFeature = WorldGenFieldAssociation.getAssociatedFeature(metadata.getName(index));
+    		boolean active = isSet(metadata.getValue(bopFeatures, index));
+    		
+    		if (worldFeature != null)
+    		{
+    			for (String otherFeature : worldFeature.getOtherFeatures())
+    			{
+    				int otherIndex = metadata.getIndex(otherFeature);
+    				
+    				if (otherIndex != -1 && isSet(metadata.getValue(bopFeatures, otherIndex))) active = true;
+    			}
+    		}
+    		
+    		features.set(index, active);
+    	}
+    	
+    	this.activeFeatures = features;
+    }
+    
+    /**
+     * Totals the weights of the grass and flower generators. Like updateActiveFeatures, this happens the
+     * first time they are needed, but needs to be called again if either map is changed after that.
+     */
+    public void updateWeightedGenerators()
+    {
+    	this.weightedGrassGenerators = new WeightedGeneratorTable<WorldGenerator>(bopFeatures.weightedGrassGen);
+    	this.weightedFlowerGenerators = new WeightedGeneratorTable<WorldGenerator>(bopFeatures.weightedFlowerGen);
+    }
+    
+    /**
+     * Works out everything decoration needs from bopFeatures, so that it isn't done when the biome is first
+     * decorated. Only this decorator is touched, so decorators may be prepared on any thread.
+     */
+    public void prepare()
+    {
+    	this.updateActiveFeatures();
+    	this.updateWeightedGenerators();
+    }
+    
+    public WeightedGeneratorTable<WorldGenerator> getWeightedGrassGenerators()
+    {
+    	if (weightedGrassGenerators == null) this.updateWeightedGenerators();
+    	
+    	return weightedGrassGenerators;
+    }
+    
+    public WeightedGeneratorTable<WorldGenerator> getWeightedFlowerGenerators()
+    {
+    	if (weightedFlowerGenerators == null) this.updateWeightedGenerators();
+    	
+    	return weightedFlowerGenerators;
+    }
+    
+    /**
+     * @return the features which are set and their values, for debugging
+     */
+    public String describeActiveFeatures()
+    {
+    	if (activeFeatures == null) this.updateActiveFeatures();
+    	
+    	BiomeFeaturesMetadata metadata = bopFeatures.getMetadata();
+    	StringBuilder description = new StringBuilder();
+    	
+    	for (int index = activeFeatures.nextSetBit(0); index >= 0; index = activeFeatures.nextSetBit(index + 1))
+    	{
+    		if (description.length() > 0) description.append(", ");
+    		
+    		description.append(metadata.getName(index)).append('=').append(metadata.getValue(bopFeatures, index));
+    	}
+    	
+    	return activeFeatures.cardinality() + "/" + metadata.getFeatureCount() + " features active: " + description;
+    }
+    
+    private static boolean isSet(Object value)
+    {
+    	if (value instanceof Boolean) return (Boolean)value;
+    	if (value instanceof Number) return ((Number)value).doubleValue() != 0.0D;
+    	
+    	return value != null;
+    }
+    
     public static <T extends WorldGenerator> T getRandomWeightedWorldGenerator(HashMap<T, ? extends Number> worldGeneratorMap)
     {
         double completeWeight = 0D;
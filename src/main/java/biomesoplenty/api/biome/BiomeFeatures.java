@@ -4,12 +4,10 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 
 import net.minecraft.world.gen.feature.WorldGenerator;
-import biomesoplenty.api.exception.FeatureExistsException;
 import biomesoplenty.api.exception.NoSuchFeatureException;
 
 public class BiomeFeatures 
@@ -17,28 +15,23 @@ public class BiomeFeatures
     public HashMap<WorldGenerator, Double> weightedGrassGen = new HashMap<WorldGenerator, Double>();
     public HashMap<WorldGenerator, Integer> weightedFlowerGen = new HashMap<WorldGenerator, Integer>();
 	
-    private ArrayList<String> features = new ArrayList<String>();
+    private final BiomeFeaturesMetadata metadata;
 	
     @BiomeFeature public int bopFlowersPerChunk = 0;
     @BiomeFeature public int bopGrassPerChunk = 0;
 	
     public BiomeFeatures()
     {
-    	for (Field field : this.getClass().getFields())
-    	{
-    		if (field.isAnnotationPresent(BiomeFeature.class))
-    		{
-    			if (!features.contains(field.getName()))
-    			{
-    				features.add(field.getName());
-    			}
-    			else throw new FeatureExistsException(field.getName());
-    		}
-    	}
+    	this.metadata = BiomeFeaturesMetadata.get(this.getClass());
     }
     
     public Object getFeature(String featureName)
     {
+    	int index = metadata.getIndex(featureName);
+    	
+    	if (index != -1) return metadata.getValue(this, index);
+    	
+    	//Fields which aren't features can still be read, although more slowly
     	try 
     	{
 			return this.getClass().getField(featureName).get(this);
@@ -51,7 +44,12 @@ public class BiomeFeatures
 	
     public ArrayList<String> getFeatureNames()
     {
-        return features;
+        return metadata.getFeatureNames();
+    }
+    
+    public BiomeFeaturesMetadata getMetadata()
+    {
+        return metadata;
     }
 	
 	@Retention(RetentionPolicy.RUNTIME)
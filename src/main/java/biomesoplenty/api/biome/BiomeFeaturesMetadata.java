@@ -0,0 +1,106 @@
+package biomesoplenty.api.biome;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import biomesoplenty.api.biome.BiomeFeatures.BiomeFeature;
+import biomesoplenty.api.exception.FeatureExistsException;
+
+/**
+ * The features declared by a BiomeFeatures class, found once per class and shared by every instance of it.
+ * Each feature has an index, in the order the features are generated, through which its field can be read
+ * without looking it up by name again.
+ */
+public class BiomeFeaturesMetadata
+{
+    private static final ConcurrentHashMap<Class<?>, BiomeFeaturesMetadata> metadataByClass = new ConcurrentHashMap<Class<?>, BiomeFeaturesMetadata>();
+
+    private final ArrayList<String> featureNames = new ArrayList<String>();
+    private final Map<String, Integer> featureIndices = new HashMap<String, Integer>();
+    private final Field[] fields;
+
+    private BiomeFeaturesMetadata(Class<? extends BiomeFeatures> featuresClass)
+    {
+        List<Field> featureFields = new ArrayList<Field>();
+
+        for (Field field : featuresClass.getFields())
+        {
+            if (field.isAnnotationPresent(BiomeFeature.class))
+            {
+                if (featureIndices.containsKey(field.getName())) throw new FeatureExistsException(field.getName());
+
+                featureIndices.put(field.getName(), featureFields.size());
+                featureNames.add(field.getName());
+                featureFields.add(field);
+            }
+        }
+
+        this.fields = featureFields.toArray(new Field[featureFields.size()]);
+    }
+
+    /**
+     * Biomes may be built on any thread, so the first instance of a class on each may find its features,
+     * but only one result is ever kept
+     */
+    public static BiomeFeaturesMetadata get(Class<? extends BiomeFeatures> featuresClass)
+    {
+        BiomeFeaturesMetadata metadata = metadataByClass.get(featuresClass);
+
+        if (metadata == null)
+        {
+            metadata = new BiomeFeaturesMetadata(featuresClass);
+
+            BiomeFeaturesMetadata existing = metadataByClass.putIfAbsent(featuresClass, metadata);
+
+            if (existing != null) metadata = existing;
+        }
+
+        return metadata;
+    }
+
+    public int getFeatureCount()
+    {
+        return fields.length;
+    }
+
+    public ArrayList<String> getFeatureNames()
+    {
+        return featureNames;
+    }
+
+    /**
+     * @return the index of the named feature, or -1 if the class has no such feature
+     */
+    public int getIndex(String featureName)
+    {
+        Integer index = featureIndices.get(featureName);
+
+        return index != null ? index : -1;
+    }
+
+    public String getName(int index)
+    {
+        return featureNames.get(index);
+    }
+
+    public Class<?> getType(int index)
+    {
+        return fields[index].getType();
+    }
+
+    public Object getValue(BiomeFeatures features, int index)
+    {
+        try
+        {
+            return fields[index].get(features);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package biomesoplenty.api.biome;
+
+import net.minecraft.block.Block;
+
+/**
+ * The blocks used to build the surface of a single column, in place of a biome's topBlock,
+ * field_150604_aj and fillerBlock fields.
+ */
+public class SurfaceBlocks
+{
+	public final Block topBlock;
+	public final int topMeta;
+	public final Block fillerBlock;
+
+	public SurfaceBlocks(Block topBlock, int topMeta, Block fillerBlock)
+	{
+		this.topBlock = topBlock;
+		this.topMeta = topMeta;
+		this.fillerBlock = fillerBlock;
+	}
+}
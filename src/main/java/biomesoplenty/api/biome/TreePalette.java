@@ -0,0 +1,176 @@
+package biomesoplenty.api.biome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+
+/**
+ * An immutable, weighted selection of tree generators for a biome.
+ *
+ * Generators are created once when the palette is declared and shared between every tree attempt,
+ * so they must not keep any state between calls to generate. Palettes are declared as a chain
+ * of chances, mirroring the nested nextInt checks they replace:
+ *
+ * <pre>
+ * TreePalette.builder().oneIn(15, treeA).oneIn(4, treeB).otherwise(treeC)
+ * </pre>
+ *
+ * Each chance applies to whatever probability is left over by the entries before it, and the
+ * resulting weights are kept exact so the probability of each tree is unchanged.
+ */
+public class TreePalette
+{
+	/** Palettes with a total weight up to this size are flattened into a direct lookup table */
+	private static final int MAX_LOOKUP_SIZE = 1024;
+
+	private final WorldGenAbstractTree[] trees;
+	private final int[] cumulativeWeights;
+	private final int totalWeight;
+	private final WorldGenAbstractTree[] lookup;
+
+	private TreePalette(WorldGenAbstractTree[] trees, long[] weights)
+	{
+		long divisor = 0;
+
+		for (long weight : weights)
+		{
+			divisor = gcd(divisor, weight);
+		}
+
+		long total = 0;
+		int[] cumulative = new int[weights.length];
+
+		for (int i = 0; i < weights.length; i++)
+		{
+			total += weights[i] / divisor;
+
+			if (total > Integer.MAX_VALUE) throw new IllegalArgumentException("Tree palette weights are too large");
+
+			cumulative[i] = (int)total;
+		}
+
+		this.trees = trees;
+		this.cumulativeWeights = cumulative;
+		this.totalWeight = (int)total;
+
+		if (totalWeight <= MAX_LOOKUP_SIZE)
+		{
+			this.lookup = new WorldGenAbstractTree[totalWeight];
+
+			for (int i = 0, index = 0; i < trees.length; i++)
+			{
+				for (; index < cumulative[i]; index++)
+				{
+					this.lookup[index] = trees[i];
+				}
+			}
+		}
+		else this.lookup = null;
+	}
+
+	public WorldGenAbstractTree getRandomTree(Random random)
+	{
+		if (trees.length == 1) return trees[0];
+
+		int value = random.nextInt(totalWeight);
+
+		if (lookup != null) return lookup[value];
+
+		int index = Arrays.binarySearch(cumulativeWeights, value + 1);
+
+		return trees[index >= 0 ? index : -index - 1];
+	}
+
+	public int getTotalWeight()
+	{
+		return totalWeight;
+	}
+
+	public static TreePalette of(WorldGenAbstractTree tree)
+	{
+		return new TreePalette(new WorldGenAbstractTree[] { tree }, new long[] { 1L });
+	}
+
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	private static long gcd(long a, long b)
+	{
+		while (b != 0)
+		{
+			long temp = b;
+			b = a % b;
+			a = temp;
+		}
+
+		return a;
+	}
+
+	public static class Builder
+	{
+		private final List<WorldGenAbstractTree> trees = new ArrayList<WorldGenAbstractTree>();
+		private final List<Long> weights = new ArrayList<Long>();
+
+		/** The weight which hasn't yet been assigned to a tree */
+		private long remainingWeight = 1L;
+
+		private Builder() {}
+
+		/**
+		 * Equivalent to random.nextInt(chance) == 0 ? tree : ...
+		 */
+		public Builder oneIn(int chance, WorldGenAbstractTree... variants)
+		{
+			return this.chance(1, chance, variants);
+		}
+
+		/**
+		 * Equivalent to random.nextInt(denominator) < numerator ? tree : ..., with the
+		 * selected share split evenly between all of the given variants.
+		 */
+		public Builder chance(int numerator, int denominator, WorldGenAbstractTree... variants)
+		{
+			if (numerator <= 0 || numerator >= denominator || variants.length == 0) throw new IllegalArgumentException("Invalid tree chance " + numerator + "/" + denominator);
+
+			long scale = (long)denominator * variants.length;
+
+			for (int i = 0; i < weights.size(); i++)
+			{
+				weights.set(i, weights.get(i) * scale);
+			}
+
+			for (WorldGenAbstractTree tree : variants)
+			{
+				trees.add(tree);
+				weights.add(remainingWeight * numerator);
+			}
+
+			remainingWeight *= (long)(denominator - numerator) * variants.length;
+
+			return this;
+		}
+
+		/**
+		 * Assigns all of the remaining weight to the given tree and builds the palette.
+		 */
+		public TreePalette otherwise(WorldGenAbstractTree tree)
+		{
+			trees.add(tree);
+			weights.add(remainingWeight);
+
+			long[] weightArray = new long[weights.size()];
+
+			for (int i = 0; i < weightArray.length; i++)
+			{
+				weightArray[i] = weights.get(i);
+			}
+
+			return new TreePalette(trees.toArray(new WorldGenAbstractTree[trees.size()]), weightArray);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package biomesoplenty.api.biome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import net.minecraft.world.gen.feature.WorldGenerator;
+
+/**
+ * A map of weighted generators with the running total of their weights worked out ahead of time, so
+ * that picking one is a binary search rather than a pass over every weight. Generators are picked
+ * with the given random, so that the choice is the same for every world with the same seed.
+ */
+public class WeightedGeneratorTable<T extends WorldGenerator>
+{
+    private final List<T> generators = new ArrayList<T>();
+    private final double[] cumulativeWeights;
+    private final double totalWeight;
+    
+    public WeightedGeneratorTable(Map<T, ? extends Number> weightedGenerators)
+    {
+        this.cumulativeWeights = new double[weightedGenerators.size()];
+        
+        double weight = 0D;
+        
+        for (Map.Entry<T, ? extends Number> entry : weightedGenerators.entrySet())
+        {
+            weight += entry.getValue().doubleValue();
+            
+            this.cumulativeWeights[generators.size()] = weight;
+            this.generators.add(entry.getKey());
+        }
+        
+        this.totalWeight = weight;
+    }
+    
+    public boolean isEmpty()
+    {
+        return generators.isEmpty();
+    }
+    
+    public T getRandomGenerator(Random random)
+    {
+        double target = random.nextDouble() * totalWeight;
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        
+        //Finds the first generator whose running total reaches the random weight
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            
+            if (cumulativeWeights[middle] >= target) high = middle;
+            else low = middle + 1;
+        }
+        
+        return low < cumulativeWeights.length && cumulativeWeights[low] >= target ? generators.get(low) : null;
+    }
+}
@@ -1,7 +1,5 @@
 package biomesoplenty.common.biome.decoration;
 
-import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.FLOWERS;
-import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.GRASS;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.TREE;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
@@ -10,8 +8,8 @@ import net.minecraftforge.event.terraingen.DecorateBiomeEvent;
 import net.minecraftforge.event.terraingen.TerrainGen;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.biome.BOPBiomeDecorator;
-import biomesoplenty.common.world.generation.IBOPWorldGenerator;
-import biomesoplenty.common.world.generation.WorldGenFieldAssociation;
+import biomesoplenty.common.world.generation.DecorationProfiler;
+import biomesoplenty.common.world.generation.DecorationProfiler.Category;
 
 public class BOPEndBiomeDecorator extends BOPBiomeDecorator<EndBiomeFeatures>
 {
@@ -39,6 +37,7 @@ public class BOPEndBiomeDecorator extends BOPBiomeDecorator<EndBiomeFeatures>
         }
 
         boolean doGen = TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, TREE);
+        long startTime = DecorationProfiler.start();
         
         for (i = 0; doGen && i < perChunk; ++i)
         {
@@ -53,30 +52,10 @@ public class BOPEndBiomeDecorator extends BOPBiomeDecorator<EndBiomeFeatures>
                 worldgenabstracttree.func_150524_b(this.currentWorld, this.randomGenerator, x, y, z);
             }
         }
+        
+        DecorationProfiler.record(Category.STAGE, "trees", biome, startTime);
 
-    	for (String featureName : bopFeatures.getFeatureNames())
-    	{
-            if (featureName.equals("bopFlowersPerChunk"))
-            {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, FLOWERS)) continue;
-            }
-            else if (featureName.equals("bopGrassPerChunk"))
-            {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, GRASS)) continue;
-            }
-
-            WorldGenFieldAssociation.WorldFeature worldFeature = WorldGenFieldAssociation.getAssociatedFeature(featureName);
-
-            if (worldFeature != null)
-            {
-                IBOPWorldGenerator worldGenerator = worldFeature.getBOPWorldGenerator();
-
-                if (worldGenerator != null)
-                {
-                    worldGenerator.setupGeneration(currentWorld, randomGenerator, bopBiome, featureName, chunk_X, chunk_Z);
-                }
-            }
-    	}
+    	this.genBOPFeatures(bopBiome);
 
         MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(currentWorld, randomGenerator, chunk_X, chunk_Z));
     }
@@ -1,9 +1,7 @@
 package biomesoplenty.common.biome.nether;
 
-import java.util.Random;
-
 import net.minecraft.init.Blocks;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.common.biome.BOPNetherBiome;
 import biomesoplenty.common.world.features.WorldGenBOPDoubleFlora;
@@ -42,11 +40,7 @@ public class BiomeGenUndergarden extends BOPNetherBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         
         this.theBiomeDecorator.bopFeatures.weightedFlowerGen.put(new WorldGenBOPDoubleFlora(BOPCBlocks.flowers, BOPCBlocks.flowers, 13, 14), 6);
+
+        this.treePalette = TreePalette.of(new WorldGenMiniShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 1, 0, BOPCBlocks.overgrownNetherrack));
     }
-    
-	@Override
-	public WorldGenAbstractTree func_150567_a(Random random)
-	{
-		return new WorldGenMiniShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 1, 0, BOPCBlocks.overgrownNetherrack);
-	}
 }
@@ -5,10 +5,10 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
 import net.minecraft.world.gen.feature.WorldGenTallGrass;
 import net.minecraft.world.gen.feature.WorldGenerator;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -23,6 +23,8 @@ public class BiomeGenBambooForest extends BOPOverworldBiome implements IBiomeFog
 	public BiomeGenBambooForest(int id)
 	{
 		super(id);
+		this.topBlock = Blocks.dirt;
+		this.field_150604_aj = 2;
 
         this.setHeight(biomeHeight);
         this.setColor(10739795);
@@ -39,6 +41,10 @@ public class BiomeGenBambooForest extends BOPOverworldBiome implements IBiomeFog
 		this.theBiomeDecorator.bopFeatures.algaePerChunk = 2;
 
 		this.theBiomeDecorator.bopFeatures.generatePumpkins = false;
+
+		this.treePalette = TreePalette.builder()
+			.oneIn(3, new WorldGenShrub(0, 0))
+			.otherwise(new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 10, 12, false));
 	}
 
 	@Override
@@ -62,21 +68,6 @@ public class BiomeGenBambooForest extends BOPOverworldBiome implements IBiomeFog
 		}
 	}
 
-    @Override
-    public void genTerrainBlocks(World world, Random random, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
-        this.topBlock = Blocks.dirt;
-        this.field_150604_aj = 2;
-
-        this.genBiomeTerrain(world, random, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
-    }
-
-	@Override
-	public WorldGenAbstractTree func_150567_a(Random random)
-	{
-		return random.nextInt(3) == 0 ? new WorldGenShrub(0, 0) : new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 10, 12, false);
-	}
-
 	@Override
 	public WorldGenerator getRandomWorldGenForGrass(Random random)
 	{
@@ -6,7 +6,7 @@ import net.minecraft.block.Block;
 import net.minecraft.entity.monster.EntitySlime;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -64,14 +64,11 @@ public class BiomeGenBayou extends BOPOverworldBiome implements IBiomeFog
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
-	}
 
-	@Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-		return random.nextInt(8) == 0 ? new WorldGenBayou3(BOPCBlocks.logs3, 1) : 
-		(random.nextInt(2) == 0 ? new WorldGenBayou1(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0) : 
-		new WorldGenBayou2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0));
+		this.treePalette = TreePalette.builder()
+			.oneIn(8, new WorldGenBayou3(BOPCBlocks.logs3, 1))
+			.oneIn(2, new WorldGenBayou1(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0))
+			.otherwise(new WorldGenBayou2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0));
 	}
 
 	@Override
@@ -8,7 +8,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -62,6 +62,11 @@ public class BiomeGenBog extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 2), 1D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
+
+        this.treePalette = TreePalette.builder()
+            .oneIn(3, new WorldGenCypress(Blocks.log2, Blocks.leaves2, 1, 1, false, 8, 5, 0))
+            .oneIn(6, new WorldGenCypress(Blocks.log, Blocks.leaves, 2, 2, false, 4, 4, 1))
+            .otherwise(new WorldGenBogBush());
     }
 
 	@Override
@@ -85,12 +90,6 @@ public class BiomeGenBog extends BOPOverworldBiome
         }
 	}
 
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return random.nextInt(3) == 0 ? new WorldGenCypress(Blocks.log2, Blocks.leaves2, 1, 1, false, 8, 5, 0) : (random.nextInt(6) == 0 ? new WorldGenCypress(Blocks.log, Blocks.leaves, 2, 2, false, 4, 4, 1) : new WorldGenBogBush());
-    }
-
     @Override
     public int getBiomeGrassColor(int p_150558_1_, int p_150558_2_, int p_150558_3_)
     {
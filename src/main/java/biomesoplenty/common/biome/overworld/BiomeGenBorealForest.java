@@ -8,8 +8,8 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -51,13 +51,14 @@ public class BiomeGenBorealForest extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 2), 2D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
-	}
 
-	@Override
-	public WorldGenAbstractTree func_150567_a(Random random)
-	{
-		return random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3) : (random.nextInt(4) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 8, 2, false) : (random.nextInt(5) == 0 ? new WorldGenShrub(0,0) : (random.nextInt(3) == 0 ? new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false) : 
-		(random.nextInt(3) == 0 ? worldGeneratorTrees : new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 13, 9, 2, 4)))));
+		this.treePalette = TreePalette.builder()
+			.oneIn(15, new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3))
+			.oneIn(4, new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 8, 2, false))
+			.oneIn(5, new WorldGenShrub(0,0))
+			.oneIn(3, new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false))
+			.oneIn(3, this.worldGeneratorTrees)
+			.otherwise(new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 13, 9, 2, 4));
 	}
 	
 	@Override
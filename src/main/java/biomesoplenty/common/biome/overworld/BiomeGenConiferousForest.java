@@ -8,7 +8,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -25,6 +25,9 @@ public class BiomeGenConiferousForest extends BOPOverworldBiome
 	public BiomeGenConiferousForest(int id)
 	{
 		super(id);
+		this.topBlock = BOPCBlocks.newBopGrass;
+		this.field_150604_aj = 0;
+		this.fillerBlock = BOPCBlocks.newBopDirt;
 		
         this.setHeight(biomeHeight);
         this.setColor(5410656);
@@ -64,14 +67,11 @@ public class BiomeGenConiferousForest extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 2), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPDoubleFlora(3, 64), 0.5D);
-	}
 
-	@Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-		return random.nextInt(6) == 0 ? new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 10, 10, 5, 4) :
-		(random.nextInt(3) == 0 ? new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 20, 15, 4, 4) : 
-		new WorldGenBOPTaiga3(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 35, 10, 0, 4));
+		this.treePalette = TreePalette.builder()
+			.oneIn(6, new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 10, 10, 5, 4))
+			.oneIn(3, new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 20, 15, 4, 4))
+			.otherwise(new WorldGenBOPTaiga3(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 35, 10, 0, 4));
 	}
 
 	@Override
@@ -96,12 +96,4 @@ public class BiomeGenConiferousForest extends BOPOverworldBiome
 	}
 	
 	@Override
-    public void genTerrainBlocks(World world, Random random, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
-        this.topBlock = BOPCBlocks.newBopGrass;
-        this.field_150604_aj = 0;
-        this.fillerBlock = BOPCBlocks.newBopDirt;
-
-        this.genBiomeTerrain(world, random, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
-    }
 }
@@ -5,7 +5,7 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -22,6 +22,9 @@ public class BiomeGenDeadSwamp extends BOPOverworldBiome implements IBiomeFog
 	public BiomeGenDeadSwamp(int id)
 	{
 		super(id);
+		this.topBlock = BOPCBlocks.newBopGrass;
+		this.field_150604_aj = 0;
+		this.fillerBlock = BOPCBlocks.newBopDirt;
 		
         this.setHeight(biomeHeight);
         this.setColor(9154376);
@@ -52,13 +55,9 @@ public class BiomeGenDeadSwamp extends BOPOverworldBiome implements IBiomeFog
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPDoubleFlora(2), 0.25D);
-	}
 
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return new WorldGenDeadTree();
-    }
+		this.treePalette = TreePalette.of(new WorldGenDeadTree());
+	}
 	
     @Override
     public void decorate(World world, Random random, int chunkX, int chunkZ)
@@ -80,16 +79,6 @@ public class BiomeGenDeadSwamp extends BOPOverworldBiome implements IBiomeFog
             }
         }
     }
-    
-    @Override
-    public void genTerrainBlocks(World world, Random random, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
-        this.topBlock = BOPCBlocks.newBopGrass;
-        this.field_150604_aj = 0;
-        this.fillerBlock = BOPCBlocks.newBopDirt;
-
-        this.genBiomeTerrain(world, random, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
-    }
 
 	@Override
     public int getBiomeGrassColor(int p_150558_1_, int p_150558_2_, int p_150558_3_)
@@ -5,7 +5,8 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.SurfaceBlocks;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -15,6 +16,10 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPShrub;
 
 public class BiomeGenDenseForest extends BOPOverworldBiome
 {
+    /** Coarse dirt on steep ground, grass elsewhere */
+    private final SurfaceBlocks steepSurface = new SurfaceBlocks(Blocks.dirt, 1, Blocks.dirt);
+    private final SurfaceBlocks grassSurface = new SurfaceBlocks(Blocks.grass, 0, Blocks.dirt);
+
     private static final Height biomeHeight = new Height(0.075F, 0.05F);
     
     public BiomeGenDenseForest(int id)
@@ -41,12 +46,10 @@ public class BiomeGenDenseForest extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 2), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
-    }
 
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return random.nextInt(2) == 0 ? new WorldGenBOPHugeTree(Blocks.log, Blocks.leaves, 0, 0) : new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass);
+        this.treePalette = TreePalette.builder()
+            .oneIn(2, new WorldGenBOPHugeTree(Blocks.log, Blocks.leaves, 0, 0))
+            .otherwise(new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass));
     }
 
     @Override
@@ -69,22 +72,14 @@ public class BiomeGenDenseForest extends BOPOverworldBiome
 			}
 		}
 	}
-    
-    public void genTerrainBlocks(World p_150573_1_, Random p_150573_2_, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
+
+    @Override
+    protected SurfaceBlocks getSurfaceBlocks(double noise)
     {
+        if (noise > 1.75D) return steepSurface;
+        else if (noise > -0.95D) return grassSurface;
 
-        if (p_150573_7_ > 1.75D)
-        {
-            this.topBlock = Blocks.dirt;
-            this.field_150604_aj = 1;
-        }
-        else if (p_150573_7_ > -0.95D)
-        {
-            this.topBlock = Blocks.grass;
-            this.field_150604_aj = 0;
-        }
-
-        this.genBiomeTerrain(p_150573_1_, p_150573_2_, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
+        return null;
     }
     
     @Override
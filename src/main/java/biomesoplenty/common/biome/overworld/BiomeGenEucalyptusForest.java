@@ -5,7 +5,7 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -44,6 +44,10 @@ public class BiomeGenEucalyptusForest extends BOPOverworldBiome implements IBiom
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 2), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPDoubleFlora(2), 0.25D);
+
+		this.treePalette = TreePalette.builder()
+			.oneIn(5, new WorldGenBulbTree(Blocks.log, Blocks.leaves, 3, 3, false, 15, 25, true))
+			.otherwise(new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass));
 	}
 
 	@Override
@@ -76,12 +80,6 @@ public class BiomeGenEucalyptusForest extends BOPOverworldBiome implements IBiom
 		}
 	}
 
-	 @Override
-	 public WorldGenAbstractTree func_150567_a(Random random)
-	 {
-		 return random.nextInt(5) == 0 ? new WorldGenBulbTree(Blocks.log, Blocks.leaves, 3, 3, false, 15, 25, true) : new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass);
-	 }
-
 	 @Override
 	 public int getBiomeGrassColor(int x, int y, int z)
 	 {
@@ -6,8 +6,8 @@ import net.minecraft.block.Block;
 import net.minecraft.entity.passive.EntityMooshroom;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -67,6 +67,10 @@ public class BiomeGenFungiForest extends BOPOverworldBiome implements IBiomeFog
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 2), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPDoubleFlora(2), 0.25D);
+
+		this.treePalette = TreePalette.builder()
+			.oneIn(2, new WorldGenBOPJungle(false, 5, 20, 0, 0))
+			.otherwise(new WorldGenShrub(0, 0));
 	}
 
 	@Override
@@ -99,12 +103,6 @@ public class BiomeGenFungiForest extends BOPOverworldBiome implements IBiomeFog
 		}
 	}
 
-	 @Override
-	 public WorldGenAbstractTree func_150567_a(Random random)
-	 {
-		 return random.nextInt(2) == 0 ? new WorldGenBOPJungle(false, 5, 20, 0, 0) : new WorldGenShrub(0, 0);
-	 }
-
 	 @Override
 	 public int getBiomeGrassColor(int x, int y, int z)
 	 {
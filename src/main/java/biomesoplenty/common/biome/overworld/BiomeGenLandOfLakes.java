@@ -8,8 +8,8 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenTaiga2;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -55,13 +55,11 @@ public class BiomeGenLandOfLakes extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
-	}
-	
-	@Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-		return random.nextInt(3) == 0 ? new WorldGenTaiga2(false) : (random.nextInt(6) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2, false, 5, 3, false) : 
-			new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 5, 3, false));
+
+		this.treePalette = TreePalette.builder()
+			.oneIn(3, new WorldGenTaiga2(false))
+			.oneIn(6, new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2, false, 5, 3, false))
+			.otherwise(new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 5, 3, false));
 	}
 
 	@Override
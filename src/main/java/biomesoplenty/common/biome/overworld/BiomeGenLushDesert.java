@@ -8,8 +8,9 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
+import biomesoplenty.api.biome.SurfaceBlocks;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -21,6 +22,9 @@ import biomesoplenty.common.world.features.trees.WorldGenDeadTree;
 
 public class BiomeGenLushDesert extends BOPOverworldBiome
 {
+    private final SurfaceBlocks grassSurface = new SurfaceBlocks(Blocks.grass, 0, Blocks.dirt);
+    private final SurfaceBlocks claySurface = new SurfaceBlocks(Blocks.hardened_clay, 0, Blocks.hardened_clay);
+
     private static final Height biomeHeight = new Height(0.2F, 0.5F);
     
     public BiomeGenLushDesert(int id)
@@ -62,14 +66,12 @@ public class BiomeGenLushDesert extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.plants, 1), 1D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
-    }
 
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return random.nextInt(4) == 0 ? new WorldGenCypress(Blocks.log2, Blocks.leaves2, 0, 0, false, 7, 10, 2) : 
-        (random.nextInt(18) == 0 ? new WorldGenDeadTree() : 
-        (random.nextInt(2) == 0 ? worldGeneratorTrees : new WorldGenShrub(0,0)));
+        this.treePalette = TreePalette.builder()
+            .oneIn(4, new WorldGenCypress(Blocks.log2, Blocks.leaves2, 0, 0, false, 7, 10, 2))
+            .oneIn(18, new WorldGenDeadTree())
+            .oneIn(2, this.worldGeneratorTrees)
+            .otherwise(new WorldGenShrub(0,0));
     }
 
     @Override
@@ -106,23 +108,13 @@ public class BiomeGenLushDesert extends BOPOverworldBiome
             }
         }
     }
-    
-    public void genTerrainBlocks(World p_150573_1_, Random p_150573_2_, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
 
-        if (p_150573_7_ > 1.75D)
-        {
-        	this.topBlock = Blocks.grass;
-            this.fillerBlock = Blocks.dirt;
-            this.field_150604_aj = 0;
-        }
-        else if (p_150573_7_ > -0.5D)
-        {
-            this.topBlock = Blocks.hardened_clay;
-            this.fillerBlock = Blocks.hardened_clay;
-            this.field_150604_aj = 0;
-        }
+    @Override
+    protected SurfaceBlocks getSurfaceBlocks(double noise)
+    {
+        if (noise > 1.75D) return grassSurface;
+        else if (noise > -0.5D) return claySurface;
 
-        this.genBiomeTerrain(p_150573_1_, p_150573_2_, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
+        return null;
     }
 }
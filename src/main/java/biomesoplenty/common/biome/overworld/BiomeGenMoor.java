@@ -20,6 +20,9 @@ public class BiomeGenMoor extends BOPOverworldBiome
 	public BiomeGenMoor(int id)
 	{
 		super(id);
+		this.topBlock = BOPCBlocks.newBopGrass;
+		this.field_150604_aj = 0;
+		this.fillerBlock = BOPCBlocks.newBopDirt;
 		
         this.setHeight(biomeHeight);
         this.setColor(6394725);
@@ -77,16 +80,6 @@ public class BiomeGenMoor extends BOPOverworldBiome
         }
 	}
 	
-	@Override
-    public void genTerrainBlocks(World world, Random random, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
-        this.topBlock = BOPCBlocks.newBopGrass;
-        this.field_150604_aj = 0;
-        this.fillerBlock = BOPCBlocks.newBopDirt;
-
-        this.genBiomeTerrain(world, random, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
-    }
-
 	@Override
     public int getBiomeGrassColor(int p_150558_1_, int p_150558_2_, int p_150558_3_)
     {
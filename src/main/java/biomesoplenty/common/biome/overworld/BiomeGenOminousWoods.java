@@ -8,8 +8,8 @@ import net.minecraft.entity.monster.EntityEnderman;
 import net.minecraft.entity.passive.EntityBat;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenTallGrass;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -27,6 +27,9 @@ public class BiomeGenOminousWoods extends BOPOverworldBiome implements IBiomeFog
 	public BiomeGenOminousWoods(int id)
 	{
 		super(id);
+		this.topBlock = BOPCBlocks.newBopGrass;
+		this.field_150604_aj = 0;
+		this.fillerBlock = BOPCBlocks.newBopDirt;
 
         this.setHeight(biomeHeight);
         this.setColor(4145489);
@@ -65,12 +68,11 @@ public class BiomeGenOminousWoods extends BOPOverworldBiome implements IBiomeFog
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenTallGrass(Blocks.tallgrass, 1), 1D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenTallGrass(BOPCBlocks.foliage, 11), 0.5D);
-	}
 
-	@Override
-	public WorldGenAbstractTree func_150567_a(Random random)
-	{
-		return random.nextInt(2) == 0 ? new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, false, 14, 6, 0, -1) : (random.nextInt(6) == 0 ? new WorldGenDeadTree() : new WorldGenBOPSwampTree(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, 5, 4, BOPCBlocks.treeMoss, -1));
+		this.treePalette = TreePalette.builder()
+			.oneIn(2, new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, false, 14, 6, 0, -1))
+			.oneIn(6, new WorldGenDeadTree())
+			.otherwise(new WorldGenBOPSwampTree(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, 5, 4, BOPCBlocks.treeMoss, -1));
 	}
 	
 	@Override
@@ -94,16 +96,6 @@ public class BiomeGenOminousWoods extends BOPOverworldBiome implements IBiomeFog
         }
 	}
 	
-	@Override
-    public void genTerrainBlocks(World world, Random random, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
-        this.topBlock = BOPCBlocks.newBopGrass;
-        this.field_150604_aj = 0;
-        this.fillerBlock = BOPCBlocks.newBopDirt;
-
-        this.genBiomeTerrain(world, random, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
-    }
-
 	@Override
 	public int getBiomeGrassColor(int x, int y, int z)
 	{
@@ -122,7 +114,6 @@ public class BiomeGenOminousWoods extends BOPOverworldBiome implements IBiomeFog
 		if (BOPConfigurationMisc.skyColors) return 3420989;
 		else return super.getSkyColorByTemp(par1);
 	}
-	
 
 	@Override
 	public int getFogColour(int x, int y, int z)
@@ -6,7 +6,7 @@ import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -39,15 +39,12 @@ public class BiomeGenOutback extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.bushesPerChunk = 5;
         this.theBiomeDecorator.bopFeatures.redSandSplatterPerChunk = 4;
         this.theBiomeDecorator.bopFeatures.generatePumpkins = false;
+
+		this.treePalette = TreePalette.builder()
+			.oneIn(3, new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand))
+			.otherwise(new WorldGenMiniShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand));
 	}
 	
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return random.nextInt(3) == 0 ? new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand) : 
-        new WorldGenMiniShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand);
-    }
-	
     @Override
     public void decorate(World world, Random random, int chunkX, int chunkZ)
     {
@@ -6,9 +6,9 @@ import net.minecraft.block.Block;
 import net.minecraft.entity.passive.EntityOcelot;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenTallGrass;
 import net.minecraft.world.gen.feature.WorldGenerator;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -56,12 +56,11 @@ public class BiomeGenRainforest extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedFlowerGen.put(new WorldGenBOPFlora(Blocks.red_flower, 1), 6);
         this.theBiomeDecorator.bopFeatures.weightedFlowerGen.put(new WorldGenBOPDoubleFlora(4, 5), 4);
         this.theBiomeDecorator.bopFeatures.weightedFlowerGen.put(new WorldGenBOPDoubleFlora(1, 5), 6);
-	}
-	
-	@Override
-	public WorldGenAbstractTree func_150567_a(Random random)
-	{
-		return random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2) : (random.nextInt(5) == 0 ? worldGeneratorBigTree : new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3));
+
+		this.treePalette = TreePalette.builder()
+			.oneIn(15, new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2))
+			.oneIn(5, this.worldGeneratorBigTree)
+			.otherwise(new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3));
 	}
 
 	@Override
@@ -91,8 +90,6 @@ public class BiomeGenRainforest extends BOPOverworldBiome
 		}
 	}
 
-
-
 	@Override
 	public int getBiomeGrassColor(int x, int y, int z)
 	{
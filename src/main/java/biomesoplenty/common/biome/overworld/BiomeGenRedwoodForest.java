@@ -5,8 +5,9 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
+import biomesoplenty.api.biome.SurfaceBlocks;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -19,6 +20,10 @@ import biomesoplenty.common.world.features.trees.WorldGenRedwoodTree3;
 
 public class BiomeGenRedwoodForest extends BOPOverworldBiome
 {
+    /** Podzol on flatter ground, grass elsewhere */
+    private final SurfaceBlocks grassSurface = new SurfaceBlocks(Blocks.grass, 0, Blocks.dirt);
+    private final SurfaceBlocks podzolSurface = new SurfaceBlocks(Blocks.dirt, 2, Blocks.dirt);
+
     private static final Height biomeHeight = new Height(0.1F, 0.05F);
     
     public BiomeGenRedwoodForest(int id)
@@ -50,12 +55,12 @@ public class BiomeGenRedwoodForest extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 2), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
-    }
 
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return random.nextInt(4) == 0 ? new WorldGenRedwoodTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 40, 10) : (random.nextInt(15) == 0 ? new WorldGenShrub(0,0) : (random.nextInt(2) == 0 ? new WorldGenRedwoodTree2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 30, 15) : new WorldGenRedwoodTree3(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 20, 10)));
+        this.treePalette = TreePalette.builder()
+            .oneIn(4, new WorldGenRedwoodTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 40, 10))
+            .oneIn(15, new WorldGenShrub(0,0))
+            .oneIn(2, new WorldGenRedwoodTree2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 30, 15))
+            .otherwise(new WorldGenRedwoodTree3(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 20, 10));
     }
 
     @Override
@@ -79,20 +84,12 @@ public class BiomeGenRedwoodForest extends BOPOverworldBiome
 		}
 	}
     
-    public void genTerrainBlocks(World p_150573_1_, Random p_150573_2_, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
+    @Override
+    protected SurfaceBlocks getSurfaceBlocks(double noise)
     {
+        if (noise > 1.75D) return grassSurface;
+        else if (noise > -0.95D) return podzolSurface;
 
-        if (p_150573_7_ > 1.75D)
-        {
-            this.topBlock = Blocks.grass;
-            this.field_150604_aj = 0;
-        }
-        else if (p_150573_7_ > -0.95D)
-        {
-            this.topBlock = Blocks.dirt;
-            this.field_150604_aj = 2;
-        }
-
-        this.genBiomeTerrain(p_150573_1_, p_150573_2_, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
+        return null;
     }
 }
@@ -6,8 +6,9 @@ import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
+import biomesoplenty.api.biome.SurfaceBlocks;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -18,6 +19,9 @@ import biomesoplenty.common.world.features.trees.WorldGenPineTree;
 
 public class BiomeGenShield extends BOPOverworldBiome
 {
+    private final SurfaceBlocks stoneSurface = new SurfaceBlocks(Blocks.stone, 0, Blocks.stone);
+    private final SurfaceBlocks grassSurface = new SurfaceBlocks(Blocks.grass, 0, Blocks.dirt);
+
     private static final Height biomeHeight = new Height(0.0F, 0.2F);
 
 	public BiomeGenShield(int id)
@@ -49,14 +53,11 @@ public class BiomeGenShield extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 10), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
-	}
 
-	@Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-		return random.nextInt(2) == 0 ? new WorldGenShrub(0, 0) : 
-		(random.nextInt(4) == 0 ? new WorldGenPineTree() : 
-		new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4));
+		this.treePalette = TreePalette.builder()
+			.oneIn(2, new WorldGenShrub(0, 0))
+			.oneIn(4, new WorldGenPineTree())
+			.otherwise(new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4));
 	}
 
 	@Override
@@ -89,23 +90,13 @@ public class BiomeGenShield extends BOPOverworldBiome
 		}
 	}
 	
-	public void genTerrainBlocks(World p_150573_1_, Random p_150573_2_, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
+    @Override
+    protected SurfaceBlocks getSurfaceBlocks(double noise)
     {
+        if (noise > 1.75D) return stoneSurface;
+        else if (noise > -0.95D) return grassSurface;
 
-        if (p_150573_7_ > 1.75D)
-        {
-            this.topBlock = Blocks.stone;
-            this.fillerBlock = Blocks.stone;
-            this.field_150604_aj = 0;
-        }
-        else if (p_150573_7_ > -0.95D)
-        {
-            this.topBlock = Blocks.grass;
-            this.fillerBlock = Blocks.dirt;
-            this.field_150604_aj = 0;
-        }
-
-        this.genBiomeTerrain(p_150573_1_, p_150573_2_, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
+        return null;
     }
 
 	@Override
@@ -5,7 +5,7 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -22,6 +22,9 @@ public class BiomeGenSludgepit extends BOPOverworldBiome implements IBiomeFog
     public BiomeGenSludgepit(int id)
     {
         super(id);
+        this.topBlock = BOPCBlocks.newBopGrass;
+        this.field_150604_aj = 0;
+        this.fillerBlock = BOPCBlocks.newBopDirt;
         
         this.setHeight(biomeHeight);
         this.setColor(7627817);
@@ -54,13 +57,10 @@ public class BiomeGenSludgepit extends BOPOverworldBiome implements IBiomeFog
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.foliage, 11), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 0), 0.5D);
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(Blocks.tallgrass, 1), 1D);
-    }
-    
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return random.nextInt(3) == 0 ? new WorldGenBogTree2(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 4) : 
-        new WorldGenBogTree1(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 5);
+
+        this.treePalette = TreePalette.builder()
+            .oneIn(3, new WorldGenBogTree2(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 4))
+            .otherwise(new WorldGenBogTree1(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 5));
     }
 
     @Override
@@ -83,16 +83,6 @@ public class BiomeGenSludgepit extends BOPOverworldBiome implements IBiomeFog
             }
         }
     }
-    
-    @Override
-    public void genTerrainBlocks(World world, Random random, Block[] p_150573_3_, byte[] p_150573_4_, int p_150573_5_, int p_150573_6_, double p_150573_7_)
-    {
-        this.topBlock = BOPCBlocks.newBopGrass;
-        this.field_150604_aj = 0;
-        this.fillerBlock = BOPCBlocks.newBopDirt;
-
-        this.genBiomeTerrain(world, random, p_150573_3_, p_150573_4_, p_150573_5_, p_150573_6_, p_150573_7_);
-    }
 
 	@Override
     public int getBiomeGrassColor(int x, int y, int z)
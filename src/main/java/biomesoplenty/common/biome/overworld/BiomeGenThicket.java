@@ -6,10 +6,10 @@ import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase.Height;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraft.world.gen.feature.WorldGenShrub;
 import net.minecraft.world.gen.feature.WorldGenTallGrass;
 import net.minecraft.world.gen.feature.WorldGenerator;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.common.biome.BOPOverworldBiome;
@@ -38,12 +38,10 @@ public class BiomeGenThicket extends BOPOverworldBiome
         this.theBiomeDecorator.bopFeatures.deadLeafPilesPerChunk = 10;
 
         this.theBiomeDecorator.bopFeatures.weightedFlowerGen.put(new WorldGenBOPFlora(Blocks.red_flower, 2), 4);
-	}
 
-	@Override
-	public WorldGenAbstractTree func_150567_a(Random random)
-	{
-		return random.nextInt(5) == 0 ? worldGeneratorTrees : new WorldGenShrub(0, 0);
+		this.treePalette = TreePalette.builder()
+			.oneIn(5, this.worldGeneratorTrees)
+			.otherwise(new WorldGenShrub(0, 0));
 	}
 
 	@Override
@@ -5,7 +5,7 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.api.biome.TreePalette;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.utils.BiomeUtils;
 import biomesoplenty.client.fog.IBiomeFog;
@@ -48,12 +48,8 @@ public class BiomeGenWasteland extends BOPOverworldBiome implements IBiomeFog
         this.theBiomeDecorator.bopFeatures.bopGrassPerChunk = 20;
 
         this.theBiomeDecorator.bopFeatures.weightedGrassGen.put(new WorldGenBOPTallGrass(BOPCBlocks.plants, 0), 1D);
-    }
 
-    @Override
-    public WorldGenAbstractTree func_150567_a(Random random)
-    {
-        return new WorldGenDeadTree();
+        this.treePalette = TreePalette.of(new WorldGenDeadTree());
     }
     
     @Override
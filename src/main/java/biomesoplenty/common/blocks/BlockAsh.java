@@ -6,14 +6,13 @@ import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.ContactEffects;
 
 public class BlockAsh extends Block
 {
@@ -67,15 +66,7 @@ public class BlockAsh extends Block
 	@Override
 	public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
 	{
-		if (entity instanceof EntityPlayer)
-		{
-			InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
-
-			if (inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == BOPCItems.wadingBoots)
-			{
-				return;
-			}
-		}
+		if (ContactEffects.isWearingWadingBoots(entity)) return;
 
 		entity.motionX *= 0.4D;
 		entity.motionZ *= 0.4D;
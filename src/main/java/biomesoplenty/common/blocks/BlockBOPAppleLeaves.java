@@ -300,16 +300,29 @@ public class BlockBOPAppleLeaves extends BlockLeavesBase implements IShearable
 		if (world.isRemote)
 			return;
 
+		for (ItemStack stack : this.getDrops(world, x, y, z, metadata, fortune))
+		{
+			this.dropBlockAsItem(world, x, y, z, stack);
+		}
+	}
+
+	@Override
+	public ArrayList<ItemStack> getDrops(World world, int x, int y, int z, int metadata, int fortune)
+	{
+		ArrayList<ItemStack> ret = new ArrayList<ItemStack>();
+
 		if (world.rand.nextInt(20) == 0)
 		{
 			Item item = this.getItemDropped(metadata, world.rand, fortune);
-			this.dropBlockAsItem(world, x, y, z, new ItemStack(item, 1, this.damageDropped(metadata)));
+			ret.add(new ItemStack(item, 1, this.damageDropped(metadata)));
 		}
 
-		if ((metadata & 3) == 3) this.dropBlockAsItem(world, x, y, z, new ItemStack(Items.apple, 1, 0));
-		else if ((metadata & 3) == 2 && world.rand.nextInt(16) == 0) this.dropBlockAsItem(world, x, y, z, new ItemStack(Items.apple, 1, 0));
-		else if ((metadata & 3) == 1 && world.rand.nextInt(48) == 0) this.dropBlockAsItem(world, x, y, z, new ItemStack(Items.apple, 1, 0));
-		else if ((metadata & 3) == 0 && world.rand.nextInt(80) == 0) this.dropBlockAsItem(world, x, y, z, new ItemStack(Items.apple, 1, 0));
+		if ((metadata & 3) == 3) ret.add(new ItemStack(Items.apple, 1, 0));
+		else if ((metadata & 3) == 2 && world.rand.nextInt(16) == 0) ret.add(new ItemStack(Items.apple, 1, 0));
+		else if ((metadata & 3) == 1 && world.rand.nextInt(48) == 0) ret.add(new ItemStack(Items.apple, 1, 0));
+		else if ((metadata & 3) == 0 && world.rand.nextInt(80) == 0) ret.add(new ItemStack(Items.apple, 1, 0));
+
+		return ret;
 	}
 
 	@Override
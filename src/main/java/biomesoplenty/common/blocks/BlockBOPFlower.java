@@ -10,7 +10,6 @@ import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
@@ -25,6 +24,7 @@ import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.client.render.RenderUtils;
 import biomesoplenty.common.blocks.templates.BOPBlockWorldDecor;
+import biomesoplenty.common.helpers.ContactEffects;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -138,18 +138,9 @@ public class BlockBOPFlower extends BOPBlockWorldDecor
 
 		if (!world.isRemote && meta == 2 && entity instanceof EntityLivingBase) 
 		{
-			if (entity instanceof EntityPlayer)
+			if (!(entity instanceof EntityPlayer && ContactEffects.isWearingLeather((EntityPlayer)entity)))
 			{
-				InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
-
-				if (!((inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == Items.leather_boots) && (inventory.armorInventory[1] != null && inventory.armorInventory[1].getItem() == Items.leather_leggings)))
-				{
-					((EntityLivingBase)entity).addPotionEffect(new PotionEffect(Potion.wither.id, 200));
-				}
-			}
-			else
-			{
-				((EntityLivingBase)entity).addPotionEffect(new PotionEffect(Potion.wither.id, 200));
+				ContactEffects.applyPotionEffect((EntityLivingBase)entity, Potion.wither, 200);
 			}
 		}
 	}
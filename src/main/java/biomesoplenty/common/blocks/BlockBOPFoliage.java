@@ -18,7 +18,6 @@ import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Potion;
-import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.ColorizerGrass;
 import net.minecraft.world.IBlockAccess;
@@ -33,6 +32,7 @@ import biomesoplenty.api.content.BOPCItems;
 import biomesoplenty.client.render.RenderUtils;
 import biomesoplenty.common.blocks.templates.BOPBlockWorldDecor;
 import biomesoplenty.common.configuration.BOPConfigurationMisc;
+import biomesoplenty.common.helpers.ContactEffects;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -231,12 +231,12 @@ public class BlockBOPFoliage extends BOPBlockWorldDecor implements IShearable
 
 					if ((inventory.armorInventory[0] == null || inventory.armorInventory[1] == null) && BOPConfigurationMisc.poisonIvyEffects)
 					{
-						((EntityLivingBase)entity).addPotionEffect(new PotionEffect(Potion.poison.id, 100));
+						ContactEffects.applyPotionEffect((EntityLivingBase)entity, Potion.poison, 100);
 					}
 				}
 				else
 				{
-					((EntityLivingBase)entity).addPotionEffect(new PotionEffect(Potion.poison.id, 100));
+					ContactEffects.applyPotionEffect((EntityLivingBase)entity, Potion.poison, 100);
 				}
 			}
 		}
@@ -358,16 +358,29 @@ public class BlockBOPLeaves extends BlockLeavesBase implements IShearable
 		if (world.isRemote)
 			return;
 
+		for (ItemStack stack : this.getDrops(world, x, y, z, metadata, fortune))
+		{
+			this.dropBlockAsItem(world, x, y, z, stack);
+		}
+	}
+
+	@Override
+	public ArrayList<ItemStack> getDrops(World world, int x, int y, int z, int metadata, int fortune)
+	{
+		ArrayList<ItemStack> ret = new ArrayList<ItemStack>();
+
 		if (world.rand.nextInt(20) == 0)
 		{
 			Item item = this.getItemDropped(metadata, world.rand, fortune);
-			this.dropBlockAsItem(world, x, y, z, new ItemStack(item, 1, this.damageDropped(metadata)));
+			ret.add(new ItemStack(item, 1, this.damageDropped(metadata)));
 		}
 
 		if (((metadata & 3) == 0 || (metadata & 3) == 4 || (metadata & 3) == 7) && (world.rand.nextInt(50) == 0)) 
 		{
-			this.dropBlockAsItem(world, x, y, z, new ItemStack(BOPCItems.food, 1, 8));
+			ret.add(new ItemStack(BOPCItems.food, 1, 8));
 		}
+
+		return ret;
 	}
 
 	@Override
@@ -299,16 +299,29 @@ public class BlockBOPPersimmonLeaves extends BlockLeavesBase implements IShearab
 		if (world.isRemote)
 			return;
 
+		for (ItemStack stack : this.getDrops(world, x, y, z, metadata, fortune))
+		{
+			this.dropBlockAsItem(world, x, y, z, stack);
+		}
+	}
+
+	@Override
+	public ArrayList<ItemStack> getDrops(World world, int x, int y, int z, int metadata, int fortune)
+	{
+		ArrayList<ItemStack> ret = new ArrayList<ItemStack>();
+
 		if (world.rand.nextInt(20) == 0)
 		{
 			Item item = this.getItemDropped(metadata, world.rand, fortune);
-			this.dropBlockAsItem(world, x, y, z, new ItemStack(item, 1, this.damageDropped(metadata)));
+			ret.add(new ItemStack(item, 1, this.damageDropped(metadata)));
 		}
 
-		if ((metadata & 3) == 3) this.dropBlockAsItem(world, x, y, z, new ItemStack(BOPCItems.food, 1, 8));
-		else if ((metadata & 3) == 2 && world.rand.nextInt(8) == 0) this.dropBlockAsItem(world, x, y, z, new ItemStack(BOPCItems.food, 1, 8));
-		else if ((metadata & 3) == 1 && world.rand.nextInt(16) == 0) this.dropBlockAsItem(world, x, y, z, new ItemStack(BOPCItems.food, 1, 8));
-		else if ((metadata & 3) == 0 && world.rand.nextInt(32) == 0) this.dropBlockAsItem(world, x, y, z, new ItemStack(BOPCItems.food, 1, 8));
+		if ((metadata & 3) == 3) ret.add(new ItemStack(BOPCItems.food, 1, 8));
+		else if ((metadata & 3) == 2 && world.rand.nextInt(8) == 0) ret.add(new ItemStack(BOPCItems.food, 1, 8));
+		else if ((metadata & 3) == 1 && world.rand.nextInt(16) == 0) ret.add(new ItemStack(BOPCItems.food, 1, 8));
+		else if ((metadata & 3) == 0 && world.rand.nextInt(32) == 0) ret.add(new ItemStack(BOPCItems.food, 1, 8));
+
+		return ret;
 	}
 
 	@Override
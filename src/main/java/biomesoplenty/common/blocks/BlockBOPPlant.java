@@ -11,7 +11,6 @@ import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
@@ -30,6 +29,7 @@ import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.content.BOPCItems;
 import biomesoplenty.client.render.RenderUtils;
 import biomesoplenty.common.blocks.templates.BOPBlockWorldDecor;
+import biomesoplenty.common.helpers.ContactEffects;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -218,37 +218,9 @@ public class BlockBOPPlant extends BOPBlockWorldDecor implements IShearable
 	public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
 	{
 		int meta = world.getBlockMetadata(x, y, z);
-		if (meta == 5)
+		if (meta == 5 || meta == 12)
 		{
-			if (entity instanceof EntityPlayer)
-			{
-				InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
-
-				if (!((inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == Items.leather_boots) && (inventory.armorInventory[1] != null && inventory.armorInventory[1].getItem() == Items.leather_leggings)))
-				{
-					entity.attackEntityFrom(DamageSource.cactus, 1);
-				}
-			}
-			else
-			{
-				entity.attackEntityFrom(DamageSource.cactus, 1);
-			}
-		}
-		if (meta == 12)
-		{
-			if (entity instanceof EntityPlayer)
-			{
-				InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
-
-				if (!((inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == Items.leather_boots) && (inventory.armorInventory[1] != null && inventory.armorInventory[1].getItem() == Items.leather_leggings)))
-				{
-					entity.attackEntityFrom(DamageSource.cactus, 1);
-				}
-			}
-			else
-			{
-				entity.attackEntityFrom(DamageSource.cactus, 1);
-			}
+			ContactEffects.applyThorns(entity);
 		}
 	}
 	
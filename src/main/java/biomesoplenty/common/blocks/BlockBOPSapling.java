@@ -12,7 +12,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenerator;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.BOPBlockHelper;
@@ -23,6 +22,7 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
 import biomesoplenty.common.world.features.trees.WorldGenBulbTree;
 import biomesoplenty.common.world.features.trees.WorldGenMiniShrub;
 import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
 public class BlockBOPSapling extends BlockSapling
 {
@@ -30,6 +30,19 @@ public class BlockBOPSapling extends BlockSapling
 	private IIcon[] textures;
 	private static final int TYPES = 15;
 
+	/**
+	 * The number of blocks above the sapling which the shortest tree of each type replaces. Trees check their
+	 * trunk from the sapling up to one block above their height, so this is the minimum height plus one.
+	 * Big trees give up if their trunk is blocked within 5 blocks, and shrubs are left to check themselves.
+	 */
+	private static final int[] minimumClearances = new int[] {6, 6, 11, 6, 6, 6, 11, 0, 6, 6, 4, 6, 4, 0, 5, 6};
+
+	private static WorldGenAbstractTreeBOP[][] generators;
+
+	private static long growthAttempts;
+	private static long growthRejections;
+	private static long growthSuccesses;
+
 	public BlockBOPSapling()
 	{
 		this.setHardness(0.0F);
@@ -127,98 +140,83 @@ public class BlockBOPSapling extends BlockSapling
 	public void func_149878_d(World world, int x, int y, int z, Random random)
 	{
 		int meta = world.getBlockMetadata(x, y, z) & TYPES;
-		Object obj = null;
-		int rnd = random.nextInt(8);
-
-		if (obj == null)
-		{
-			switch (meta)
-			{
-			case 0: // Apple Tree
-				obj = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.appleLeaves, 0, 0, 0);
-				break;
-
-			case 1: // Autumn Tree
-				obj = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false);
-				break;
-
-			case 2: // Bamboo Tree
-				rnd = random.nextInt(8);
 
-				if (rnd == 0) {
-					obj = new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 10, 12, false);
-				} else {
-					obj = new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 11, 3, false);
-				}
-				break;
+		if (generators == null) createGenerators();
 
-			case 3: // Magic Tree
-				obj = new WorldGenOriginalTree(BOPCBlocks.logs2, BOPCBlocks.leaves1, 1, 2, false, 5, 3, false);
-				break;
+		WorldGenAbstractTreeBOP[] variants = generators[meta];
 
-			case 4: // Dark Tree
-				rnd = random.nextInt(8);
+		if (variants == null) return;
 
-				if (rnd == 0) obj = new WorldGenBOPSwampTree(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, 5, 4);
-				else obj = new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, false, 14, 6, 0, -1);
+		WorldGenAbstractTreeBOP generator = variants.length > 1 && random.nextInt(8) != 0 ? variants[1] : variants[0];
 
-				break;
+		growthAttempts++;
 
-			case 5: // Dead Tree
-				obj = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, false, 5, 3, false);
-				break;
-
-			case 6: // Fir Tree
-				obj = new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 10, 10, 5, 4);
-				break;
-
-				/*case 7: // Ethereal Tree
-				obj = new WorldGenPromisedTree(false);
-				break;*/
-
-			case 8: // Autumn Tree
-				obj = new WorldGenOriginalTree(Blocks.log2, BOPCBlocks.leaves2, 1, 3, false, 5, 3, false);
-				break;
-
-			case 9: // Origin Tree
-				obj = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 0, false, 5, 3, false);
-				break;
+		if (!this.hasRoomToGrow(world, x, y, z, meta, generator))
+		{
+			growthRejections++;
+			return;
+		}
 
-			case 10: // Pink Cherry Tree
-				obj = new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 1);
-				break;
+		world.setBlockToAir(x, y, z);
 
-			case 11: // Maple Tree
-				obj = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 2, false, 5, 3, false);
-				break;
+		if (generator.generate(world, random, x, y, z))
+		{
+			growthSuccesses++;
+		}
+		else
+		{
+			world.setBlock(x, y, z, this, meta, 2);
+		}
+	}
 
-			case 12: // White Cherry Tree
-				obj = new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 3);
-				break;
+	/**
+	 * A cheap check of the soil and trunk column which the smallest tree of each type would need. Saplings
+	 * on farms are ticked constantly, and most of them don't have room to grow, so this avoids running the
+	 * generator's own much larger checks when it is bound to fail.
+	 */
+	private boolean hasRoomToGrow(World world, int x, int y, int z, int meta, WorldGenAbstractTreeBOP generator)
+	{
+		int clearance = minimumClearances[meta];
 
-			case 13: // Hellbark
-				obj = new WorldGenMiniShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 1, 0, BOPCBlocks.overgrownNetherrack);
-				break;
+		//Shrubs search downwards for their soil, so their own checks are left to them
+		if (clearance == 0) return true;
 
-			case 14: // Jacaranda
-				obj = new WorldGenOriginalTree(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1);
-				break;
+		if (!world.getBlock(x, y - 1, z).canSustainPlant(world, x, y - 1, z, ForgeDirection.UP, (BlockSapling)Blocks.sapling)) return false;
 
-			case 15: // Persimmon
-				obj = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.persimmonLeaves, 0, 0, 1);
-				break;
-			}
-		}
+		return generator.hasRoomToGrow(world, x, y, z, clearance);
+	}
 
-		if (obj != null)
-		{
-			world.setBlockToAir(x, y, z);
+	/**
+	 * Generators are shared between every sapling, so none of them may keep state from one tree to the next.
+	 * They are created on first use as the sapling is registered before the leaves they use.
+	 */
+	private static void createGenerators()
+	{
+		WorldGenAbstractTreeBOP[][] trees = new WorldGenAbstractTreeBOP[saplings.length][];
+
+		trees[0] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log, BOPCBlocks.appleLeaves, 0, 0, 0) };
+		trees[1] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false) };
+		trees[2] = new WorldGenAbstractTreeBOP[] { new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 10, 12, false), new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 11, 3, false) };
+		trees[3] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(BOPCBlocks.logs2, BOPCBlocks.leaves1, 1, 2, false, 5, 3, false) };
+		trees[4] = new WorldGenAbstractTreeBOP[] { new WorldGenBOPSwampTree(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, 5, 4), new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, false, 14, 6, 0, -1) };
+		trees[5] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, false, 5, 3, false) };
+		trees[6] = new WorldGenAbstractTreeBOP[] { new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 10, 10, 5, 4) };
+		//7 is the ethereal sapling, which doesn't grow
+		trees[8] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log2, BOPCBlocks.leaves2, 1, 3, false, 5, 3, false) };
+		trees[9] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 0, false, 5, 3, false) };
+		trees[10] = new WorldGenAbstractTreeBOP[] { new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 1) };
+		trees[11] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 2, false, 5, 3, false) };
+		trees[12] = new WorldGenAbstractTreeBOP[] { new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 3) };
+		trees[13] = new WorldGenAbstractTreeBOP[] { new WorldGenMiniShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 1, 0, BOPCBlocks.overgrownNetherrack) };
+		trees[14] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1) };
+		trees[15] = new WorldGenAbstractTreeBOP[] { new WorldGenOriginalTree(Blocks.log, BOPCBlocks.persimmonLeaves, 0, 0, 1) };
+
+		generators = trees;
+	}
 
-			if (!((WorldGenerator)obj).generate(world, random, x, y, z)) 
-			{
-				world.setBlock(x, y, z, this, meta, 2);
-			}
-		}
+	public static String getGrowthStatistics()
+	{
+		return "Sapling growth: " + growthAttempts + " attempted, " + growthRejections + " rejected for lack of room, " + (growthAttempts - growthRejections - growthSuccesses) + " failed, " + growthSuccesses + " grown";
 	}
 
 	@Override
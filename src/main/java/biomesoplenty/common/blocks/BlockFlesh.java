@@ -6,13 +6,12 @@ import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.world.World;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.ContactEffects;
 
 public class BlockFlesh extends Block
 {
@@ -59,15 +58,7 @@ public class BlockFlesh extends Block
 	@Override
 	public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
 	{
-		if (entity instanceof EntityPlayer)
-		{
-			InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
-
-			if (inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == BOPCItems.wadingBoots)
-			{
-				return;
-			}
-		}
+		if (ContactEffects.isWearingWadingBoots(entity)) return;
 
 		entity.motionX *= 0.9D;
 		entity.motionZ *= 0.9D;
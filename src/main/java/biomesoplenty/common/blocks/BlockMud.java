@@ -8,14 +8,13 @@ import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.World;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.ContactEffects;
 import biomesoplenty.common.utils.ISubLocalization;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -51,15 +50,7 @@ public class BlockMud extends BOPBlock implements ISubLocalization
 	{
 		if (world.getBlockMetadata(x, y, z) == 0)
 		{
-			if (entity instanceof EntityPlayer)
-			{
-				InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
-
-				if (inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == BOPCItems.wadingBoots)
-				{
-					return;
-				}
-			}
+			if (ContactEffects.isWearingWadingBoots(entity)) return;
 
 			entity.motionX *= 0.1D;
 			entity.motionZ *= 0.1D;
@@ -0,0 +1,176 @@
+package biomesoplenty.common.commands;
+
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraftforge.common.DimensionManager;
+import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.blocks.BlockBOPSapling;
+import biomesoplenty.common.entities.effects.EntityEffectRegistry;
+import biomesoplenty.common.entities.effects.TrackedEntityEffect;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.BiomeMapRenderer;
+import biomesoplenty.common.world.WorldPregenerator;
+
+public class CommandBOP extends CommandBase
+{
+	@Override
+	public String getCommandName()
+	{
+		return "bop";
+	}
+
+	@Override
+	public String getCommandUsage(ICommandSender sender)
+	{
+		return "/bop <pregen <<dimension> <radius in chunks>|status|stop>|biomemap <seed> <size in blocks> [nether]|saplings|features|effects>";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel()
+	{
+		return 2;
+	}
+
+	@Override
+	public void processCommand(ICommandSender sender, String[] args)
+	{
+		if (args.length == 1 && args[0].equals("saplings"))
+		{
+			sender.addChatMessage(new ChatComponentText(BlockBOPSapling.getGrowthStatistics()));
+			return;
+		}
+
+		if (args.length == 1 && args[0].equals("features"))
+		{
+			this.processFeatures(sender);
+			return;
+		}
+
+		if (args.length == 1 && args[0].equals("effects"))
+		{
+			this.processEffects(sender);
+			return;
+		}
+
+		if (args.length < 2) throw new WrongUsageException(getCommandUsage(sender));
+
+		if (args[0].equals("pregen")) this.processPregen(sender, args);
+		else if (args[0].equals("biomemap")) this.processBiomeMap(sender, args);
+		else throw new WrongUsageException(getCommandUsage(sender));
+	}
+
+	private void processPregen(ICommandSender sender, String[] args)
+	{
+		WorldPregenerator pregenerator = WorldPregenerator.getCurrent();
+
+		if (args[1].equals("status"))
+		{
+			sender.addChatMessage(new ChatComponentText(pregenerator != null ? pregenerator.getStatus() : "No pregeneration is running"));
+		}
+		else if (args[1].equals("stop"))
+		{
+			if (pregenerator == null) throw new CommandException("No pregeneration is running");
+
+			pregenerator.stop();
+			sender.addChatMessage(new ChatComponentText("Stopped pregenerating dimension " + pregenerator.dimension));
+		}
+		else if (args.length == 3)
+		{
+			int dimension = parseInt(sender, args[1]);
+			int radius = parseIntBounded(sender, args[2], 1, 4096);
+
+			if (!DimensionManager.isDimensionRegistered(dimension)) throw new CommandException("Dimension " + dimension + " does not exist");
+
+			WorldServer world = DimensionManager.getWorld(dimension);
+
+			if (world == null)
+			{
+				DimensionManager.initDimension(dimension);
+				world = DimensionManager.getWorld(dimension);
+			}
+
+			pregenerator = WorldPregenerator.start(world, radius);
+			sender.addChatMessage(new ChatComponentText("Pregenerating " + pregenerator.totalChunks + " chunks around " + (pregenerator.centerX << 4) + ", " + (pregenerator.centerZ << 4) + " in dimension " + dimension));
+		}
+		else throw new WrongUsageException(getCommandUsage(sender));
+	}
+
+	private void processBiomeMap(ICommandSender sender, String[] args)
+	{
+		if (args.length < 3 || args.length > 4 || (args.length == 4 && !args[3].equals("nether"))) throw new WrongUsageException(getCommandUsage(sender));
+
+		long seed;
+
+		//Seeds are read the same way as on the world creation screen
+		try
+		{
+			seed = Long.parseLong(args[1]);
+		}
+		catch (NumberFormatException e)
+		{
+			seed = args[1].hashCode();
+		}
+
+		int size = parseIntBounded(sender, args[2], 256, 32768);
+		boolean nether = args.length == 4;
+		Runtime runtime = Runtime.getRuntime();
+		long freeMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+
+		//Leave the running server at least as much free memory as the map takes
+		if (BiomeMapRenderer.getRequiredMemory(size) * 2 > freeMemory) throw new CommandException("A " + size + " block biome map needs " + (BiomeMapRenderer.getRequiredMemory(size) >> 20) + " MB, more than half the free memory. Try a smaller size");
+
+		if (BiomeMapRenderer.start(sender, seed, size, nether) == null) throw new CommandException("A biome map is already being rendered");
+
+		sender.addChatMessage(new ChatComponentText("Rendering " + (nether ? "Nether " : "") + "biome map of seed " + seed));
+	}
+
+	/**
+	 * Logs the features each BoP biome generates, as they are too long to send to chat
+	 */
+	private void processFeatures(ICommandSender sender)
+	{
+		int biomes = 0;
+
+		for (BiomeGenBase biome : BiomeGenBase.getBiomeGenArray())
+		{
+			if (biome instanceof BOPBiome)
+			{
+				BOPLogger.info(biome.biomeName + " (" + biome.biomeID + "): " + ((BOPBiome)biome).theBiomeDecorator.describeActiveFeatures());
+				biomes++;
+			}
+		}
+
+		sender.addChatMessage(new ChatComponentText("Logged the active features of " + biomes + " biomes"));
+	}
+
+	private void processEffects(ICommandSender sender)
+	{
+		StringBuilder builder = new StringBuilder("Tracked entity effects: ");
+
+		for (TrackedEntityEffect effect : EntityEffectRegistry.getEffects())
+		{
+			builder.append(effect.name).append(" ").append(effect.getTrackedCount(false)).append(", ");
+		}
+
+		builder.append(EntityEffectRegistry.getTrackedCount(false)).append(" in total, last tick took ").append(EntityEffectRegistry.getLastTickNanos(false) / 1000L).append(" microseconds");
+
+		sender.addChatMessage(new ChatComponentText(builder.toString()));
+	}
+
+	@Override
+	public List addTabCompletionOptions(ICommandSender sender, String[] args)
+	{
+		if (args.length == 1) return getListOfStringsMatchingLastWord(args, "pregen", "biomemap", "saplings", "features", "effects");
+		else if (args.length == 2 && args[0].equals("pregen")) return getListOfStringsMatchingLastWord(args, "status", "stop", "0", "-1", "1");
+		else if (args.length == 4 && args[0].equals("biomemap")) return getListOfStringsMatchingLastWord(args, "nether");
+
+		return null;
+	}
+}
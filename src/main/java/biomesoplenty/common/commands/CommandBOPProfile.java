@@ -0,0 +1,89 @@
+package biomesoplenty.common.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+import biomesoplenty.common.eventhandler.world.DecorationProfilerEventHandler;
+import biomesoplenty.common.world.generation.DecorationProfiler;
+import biomesoplenty.common.world.generation.DecorationProfiler.Result;
+
+public class CommandBOPProfile extends CommandBase
+{
+	@Override
+	public String getCommandName()
+	{
+		return "bopprofile";
+	}
+
+	@Override
+	public String getCommandUsage(ICommandSender sender)
+	{
+		return "/bopprofile <start|stop|reset|top [count]|dump>";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel()
+	{
+		return 2;
+	}
+
+	@Override
+	public void processCommand(ICommandSender sender, String[] args)
+	{
+		if (args.length == 0) throw new WrongUsageException(getCommandUsage(sender));
+
+		if (args[0].equals("start"))
+		{
+			DecorationProfiler.setEnabled(true);
+			sender.addChatMessage(new ChatComponentText("Decoration profiler started"));
+		}
+		else if (args[0].equals("stop"))
+		{
+			DecorationProfiler.setEnabled(false);
+			sender.addChatMessage(new ChatComponentText("Decoration profiler stopped"));
+		}
+		else if (args[0].equals("reset"))
+		{
+			DecorationProfiler.reset();
+			sender.addChatMessage(new ChatComponentText("Decoration profiler results cleared"));
+		}
+		else if (args[0].equals("top"))
+		{
+			int count = args.length > 1 ? parseIntBounded(sender, args[1], 1, 100) : 10;
+			List<Result> results = DecorationProfiler.getResults();
+
+			sender.addChatMessage(new ChatComponentText(String.format("Decoration over the last %.1fs%s:", DecorationProfiler.getProfiledMillis() / 1000.0D, DecorationProfiler.isEnabled() ? "" : " (stopped)")));
+
+			for (Result result : results.subList(0, Math.min(count, results.size())))
+			{
+				sender.addChatMessage(new ChatComponentText(String.format("%s %s in %s: %d calls, %.1fms total, %.1fus each", result.category.name().toLowerCase(), result.name, result.getBiomeName(),
+						result.calls, result.getTotalMillis(), result.getAverageMicros())));
+			}
+		}
+		else if (args[0].equals("dump"))
+		{
+			try
+			{
+				File file = DecorationProfiler.dumpCSV(DecorationProfilerEventHandler.getProfileDirectory());
+
+				sender.addChatMessage(new ChatComponentText("Wrote decoration profile to " + file.getPath()));
+			}
+			catch (IOException e)
+			{
+				sender.addChatMessage(new ChatComponentText("Unable to write decoration profile: " + e.getMessage()));
+			}
+		}
+		else throw new WrongUsageException(getCommandUsage(sender));
+	}
+
+	@Override
+	public List addTabCompletionOptions(ICommandSender sender, String[] args)
+	{
+		return args.length == 1 ? getListOfStringsMatchingLastWord(args, "start", "stop", "reset", "top", "dump") : null;
+	}
+}
@@ -22,6 +22,9 @@ public class BOPConfigurationMisc
 	public static int spawnSearchRadius;
 	public static boolean onlySpawnOnBeaches;
 	
+	public static boolean decorationProfiler;
+	public static int decorationProfilerDumpInterval;
+	
 	public static void init(File configFile)
 	{
 		config = new Configuration(configFile);
@@ -45,6 +48,9 @@ public class BOPConfigurationMisc
 			spawnSearchRadius = config.get("Spawn Settings", "Spawn Location Search Radius", 1024, "Must be 256 or higher").getInt();
 			if (spawnSearchRadius < 256) spawnSearchRadius = 256;
 			onlySpawnOnBeaches = config.get("Spawn Settings", "Only Spawn On Beaches", true).getBoolean(true);
+			
+			decorationProfiler = config.get("Debug Settings", "Enable Decoration Profiler", false, "Can also be toggled in game with /bopprofile").getBoolean(false);
+			decorationProfilerDumpInterval = config.get("Debug Settings", "Decoration Profiler CSV Dump Interval", 0, "Minutes between writing profiler results to the biomesoplenty/profiles folder, 0 to disable").getInt();
 		}
 		catch (Exception e)
 		{
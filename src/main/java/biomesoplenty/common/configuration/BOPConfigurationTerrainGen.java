@@ -32,6 +32,9 @@ public class BOPConfigurationTerrainGen
 	public static boolean genAmberOre;
 	
 	public static boolean genWaspHives;
+	
+	public static int netherPrefetchThreads;
+	public static int pregenTickBudget;
 
 	public static void init(File configFile)
 	{
@@ -65,6 +68,10 @@ public class BOPConfigurationTerrainGen
 			
 			genWaspHives = config.get("Biomes O\' Plenty World Type Settings", "genWaspHives", true, "Disable or Enable wasp hives in the Nether.").getBoolean();
 			
+			netherPrefetchThreads = config.get("Performance Settings", "Nether Terrain Prefetch Threads", 0, "Threads used to generate Nether terrain ahead of moving players. 0 disables prefetching.").getInt();
+			pregenTickBudget = config.get("Performance Settings", "Pregeneration Tick Budget", 25, "Milliseconds of each server tick which /bop pregen may spend generating chunks").getInt();
+			if (pregenTickBudget < 1) pregenTickBudget = 1;
+			
 			
 		}
 		catch (Exception e)
@@ -2,8 +2,11 @@ package biomesoplenty.common.configuration.structures;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraftforge.common.BiomeManager;
 import net.minecraftforge.common.BiomeManager.BiomeEntry;
@@ -11,9 +14,13 @@ import net.minecraftforge.common.config.Configuration;
 
 import org.apache.logging.log4j.Level;
 
+import biomesoplenty.api.BOPBlockHelper;
 import biomesoplenty.api.content.BOPCBiomes;
+import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.eventhandler.world.VillageMaterialEventHandler;
 import biomesoplenty.common.world.BOPBiomeManager;
 import cpw.mods.fml.common.FMLLog;
+import cpw.mods.fml.common.registry.GameData;
 
 public class BOPConfigurationVillages
 {
@@ -22,6 +29,7 @@ public class BOPConfigurationVillages
 	public static int villageDistance;
 	
 	public static ArrayList<Integer> enabledBiomes = new ArrayList();
+	public static HashMap<Integer, List<String>> defaultMaterials = new HashMap();
 	
 	public static void addDefaultVillageBiomes()
 	{
@@ -41,9 +49,35 @@ public class BOPConfigurationVillages
         addVillageBiome(BOPCBiomes.tundra);
 	}
 	
+	public static void addDefaultVillageMaterials()
+	{
+		addVillageMaterial(BOPCBiomes.brushland, Blocks.gravel, Blocks.sand, -1);
+
+		addVillageMaterial(BOPCBiomes.grove, Blocks.log, Blocks.log2, 1);
+		addVillageMaterial(BOPCBiomes.grove, Blocks.planks, Blocks.planks, 5);
+		addVillageMaterial(BOPCBiomes.grove, Blocks.oak_stairs, Blocks.dark_oak_stairs, -1);
+
+		addVillageMaterial(BOPCBiomes.heathland, Blocks.log, BOPCBlocks.logs4, 2);
+		addVillageMaterial(BOPCBiomes.heathland, Blocks.planks, BOPCBlocks.planks, 13);
+		addVillageMaterial(BOPCBiomes.heathland, Blocks.oak_stairs, BOPCBlocks.jacarandaStairs, -1);
+		addVillageMaterial(BOPCBiomes.heathland, Blocks.gravel, Blocks.sand, -1);
+
+		addVillageMaterial(BOPCBiomes.meadow, Blocks.log, Blocks.log, 1);
+		addVillageMaterial(BOPCBiomes.meadow, Blocks.planks, Blocks.planks, 1);
+		addVillageMaterial(BOPCBiomes.meadow, Blocks.oak_stairs, Blocks.spruce_stairs, -1);
+
+		addVillageMaterial(BOPCBiomes.outback, Blocks.log, Blocks.log2, -1);
+		addVillageMaterial(BOPCBiomes.outback, Blocks.planks, Blocks.planks, 4);
+		addVillageMaterial(BOPCBiomes.outback, Blocks.oak_stairs, Blocks.acacia_stairs, -1);
+		addVillageMaterial(BOPCBiomes.outback, Blocks.gravel, Blocks.sand, -1);
+
+		addVillageMaterial(BOPCBiomes.prairie, Blocks.gravel, Blocks.sand, -1);
+	}
+	
 	public static void init(File configFile)
 	{
 		addDefaultVillageBiomes();
+		addDefaultVillageMaterials();
 
 		config = new Configuration(configFile);
 
@@ -64,6 +98,13 @@ public class BOPConfigurationVillages
 					{
 						BiomeManager.addVillageBiome(biome, true);
 					}
+					
+					List<String> materials = defaultMaterials.containsKey(biome.biomeID) ? defaultMaterials.get(biome.biomeID) : new ArrayList<String>();
+					
+					for (String material : config.get("Village Materials", biome.biomeName, materials.toArray(new String[materials.size()]), "Blocks to use in place of vanilla ones, as <original>=<replacement>[:<metadata>]").getStringList())
+					{
+						addVillageMaterial(biome, material);
+					}
 				}
 			}
 		}
@@ -83,4 +124,41 @@ public class BOPConfigurationVillages
 	{
 		if (biome != null) enabledBiomes.add(biome.biomeID);
 	}
+	
+	/**
+	 * @param meta the metadata to use in place of the original's, or -1 to keep it
+	 */
+	public static void addVillageMaterial(BiomeGenBase biome, Block original, Block replacement, int meta)
+	{
+		if (biome == null) return;
+		
+		if (!defaultMaterials.containsKey(biome.biomeID)) defaultMaterials.put(biome.biomeID, new ArrayList<String>());
+		
+		defaultMaterials.get(biome.biomeID).add(BOPBlockHelper.getUniqueName(original) + "=" + BOPBlockHelper.getUniqueName(replacement) + (meta >= 0 ? ":" + meta : ""));
+	}
+	
+	private static void addVillageMaterial(BiomeGenBase biome, String material)
+	{
+		String[] blocks = material.split("=");
+		
+		if (blocks.length == 2)
+		{
+			String[] replacement = blocks[1].trim().split(":");
+			String replacementName = replacement.length > 2 ? replacement[0] + ":" + replacement[1] : blocks[1].trim();
+			
+			try
+			{
+				int meta = replacement.length > 2 ? Integer.parseInt(replacement[2]) : -1;
+				
+				if (GameData.getBlockRegistry().containsKey(blocks[0].trim()) && GameData.getBlockRegistry().containsKey(replacementName))
+				{
+					VillageMaterialEventHandler.addSubstitution(biome, GameData.getBlockRegistry().getObject(blocks[0].trim()), GameData.getBlockRegistry().getObject(replacementName), meta);
+					return;
+				}
+			}
+			catch (NumberFormatException e) {}
+		}
+		
+		FMLLog.log(Level.WARN, "Biomes O Plenty ignored the invalid village material \"" + material + "\" for " + biome.biomeName);
+	}
 }
@@ -99,6 +99,7 @@ import net.minecraftforge.common.BiomeManager.BiomeEntry;
 import org.apache.logging.log4j.Level;
 
 import biomesoplenty.api.BOPObfuscationHelper;
+import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.biome.BOPOverriddenBiome;
 import biomesoplenty.api.content.BOPCBiomes;
 import biomesoplenty.common.biome.end.BiomeGenSpectralGarden;
@@ -606,4 +607,16 @@ public class BOPBiomes
 	{
 	    WorldChunkManager.allowedBiomes.clear();
 	}
+	
+	/**
+	 * Prepares the decorator of every BoP biome once their features are final, rather than when each is first
+	 * decorated
+	 */
+	public static void prepareDecorators()
+	{
+		for (BiomeGenBase biome : BiomeGenBase.getBiomeGenArray())
+		{
+			if (biome instanceof BOPBiome) ((BOPBiome)biome).theBiomeDecorator.prepare();
+		}
+	}
 }
@@ -0,0 +1,76 @@
+package biomesoplenty.common.entities.effects;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EntityEffectRegistry 
+{
+	private static final List<TrackedEntityEffect> effects = new ArrayList<TrackedEntityEffect>();
+	
+	public static final FlippersEffect flippers = register(new FlippersEffect());
+	public static final ParalysisEffect paralysis = register(new ParalysisEffect());
+	
+	private static long lastServerTickNanos;
+	private static long lastClientTickNanos;
+	
+	private static <T extends TrackedEntityEffect> T register(T effect)
+	{
+		effects.add(effect);
+		
+		return effect;
+	}
+	
+	/**
+	 * Updates every tracked entity on the given side, called once per tick before entities are updated.
+	 */
+	public static void tick(boolean remote)
+	{
+		long start = System.nanoTime();
+		
+		for (TrackedEntityEffect effect : effects)
+		{
+			effect.tick(remote);
+		}
+		
+		long elapsed = System.nanoTime() - start;
+		
+		if (remote) lastClientTickNanos = elapsed;
+		else lastServerTickNanos = elapsed;
+	}
+	
+	public static void clear(boolean remote)
+	{
+		for (TrackedEntityEffect effect : effects)
+		{
+			effect.clear(remote);
+		}
+	}
+	
+	/**
+	 * @return the total number of entities tracked by all effects on the given side
+	 */
+	public static int getTrackedCount(boolean remote)
+	{
+		int count = 0;
+		
+		for (TrackedEntityEffect effect : effects)
+		{
+			count += effect.getTrackedCount(remote);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * @return the time taken to update all tracked entities on the given side during the last tick, in nanoseconds
+	 */
+	public static long getLastTickNanos(boolean remote)
+	{
+		return remote ? lastClientTickNanos : lastServerTickNanos;
+	}
+	
+	public static List<TrackedEntityEffect> getEffects()
+	{
+		return effects;
+	}
+}
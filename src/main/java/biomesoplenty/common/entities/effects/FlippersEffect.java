@@ -0,0 +1,93 @@
+package biomesoplenty.common.entities.effects;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import biomesoplenty.api.content.BOPCItems;
+
+public class FlippersEffect extends TrackedEntityEffect
+{
+	/** Flippers lying on the ground on the server */
+	private final Set<EntityItem> droppedFlippers = Collections.newSetFromMap(new WeakHashMap<EntityItem, Boolean>());
+	
+	public FlippersEffect()
+	{
+		super("flippers");
+	}
+	
+	public static boolean isWearingFlippers(EntityLivingBase entity)
+	{
+		ItemStack itemstack = entity.getEquipmentInSlot(1);
+		
+		return itemstack != null && itemstack.getItem() == BOPCItems.flippers;
+	}
+
+	/**
+	 * Watches a dropped pair of flippers, so that whichever mob picks it up can be tracked. Mobs put on armour
+	 * they pick up without any event to hear it from.
+	 */
+	public void trackDropped(EntityItem entityItem)
+	{
+		if (!entityItem.worldObj.isRemote) droppedFlippers.add(entityItem);
+	}
+
+	@Override
+	void tick(boolean remote)
+	{
+		super.tick(remote);
+		
+		if (remote) return;
+		
+		Iterator<EntityItem> iterator = droppedFlippers.iterator();
+		
+		while (iterator.hasNext())
+		{
+			EntityItem entityItem = iterator.next();
+			
+			if (entityItem.isDead)
+			{
+				//Mobs pick up items within a block of their sides, so check around where these were for a new wearer
+				for (Object object : entityItem.worldObj.getEntitiesWithinAABB(EntityLiving.class, entityItem.boundingBox.expand(2.0D, 1.0D, 2.0D)))
+				{
+					if (isWearingFlippers((EntityLiving)object)) track((EntityLiving)object);
+				}
+				
+				iterator.remove();
+			}
+			else if (entityItem.worldObj.getEntityByID(entityItem.getEntityId()) != entityItem)
+			{
+				iterator.remove();
+			}
+		}
+	}
+	
+	@Override
+	public void clear(boolean remote)
+	{
+		super.clear(remote);
+		
+		if (!remote) droppedFlippers.clear();
+	}
+
+	@Override
+	protected boolean updateEntity(EntityLivingBase entity)
+	{
+		if (!isWearingFlippers(entity)) return false;
+		
+		if (entity.isInWater() && !(entity instanceof EntityPlayer && ((EntityPlayer)entity).capabilities.isFlying))
+		{
+			entity.motionX *= 1.125D;
+			entity.motionY *= 1.1D;
+			entity.motionZ *= 1.125D;
+		}
+		
+		return true;
+	}
+}
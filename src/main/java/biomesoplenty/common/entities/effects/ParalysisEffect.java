@@ -0,0 +1,44 @@
+package biomesoplenty.common.entities.effects;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityCreeper;
+import net.minecraft.potion.PotionEffect;
+import biomesoplenty.api.content.BOPCPotions;
+
+public class ParalysisEffect extends TrackedEntityEffect
+{
+	public ParalysisEffect()
+	{
+		super("paralysis");
+	}
+
+	@Override
+	protected boolean updateEntity(EntityLivingBase entity)
+	{
+		PotionEffect effect = entity.getActivePotionEffect(BOPCPotions.paralysis);
+		
+		if (effect == null) return false;
+		
+		entity.motionX = 0.0;
+		
+		if (!entity.isAirBorne) 
+		{
+			entity.motionY = 0.0;
+		}
+		
+		entity.motionZ = 0.0;
+
+		if (entity instanceof EntityCreeper) 
+		{
+			((EntityCreeper)entity).setCreeperState(-1);
+		}
+
+		if (effect.getDuration() == 0)
+		{
+			entity.removePotionEffect(BOPCPotions.paralysis.id);
+			return false;
+		}
+		
+		return true;
+	}
+}
@@ -0,0 +1,78 @@
+package biomesoplenty.common.entities.effects;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.EntityLivingBase;
+
+/**
+ * An effect which is only applied to entities that have been explicitly tracked,
+ * rather than checked against every living entity on every tick.
+ * Client and server entities are kept apart so that each set is only touched by its own thread.
+ */
+public abstract class TrackedEntityEffect
+{
+	public final String name;
+	
+	private final Set<EntityLivingBase> serverEntities = Collections.newSetFromMap(new WeakHashMap<EntityLivingBase, Boolean>());
+	private final Set<EntityLivingBase> clientEntities = Collections.newSetFromMap(new WeakHashMap<EntityLivingBase, Boolean>());
+	
+	public TrackedEntityEffect(String name)
+	{
+		this.name = name;
+	}
+	
+	/**
+	 * Starts tracking an entity. Entities are tracked from their own update, after the tracked entities
+	 * have been updated for the tick, so a newly tracked entity has the effect applied straight away.
+	 */
+	public void track(EntityLivingBase entity)
+	{
+		Set<EntityLivingBase> entities = getEntities(entity.worldObj.isRemote);
+
+		if (!entities.contains(entity) && updateEntity(entity))
+		{
+			entities.add(entity);
+		}
+	}
+	
+	public int getTrackedCount(boolean remote)
+	{
+		return getEntities(remote).size();
+	}
+	
+	public void clear(boolean remote)
+	{
+		getEntities(remote).clear();
+	}
+	
+	void tick(boolean remote)
+	{
+		Iterator<EntityLivingBase> iterator = getEntities(remote).iterator();
+		
+		while (iterator.hasNext())
+		{
+			EntityLivingBase entity = iterator.next();
+			
+			//Entities which have died, changed dimension or been unloaded with their chunk are no longer part of their world
+			if (entity.isDead || entity.worldObj.getEntityByID(entity.getEntityId()) != entity || !updateEntity(entity))
+			{
+				iterator.remove();
+			}
+		}
+	}
+	
+	private Set<EntityLivingBase> getEntities(boolean remote)
+	{
+		return remote ? clientEntities : serverEntities;
+	}
+	
+	/**
+	 * Applies the effect to a tracked entity for the current tick.
+	 * 
+	 * @return false once the effect has ended and the entity should stop being tracked
+	 */
+	protected abstract boolean updateEntity(EntityLivingBase entity);
+}
@@ -1,10 +1,12 @@
 package biomesoplenty.common.eventhandler;
 
 import biomesoplenty.client.fog.FogHandler;
+import biomesoplenty.common.eventhandler.client.ClientEntityEffectEventHandler;
 import biomesoplenty.common.eventhandler.client.FlowerScatterEventHandler;
 import biomesoplenty.common.eventhandler.client.gui.MainMenuEventHandler;
 import biomesoplenty.common.eventhandler.client.gui.WorldTypeMessageEventHandler;
 import biomesoplenty.common.eventhandler.entity.DyeEventHandler;
+import biomesoplenty.common.eventhandler.entity.EntityEffectEventHandler;
 import biomesoplenty.common.eventhandler.entity.FlippersEventHandler;
 import biomesoplenty.common.eventhandler.entity.SlimeSpawnEventHandler;
 import biomesoplenty.common.eventhandler.entity.TemptEventHandler;
@@ -17,9 +19,13 @@ import biomesoplenty.common.eventhandler.misc.OreDictionaryEventHandler;
 import biomesoplenty.common.eventhandler.misc.UseHoeEventHandler;
 import biomesoplenty.common.eventhandler.potions.PotionParalysisEventHandler;
 import biomesoplenty.common.eventhandler.potions.PotionPossessionEventHandler;
+import biomesoplenty.common.eventhandler.world.BiomeMapEventHandler;
 import biomesoplenty.common.eventhandler.world.BiomeSizeEventHandler;
 import biomesoplenty.common.eventhandler.world.DecorationModificationEventHandler;
+import biomesoplenty.common.eventhandler.world.DecorationProfilerEventHandler;
 import biomesoplenty.common.eventhandler.world.MapGenEventHandler;
+import biomesoplenty.common.eventhandler.world.NetherPrefetchEventHandler;
+import biomesoplenty.common.eventhandler.world.PregenEventHandler;
 import biomesoplenty.common.eventhandler.world.VillageMaterialEventHandler;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.relauncher.Side;
@@ -48,6 +54,10 @@ public class BOPEventHandlers
 		MinecraftForge.TERRAIN_GEN_BUS.register(new VillageMaterialEventHandler());
 		MinecraftForge.TERRAIN_GEN_BUS.register(new MapGenEventHandler());
 		MinecraftForge.EVENT_BUS.register(new LabelHandler());
+		FMLCommonHandler.instance().bus().register(new DecorationProfilerEventHandler());
+		FMLCommonHandler.instance().bus().register(new NetherPrefetchEventHandler());
+		FMLCommonHandler.instance().bus().register(new PregenEventHandler());
+		FMLCommonHandler.instance().bus().register(new BiomeMapEventHandler());
 	}
 	
 	private static void registerEntityEventHandlers()
@@ -56,6 +66,7 @@ public class BOPEventHandlers
 		MinecraftForge.EVENT_BUS.register(new DyeEventHandler());
 		MinecraftForge.EVENT_BUS.register(new FlippersEventHandler());
 		MinecraftForge.EVENT_BUS.register(new TemptEventHandler());
+		FMLCommonHandler.instance().bus().register(new EntityEffectEventHandler());
 	}
 	
 	private static void registerPotionEventHandlers()
@@ -84,5 +95,6 @@ public class BOPEventHandlers
 	{
 		MinecraftForge.EVENT_BUS.register(new FogHandler());
 		FMLCommonHandler.instance().bus().register(new FlowerScatterEventHandler());
+		FMLCommonHandler.instance().bus().register(new ClientEntityEffectEventHandler());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package biomesoplenty.common.eventhandler.client;
+
+import net.minecraft.client.Minecraft;
+import biomesoplenty.common.entities.effects.EntityEffectRegistry;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ClientTickEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+@SideOnly(Side.CLIENT)
+public class ClientEntityEffectEventHandler 
+{
+	@SubscribeEvent
+	public void onClientTick(ClientTickEvent event)
+	{
+		if (event.phase == TickEvent.Phase.START)
+		{
+			Minecraft minecraft = Minecraft.getMinecraft();
+			
+			if (minecraft.theWorld == null)
+			{
+				EntityEffectRegistry.clear(true);
+			}
+			//Entities aren't updated whilst the game is paused, so neither should their effects be
+			else if (!minecraft.isGamePaused())
+			{
+				EntityEffectRegistry.tick(true);
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package biomesoplenty.common.eventhandler.entity;
+
+import biomesoplenty.common.entities.effects.EntityEffectRegistry;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+public class EntityEffectEventHandler 
+{
+	@SubscribeEvent
+	public void onServerTick(ServerTickEvent event)
+	{
+		if (event.phase == TickEvent.Phase.START)
+		{
+			EntityEffectRegistry.tick(false);
+		}
+	}
+}
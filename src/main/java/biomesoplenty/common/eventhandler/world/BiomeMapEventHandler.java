@@ -0,0 +1,19 @@
+package biomesoplenty.common.eventhandler.world;
+
+import biomesoplenty.common.world.BiomeMapRenderer;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+public class BiomeMapEventHandler
+{
+	@SubscribeEvent
+	public void onServerTick(ServerTickEvent event)
+	{
+		if (event.phase != TickEvent.Phase.END) return;
+
+		BiomeMapRenderer renderer = BiomeMapRenderer.getCurrent();
+
+		if (renderer != null) renderer.tick();
+	}
+}
@@ -0,0 +1,50 @@
+package biomesoplenty.common.eventhandler.world;
+
+import java.io.File;
+import java.io.IOException;
+
+import net.minecraft.server.MinecraftServer;
+import biomesoplenty.common.configuration.BOPConfigurationMisc;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.generation.DecorationProfiler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+public class DecorationProfilerEventHandler
+{
+	private int ticksSinceDump;
+
+	@SubscribeEvent
+	public void onServerTick(ServerTickEvent event)
+	{
+		if (event.phase != TickEvent.Phase.END || BOPConfigurationMisc.decorationProfilerDumpInterval <= 0) return;
+
+		if (!DecorationProfiler.isEnabled())
+		{
+			ticksSinceDump = 0;
+			return;
+		}
+
+		if (++ticksSinceDump >= BOPConfigurationMisc.decorationProfilerDumpInterval * 1200)
+		{
+			ticksSinceDump = 0;
+
+			try
+			{
+				File file = DecorationProfiler.dumpCSV(getProfileDirectory());
+
+				BOPLogger.fine("Wrote decoration profile to " + file.getPath());
+			}
+			catch (IOException e)
+			{
+				BOPLogger.warning("Unable to write decoration profile", e);
+			}
+		}
+	}
+
+	public static File getProfileDirectory()
+	{
+		return MinecraftServer.getServer().getFile("biomesoplenty/profiles");
+	}
+}
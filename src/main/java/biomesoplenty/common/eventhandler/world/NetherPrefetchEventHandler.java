@@ -0,0 +1,27 @@
+package biomesoplenty.common.eventhandler.world;
+
+import net.minecraft.world.WorldServer;
+import biomesoplenty.common.world.ChunkProviderBOPHell;
+import biomesoplenty.common.world.NetherTerrainPrefetcher;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+import cpw.mods.fml.relauncher.Side;
+
+public class NetherPrefetchEventHandler
+{
+	@SubscribeEvent
+	public void onWorldTick(WorldTickEvent event)
+	{
+		if (event.phase != TickEvent.Phase.END || event.side != Side.SERVER) return;
+
+		WorldServer world = (WorldServer)event.world;
+
+		if (world.theChunkProviderServer.currentChunkProvider instanceof ChunkProviderBOPHell)
+		{
+			NetherTerrainPrefetcher prefetcher = ((ChunkProviderBOPHell)world.theChunkProviderServer.currentChunkProvider).getPrefetcher();
+
+			if (prefetcher != null) prefetcher.tick(world);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package biomesoplenty.common.eventhandler.world;
+
+import biomesoplenty.common.world.WorldPregenerator;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+public class PregenEventHandler
+{
+	@SubscribeEvent
+	public void onServerTick(ServerTickEvent event)
+	{
+		if (event.phase != TickEvent.Phase.END) return;
+
+		WorldPregenerator pregenerator = WorldPregenerator.getCurrent();
+
+		if (pregenerator != null) pregenerator.tick();
+	}
+}
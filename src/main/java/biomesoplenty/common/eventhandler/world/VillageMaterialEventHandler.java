@@ -1,201 +1,75 @@
 package biomesoplenty.common.eventhandler.world;
 
-import net.minecraft.init.Blocks;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraftforge.event.terraingen.BiomeEvent;
-import biomesoplenty.api.BOPBlockHelper;
-import biomesoplenty.api.content.BOPCBiomes;
-import biomesoplenty.api.content.BOPCBlocks;
 import cpw.mods.fml.common.eventhandler.Event.Result;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
+/**
+ * Swaps the blocks village pieces place for ones suiting the biome. Every block of every village piece
+ * fires these events, so the substitutions are kept in a table indexed by biome ID rather than checked
+ * one biome and block at a time. The table is filled in from villages.cfg.
+ */
 public class VillageMaterialEventHandler
 {
-	//TODO: FEATURE All commented out
+	private static final Map<Block, VillageMaterial>[] substitutions = new Map[BiomeGenBase.getBiomeGenArray().length];
+
+	/**
+	 * @param meta the metadata to replace the original's with, or -1 to leave it unchanged
+	 */
+	public static void addSubstitution(BiomeGenBase biome, Block original, Block replacement, int meta)
+	{
+		if (substitutions[biome.biomeID] == null) substitutions[biome.biomeID] = new IdentityHashMap<Block, VillageMaterial>();
+
+		substitutions[biome.biomeID].put(original, new VillageMaterial(replacement, meta));
+	}
+
 	@SubscribeEvent
 	public void getVillageBlockID(BiomeEvent.GetVillageBlockID event)
 	{
-		//Brushland
-		if (event.biome == BOPCBiomes.brushland)
-		{
-			//Gravel
-			if (event.original == Blocks.gravel)
-			{
-				event.replacement = Blocks.sand;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Grove
-		if (event.biome == BOPCBiomes.grove)
-		{	
-			//Logs
-			if (event.original == Blocks.log)
-			{
-				event.replacement = Blocks.log2;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Stairs
-			if (event.original == Blocks.oak_stairs)
-			{
-				event.replacement = Blocks.dark_oak_stairs;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Heathland
-		if (event.biome == BOPCBiomes.heathland)
-		{
-			//Logs
-			if (event.original == Blocks.log)
-			{
-				event.replacement = BOPCBlocks.logs4;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Planks
-			if (event.original == Blocks.planks)
-			{
-				event.replacement = BOPCBlocks.planks;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Stairs
-			if (event.original == Blocks.oak_stairs)
-			{
-				event.replacement = BOPCBlocks.jacarandaStairs;
-				event.setResult(Result.DENY);
-			}
-			
-			//Gravel
-			if (event.original == Blocks.gravel)
-			{
-				event.replacement = Blocks.sand;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Meadow
-		if (event.biome == BOPCBiomes.meadow)
-		{	
-			//Wooden Stairs
-			if (event.original == Blocks.oak_stairs)
-			{
-				event.replacement = Blocks.spruce_stairs;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Outback
-		if (event.biome == BOPCBiomes.outback)
-		{
-			//Logs
-			if (event.original == Blocks.log)
-			{
-				event.replacement = Blocks.log2;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Planks
-			if (event.original == Blocks.planks)
-			{
-				event.replacement = Blocks.planks;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Stairs
-			if (event.original == Blocks.oak_stairs)
-			{
-				event.replacement = Blocks.acacia_stairs;
-				event.setResult(Result.DENY);
-			}
-			
-			//Gravel
-			if (event.original == Blocks.gravel)
-			{
-				event.replacement = Blocks.sand;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Prairie
-		if (event.biome == BOPCBiomes.prairie)
+		VillageMaterial material = getSubstitution(event.biome, event.original);
+
+		if (material != null)
 		{
-			//Gravel
-			if (event.original == Blocks.gravel)
-			{
-				event.replacement = Blocks.sand;
-				event.setResult(Result.DENY);
-			}
+			event.replacement = material.block;
+			event.setResult(Result.DENY);
 		}
 	}
-	
+
 	@SubscribeEvent
 	public void getVillageBlockMeta(BiomeEvent.GetVillageBlockMeta event)
-	{	
-		//Grove
-		if (event.biome == BOPCBiomes.grove)
-		{
-			//Logs
-			if (event.original == Blocks.log)
-			{
-				event.replacement = 1;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Planks
-			if (event.original == Blocks.planks)
-			{
-				event.replacement = 5;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Heathland
-		if (event.biome == BOPCBiomes.heathland)
-		{
-			//Logs
-			if (event.original == Blocks.log)
-			{
-				event.replacement = 2;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Planks
-			if (event.original == Blocks.planks)
-			{
-				event.replacement = 13;
-				event.setResult(Result.DENY);
-			}
-		}
-		
-		//Meadow
-		if (event.biome == BOPCBiomes.meadow)
+	{
+		VillageMaterial material = getSubstitution(event.biome, event.original);
+
+		if (material != null && material.meta >= 0)
 		{
-			//Logs
-			if (event.original == Blocks.log)
-			{
-				event.replacement = 1;
-				event.setResult(Result.DENY);
-			}
-			
-			//Wooden Planks
-			if (event.original == Blocks.planks)
-			{
-				event.replacement = 1;
-				event.setResult(Result.DENY);
-			}
+			event.replacement = material.meta;
+			event.setResult(Result.DENY);
 		}
-		
-		//Outback
-		if (event.biome == BOPCBiomes.outback)
+	}
+
+	private static VillageMaterial getSubstitution(BiomeGenBase biome, Block original)
+	{
+		if (biome == null || biome.biomeID < 0 || biome.biomeID >= substitutions.length) return null;
+
+		Map<Block, VillageMaterial> materials = substitutions[biome.biomeID];
+
+		return materials != null ? materials.get(original) : null;
+	}
+
+	private static class VillageMaterial
+	{
+		public final Block block;
+		public final int meta;
+
+		public VillageMaterial(Block block, int meta)
 		{
-			//Wooden Planks
-			if (event.original == Blocks.planks)
-			{
-				event.replacement = 4;
-				event.setResult(Result.DENY);
-			}
+			this.block = block;
+			this.meta = meta;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -3,12 +3,12 @@ package biomesoplenty.common.fluids.blocks;
 import javax.swing.Icon;
 
 import biomesoplenty.BiomesOPlenty;
+import biomesoplenty.common.helpers.ContactEffects;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.potion.Potion;
-import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.BlockFluidClassic;
@@ -33,12 +33,10 @@ public class BlockPoisonFluid extends BlockFluidClassic
 	@Override
 	public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
 	{
-		int meta = world.getBlockMetadata(x, y, z);
-
 		if (entity instanceof EntityLivingBase)
 		{
-			((EntityLivingBase)entity).addPotionEffect(new PotionEffect(Potion.poison.id, 100));
-			((EntityLivingBase)entity).addPotionEffect(new PotionEffect(Potion.hunger.id, 100));
+			ContactEffects.applyPotionEffect((EntityLivingBase)entity, Potion.poison, 100);
+			ContactEffects.applyPotionEffect((EntityLivingBase)entity, Potion.hunger, 100);
 		}
 	}
 
@@ -0,0 +1,129 @@
+package biomesoplenty.common.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraftforge.event.ForgeEventFactory;
+
+/**
+ * Harvests many blocks at once. Blocks are collected first and then changed together, with neighbours
+ * only notified once every block has been changed, and their drops are merged into as few stacks as
+ * possible rather than each block spawning its own items.
+ *
+ * Block changes are sent with flag 2, so clients are updated through the player manager, which already
+ * combines every change made to a chunk during a tick into a single multi block change packet.
+ */
+public class AreaHarvester
+{
+	private final World world;
+
+	private final List<int[]> positions = new ArrayList<int[]>();
+	private final List<Block> replacedBlocks = new ArrayList<Block>();
+	private final List<Block> replacements = new ArrayList<Block>();
+	private final List<ItemStack> drops = new ArrayList<ItemStack>();
+
+	private double dropX;
+	private double dropY;
+	private double dropZ;
+
+	public AreaHarvester(World world)
+	{
+		this.world = world;
+	}
+
+	/**
+	 * Queues a block to be harvested and replaced. Its drops are worked out straight away, as they
+	 * would have been by dropBlockAsItem.
+	 */
+	public void harvest(int x, int y, int z, Block block, int meta, Block replacement, int replacementMeta)
+	{
+		positions.add(new int[] { x, y, z, replacementMeta });
+		replacedBlocks.add(block);
+		replacements.add(replacement);
+
+		dropX += x + 0.5D;
+		dropY += y + 0.5D;
+		dropZ += z + 0.5D;
+
+		if (world.isRemote || !world.getGameRules().getGameRuleBooleanValue("doTileDrops")) return;
+
+		ArrayList<ItemStack> blockDrops = block.getDrops(world, x, y, z, meta, 0);
+		float chance = ForgeEventFactory.fireBlockHarvesting(blockDrops, world, block, x, y, z, meta, 0, 1.0F, false, null);
+
+		for (ItemStack stack : blockDrops)
+		{
+			if (world.rand.nextFloat() <= chance) this.addDrop(stack);
+		}
+	}
+
+	/**
+	 * Queues a block to be harvested and removed
+	 */
+	public void harvest(int x, int y, int z, Block block, int meta)
+	{
+		this.harvest(x, y, z, block, meta, Blocks.air, 0);
+	}
+
+	/**
+	 * Changes every queued block and spawns the merged drops at the middle of the harvested area
+	 */
+	public void apply()
+	{
+		if (positions.isEmpty()) return;
+
+		for (int i = 0; i < positions.size(); i++)
+		{
+			int[] position = positions.get(i);
+
+			world.setBlock(position[0], position[1], position[2], replacements.get(i), position[3], 2);
+		}
+
+		for (int i = 0; i < positions.size(); i++)
+		{
+			int[] position = positions.get(i);
+
+			world.notifyBlockChange(position[0], position[1], position[2], replacedBlocks.get(i));
+		}
+
+		double x = dropX / positions.size();
+		double y = dropY / positions.size();
+		double z = dropZ / positions.size();
+
+		for (ItemStack stack : drops)
+		{
+			EntityItem entityItem = new EntityItem(world, x, y, z, stack);
+
+			entityItem.delayBeforeCanPickup = 10;
+			world.spawnEntityInWorld(entityItem);
+		}
+
+		positions.clear();
+		replacedBlocks.clear();
+		replacements.clear();
+		drops.clear();
+		dropX = dropY = dropZ = 0.0D;
+	}
+
+	private void addDrop(ItemStack stack)
+	{
+		for (ItemStack drop : drops)
+		{
+			if (stack.stackSize <= 0) return;
+
+			if (drop.isItemEqual(stack) && ItemStack.areItemStackTagsEqual(drop, stack) && drop.stackSize < drop.getMaxStackSize())
+			{
+				int merged = Math.min(stack.stackSize, drop.getMaxStackSize() - drop.stackSize);
+
+				drop.stackSize += merged;
+				stack.stackSize -= merged;
+			}
+		}
+
+		if (stack.stackSize > 0) drops.add(stack);
+	}
+}
@@ -0,0 +1,87 @@
+package biomesoplenty.common.helpers;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.InventoryPlayer;
+import net.minecraft.init.Items;
+import net.minecraft.potion.Potion;
+import net.minecraft.potion.PotionEffect;
+import net.minecraft.util.DamageSource;
+import biomesoplenty.api.content.BOPCItems;
+
+/**
+ * Applies the effects of touching BoP's hazardous blocks and fluids. Entities inside a hazard collide
+ * with it every tick, often with several blocks at once, so potion effects are only refreshed once they
+ * are running out and contact damage is only dealt once per cooldown, rather than every collision
+ * resending effects and attacking the entity again.
+ */
+public class ContactEffects
+{
+	/** Matches the period in which vanilla ignores further damage after an entity is hurt */
+	private static final int DAMAGE_COOLDOWN = 10;
+
+	/** The world time each entity can next take contact damage, only used on the server */
+	private static final Map<Entity, Long> nextDamageTimes = new WeakHashMap<Entity, Long>();
+
+	/**
+	 * Gives an entity a potion effect, unless it already has one which isn't close to running out
+	 */
+	public static void applyPotionEffect(EntityLivingBase entity, Potion potion, int duration)
+	{
+		if (entity.worldObj.isRemote) return;
+
+		PotionEffect activeEffect = entity.getActivePotionEffect(potion);
+
+		if (activeEffect == null || activeEffect.getDuration() < duration / 4)
+		{
+			entity.addPotionEffect(new PotionEffect(potion.id, duration));
+		}
+	}
+
+	/**
+	 * Deals contact damage to an entity, unless it has already taken some within the cooldown
+	 */
+	public static void attackEntity(Entity entity, DamageSource source, float amount)
+	{
+		if (entity.worldObj.isRemote) return;
+
+		long time = entity.worldObj.getTotalWorldTime();
+		Long nextDamageTime = nextDamageTimes.get(entity);
+
+		if (nextDamageTime != null && time < nextDamageTime) return;
+
+		nextDamageTimes.put(entity, time + DAMAGE_COOLDOWN);
+		entity.attackEntityFrom(source, amount);
+	}
+
+	/**
+	 * Thorns prick anything which isn't a player wearing leather boots and leggings
+	 */
+	public static void applyThorns(Entity entity)
+	{
+		if (!(entity instanceof EntityPlayer && isWearingLeather((EntityPlayer)entity)))
+		{
+			attackEntity(entity, DamageSource.cactus, 1);
+		}
+	}
+
+	public static boolean isWearingLeather(EntityPlayer player)
+	{
+		InventoryPlayer inventory = player.inventory;
+
+		return (inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == Items.leather_boots) && (inventory.armorInventory[1] != null && inventory.armorInventory[1].getItem() == Items.leather_leggings);
+	}
+
+	public static boolean isWearingWadingBoots(Entity entity)
+	{
+		if (!(entity instanceof EntityPlayer)) return false;
+
+		InventoryPlayer inventory = ((EntityPlayer)entity).inventory;
+
+		return inventory.armorInventory[0] != null && inventory.armorInventory[0].getItem() == BOPCItems.wadingBoots;
+	}
+}
@@ -13,6 +13,7 @@ import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.BOPItemHelper;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.AreaHarvester;
 
 public class ItemBOPScythe extends Item
 {
@@ -108,6 +109,8 @@ public class ItemBOPScythe extends Item
     
     public void trim(ItemStack stack, EntityLivingBase entity, World world, int x, int y, int z, int height, int radius)
     {
+    	AreaHarvester harvester = new AreaHarvester(world);
+    	
     	for (int aX = -radius; aX <= radius; aX++)
     	{
     		for (int aY = 0; aY <= radius; aY++)
@@ -123,38 +126,37 @@ public class ItemBOPScythe extends Item
     					{
     						if (meta == 1)
     						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlockToAir(x + aX, y + aY, z + aZ);
+    							harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     						}
     						else if (meta == 2)
     						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 1, 2);
+    							harvester.harvest(x + aX, y + aY, z + aZ, block, meta, BOPCBlocks.foliage, 1);
     						}
     						else if (meta == 6)
     						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlockToAir(x + aX, y + aY, z + aZ);
+    							harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     						}
     					}
     					else if (block == Blocks.tallgrass)
     					{
-    						block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    						world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 2, 2);
+    						harvester.harvest(x + aX, y + aY, z + aZ, block, meta, BOPCBlocks.foliage, 2);
     					}
     					else if (block != Blocks.waterlily && block instanceof BlockFlower)
     					{
-    						block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    						world.setBlockToAir(x + aX, y + aY, z + aZ);
+    						harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     					}
     				}
     			}
     		}
     	}
+    	
+    	harvester.apply();
     }
     
     public void trimLeaves(ItemStack stack, EntityLivingBase entity, World world, int x, int y, int z, int height, int radius)
     {
+    	AreaHarvester harvester = new AreaHarvester(world);
+    	
     	for (int aX = -radius; aX <= radius; aX++)
     	{
     		for (int aY = -radius; aY <= radius; aY++)
@@ -195,20 +197,24 @@ public class ItemBOPScythe extends Item
     						}
         			        else
         			        {
+        			        	harvester.apply();
         			        	return;
         			        }
 
-    						block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    						world.setBlockToAir(x + aX, y + aY, z + aZ);
+    						harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     					}
     				}
     			}
     		}
     	}
+    	
+    	harvester.apply();
     }
     
     public void trimCutCorner(ItemStack stack, EntityLivingBase entity, World world, int x, int y, int z, int height, int radius)
     {
+    	AreaHarvester harvester = new AreaHarvester(world);
+    	
     	for (int aX = -radius; aX <= radius; aX++)
     	{
     		for (int aY = 0; aY <= radius; aY++)
@@ -252,35 +258,32 @@ public class ItemBOPScythe extends Item
     						{
     							if (meta == 1)
     							{
-    								block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    								world.setBlockToAir(x + aX, y + aY, z + aZ);
+    								harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     							}
     							else if (meta == 2)
     							{
-    								block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    								world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 1, 2);
+    								harvester.harvest(x + aX, y + aY, z + aZ, block, meta, BOPCBlocks.foliage, 1);
     							}
     							else if (meta == 6)
     							{
-    								block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    								world.setBlockToAir(x + aX, y + aY, z + aZ);
+    								harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     							}
     						}
     						else if (block == Blocks.tallgrass)
     						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 2, 2);
+    							harvester.harvest(x + aX, y + aY, z + aZ, block, meta, BOPCBlocks.foliage, 2);
     						}
     						else if (block != Blocks.waterlily && block instanceof BlockFlower)
     						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlockToAir(x + aX, y + aY, z + aZ);
+    							harvester.harvest(x + aX, y + aY, z + aZ, block, meta);
     						}
     					}
     				}
     			}
     		}
     	}
+    	
+    	harvester.apply();
     }
     
 	@Override
@@ -1,8 +1,10 @@
 package biomesoplenty.common.potions;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.potion.Potion;
 import net.minecraft.util.ResourceLocation;
+import biomesoplenty.common.entities.effects.EntityEffectRegistry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -27,4 +29,10 @@ public class PotionParalysis extends Potion
 	{
 		return duration >= 1;
 	}
+
+	@Override
+	public void performEffect(EntityLivingBase entity, int amplifier)
+	{
+		EntityEffectRegistry.paralysis.track(entity);
+	}
 }
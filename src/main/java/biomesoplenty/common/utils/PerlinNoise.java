@@ -51,8 +51,9 @@ public class PerlinNoise
 
     /** P array for perline 1 noise */
     private int[] p;
-    private float[][] g3;
-    private float[][] g2;
+    /** Gradients for perlin 1 noise, stored as consecutive x, y (and z) components */
+    private float[] g3;
+    private float[] g2;
     private float[] g1;
 
 
@@ -195,16 +196,12 @@ public class PerlinNoise
         float sx = sCurve(rx0);
         float sy = sCurve(ry0);
 
-        float[] q = g2[b00];
-        float u = rx0 * q[0] + ry0 * q[1];
-        q = g2[b10];
-        float v = rx1 * q[0] + ry0 * q[1];
+        float u = rx0 * g2[b00 * 2] + ry0 * g2[b00 * 2 + 1];
+        float v = rx1 * g2[b10 * 2] + ry0 * g2[b10 * 2 + 1];
         float a = lerp(sx, u, v);
 
-        q = g2[b01];
-        u = rx0 * q[0] + ry1 * q[1];
-        q = g2[b11];
-        v = rx1 * q[0] + ry1 * q[1];
+        u = rx0 * g2[b01 * 2] + ry1 * g2[b01 * 2 + 1];
+        v = rx1 * g2[b11 * 2] + ry1 * g2[b11 * 2 + 1];
         float b = lerp(sx, u, v);
 
         return lerp(sy, a, b);
@@ -250,37 +247,133 @@ public class PerlinNoise
         float sy = sCurve(ry0);
         float sz = sCurve(rz0);
 
-        float[] q = g3[b00 + bz0];
-        float u = (rx0 * q[0] + ry0 * q[1] + rz0 * q[2]);
-        q = g3[b10 + bz0];
-        float v = (rx1 * q[0] + ry0 * q[1] + rz0 * q[2]);
-        float a = lerp(t, u, v);
+        return noise3(b00, b10, b01, b11, rx0, rx1, ry0, ry1, t, sy, bz0, bz1, rz0, rz1, sz);
+    }
+
+    /**
+     * Blends the gradients of the 8 corners of a lattice cell for noise3, once the setup for each axis is done
+     */
+    private float noise3(int b00, int b10, int b01, int b11, float rx0, float rx1, float ry0, float ry1, float sx, float sy, int bz0, int bz1, float rz0, float rz1, float sz)
+    {
+        int q = (b00 + bz0) * 3;
+        float u = (rx0 * g3[q] + ry0 * g3[q + 1] + rz0 * g3[q + 2]);
+        q = (b10 + bz0) * 3;
+        float v = (rx1 * g3[q] + ry0 * g3[q + 1] + rz0 * g3[q + 2]);
+        float a = lerp(sx, u, v);
 
-        q = g3[b01 + bz0];
-        u = (rx0 * q[0] + ry1 * q[1] + rz0 * q[2]);
-        q = g3[b11 + bz0];
-        v = (rx1 * q[0] + ry1 * q[1] + rz0 * q[2]);
-        float b = lerp(t, u, v);
+        q = (b01 + bz0) * 3;
+        u = (rx0 * g3[q] + ry1 * g3[q + 1] + rz0 * g3[q + 2]);
+        q = (b11 + bz0) * 3;
+        v = (rx1 * g3[q] + ry1 * g3[q + 1] + rz0 * g3[q + 2]);
+        float b = lerp(sx, u, v);
 
         float c = lerp(sy, a, b);
 
-        q = g3[b00 + bz1];
-        u = (rx0 * q[0] + ry0 * q[1] + rz1 * q[2]);
-        q = g3[b10 + bz1];
-        v = (rx1 * q[0] + ry0 * q[1] + rz1 * q[2]);
-        a = lerp(t, u, v);
+        q = (b00 + bz1) * 3;
+        u = (rx0 * g3[q] + ry0 * g3[q + 1] + rz1 * g3[q + 2]);
+        q = (b10 + bz1) * 3;
+        v = (rx1 * g3[q] + ry0 * g3[q + 1] + rz1 * g3[q + 2]);
+        a = lerp(sx, u, v);
 
-        q = g3[b01 + bz1];
-        u = (rx0 * q[0] + ry1 * q[1] + rz1 * q[2]);
-        q = g3[b11 + bz1];
-        v = (rx1 * q[0] + ry1 * q[1] + rz1 * q[2]);
-        b = lerp(t, u, v);
+        q = (b01 + bz1) * 3;
+        u = (rx0 * g3[q] + ry1 * g3[q + 1] + rz1 * g3[q + 2]);
+        q = (b11 + bz1) * 3;
+        v = (rx1 * g3[q] + ry1 * g3[q + 1] + rz1 * g3[q + 2]);
+        b = lerp(sx, u, v);
 
         float d = lerp(sy, a, b);
 
         return lerp(sz, c, d);
     }
 
+    /**
+     * Fills a grid with perlin 1 noise, giving the same values as noise2((x + i) / divisor, (y + j) / divisor)
+     * for each i below width and j below length. The setup for each row is only done once.
+     *
+     * @param output The array to fill, indexed by i + j * width
+     * @param divisor The number of grid points per unit of noise space
+     */
+    public void noise2(float[] output, int x, int y, int width, int length, float divisor)
+    {
+        for (int j = 0; j < length; j++)
+        {
+            float t = (y + j) / divisor + N;
+            int by0 = ((int)t) & BM;
+            int by1 = (by0 + 1) & BM;
+            float ry0 = t - (int)t;
+            float ry1 = ry0 - 1;
+            float sy = sCurve(ry0);
+
+            for (int i = 0; i < width; i++)
+            {
+                t = (x + i) / divisor + N;
+                int bx0 = ((int)t) & BM;
+                int bx1 = (bx0 + 1) & BM;
+                float rx0 = t - (int)t;
+                float rx1 = rx0 - 1;
+                float sx = sCurve(rx0);
+
+                int b00 = p[p[bx0] + by0];
+                int b10 = p[p[bx1] + by0];
+                int b01 = p[p[bx0] + by1];
+                int b11 = p[p[bx1] + by1];
+
+                float u = rx0 * g2[b00 * 2] + ry0 * g2[b00 * 2 + 1];
+                float v = rx1 * g2[b10 * 2] + ry0 * g2[b10 * 2 + 1];
+                float a = lerp(sx, u, v);
+
+                u = rx0 * g2[b01 * 2] + ry1 * g2[b01 * 2 + 1];
+                v = rx1 * g2[b11 * 2] + ry1 * g2[b11 * 2 + 1];
+                float b = lerp(sx, u, v);
+
+                output[i + j * width] = lerp(sy, a, b);
+            }
+        }
+    }
+
+    /**
+     * Fills a vertical column with perlin 1 noise, giving the same values as noise3(x, y, k / zDivisor) for
+     * each k from minZ to maxZ. The setup for the x and y axes is only done once.
+     *
+     * @param output The array to fill, indexed by k
+     */
+    public void noise3Column(float[] output, float x, float y, int minZ, int maxZ, float zDivisor)
+    {
+        float t = x + (float)N;
+        int bx0 = ((int)t) & BM;
+        int bx1 = (bx0 + 1) & BM;
+        float rx0 = (float)(t - (int)t);
+        float rx1 = rx0 - 1;
+
+        t = y + (float)N;
+        int by0 = ((int)t) & BM;
+        int by1 = (by0 + 1) & BM;
+        float ry0 = (float)(t - (int)t);
+        float ry1 = ry0 - 1;
+
+        int i = p[bx0];
+        int j = p[bx1];
+
+        int b00 = p[i + by0];
+        int b10 = p[j + by0];
+        int b01 = p[i + by1];
+        int b11 = p[j + by1];
+
+        float sx = sCurve(rx0);
+        float sy = sCurve(ry0);
+
+        for (int k = minZ; k <= maxZ; k++)
+        {
+            t = k / zDivisor + (float)N;
+            int bz0 = ((int)t) & BM;
+            int bz1 = (bz0 + 1) & BM;
+            float rz0 = (float)(t - (int)t);
+            float rz1 = rz0 - 1;
+
+            output[k] = noise3(b00, b10, b01, b11, rx0, rx1, ry0, ry1, sx, sy, bz0, bz1, rz0, rz1, sCurve(rz0));
+        }
+    }
+
     /**
      * Create a turbulent noise output based on the core noise function. This
      * uses the noise as a base function and is suitable for creating clouds,
@@ -566,22 +659,22 @@ public class PerlinNoise
     /**
      * 2D-vector normalisation function.
      */
-    private void normalize2(float[] v)
+    private void normalize2(float[] v, int offset)
     {
-        float s = (float)(1 / Math.sqrt(v[0] * v[0] + v[1] * v[1]));
-        v[0] *= s;
-        v[1] *= s;
+        float s = (float)(1 / Math.sqrt(v[offset] * v[offset] + v[offset + 1] * v[offset + 1]));
+        v[offset] *= s;
+        v[offset + 1] *= s;
     }
 
     /**
      * 3D-vector normalisation function.
      */
-    private void normalize3(float[] v)
+    private void normalize3(float[] v, int offset)
     {
-        float s = (float)(1 / Math.sqrt(v[0] * v[0] + v[1] * v[1] + v[2] * v[2]));
-        v[0] *= s;
-        v[1] *= s;
-        v[2] *= s;
+        float s = (float)(1 / Math.sqrt(v[offset] * v[offset] + v[offset + 1] * v[offset + 1] + v[offset + 2] * v[offset + 2]));
+        v[offset] *= s;
+        v[offset + 1] *= s;
+        v[offset + 2] *= s;
     }
 
     /**
@@ -590,8 +683,8 @@ public class PerlinNoise
     private void initPerlin1()
     {
         p = new int[B + B + 2];
-        g3 = new float[B + B + 2][3];
-        g2 = new float[B + B + 2][2];
+        g3 = new float[(B + B + 2) * 3];
+        g2 = new float[(B + B + 2) * 2];
         g1 = new float[B + B + 2];
         int i, j, k;
 
@@ -602,12 +695,12 @@ public class PerlinNoise
             g1[i] = (float)(((rand.nextDouble() * Integer.MAX_VALUE) % (B + B)) - B) / B;
 
             for(j = 0; j < 2; j++)
-                g2[i][j] = (float)(((rand.nextDouble() * Integer.MAX_VALUE) % (B + B)) - B) / B;
-            normalize2(g2[i]);
+                g2[i * 2 + j] = (float)(((rand.nextDouble() * Integer.MAX_VALUE) % (B + B)) - B) / B;
+            normalize2(g2, i * 2);
 
             for(j = 0; j < 3; j++)
-                g3[i][j] = (float)(((rand.nextDouble() * Integer.MAX_VALUE) % (B + B)) - B) / B;
-            normalize3(g3[i]);
+                g3[i * 3 + j] = (float)(((rand.nextDouble() * Integer.MAX_VALUE) % (B + B)) - B) / B;
+            normalize3(g3, i * 3);
         }
 
         while(--i > 0)
@@ -623,9 +716,9 @@ public class PerlinNoise
             p[B + i] = p[i];
             g1[B + i] = g1[i];
             for(j = 0; j < 2; j++)
-                g2[B + i][j] = g2[i][j];
+                g2[(B + i) * 2 + j] = g2[i * 2 + j];
             for(j = 0; j < 3; j++)
-                g3[B + i][j] = g3[i][j];
+                g3[(B + i) * 3 + j] = g3[i * 3 + j];
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package biomesoplenty.common.utils;
+
+/**
+ * Times the phases of each loading stage and logs them once the stage is over, so that slow parts of
+ * startup show up in the log without attaching a profiler.
+ */
+public class StartupProfiler
+{
+    private static String stage;
+    private static long stageStart;
+
+    private static String phase;
+    private static long phaseStart;
+
+    private static StringBuilder timings;
+
+    /**
+     * Starts timing a loading stage, such as pre-initialization
+     */
+    public static void begin(String stageName)
+    {
+        stage = stageName;
+        stageStart = phaseStart = System.nanoTime();
+        phase = null;
+        timings = new StringBuilder();
+    }
+
+    /**
+     * Ends the current phase, if there is one, and starts timing the next
+     */
+    public static void phase(String phaseName)
+    {
+        endPhase();
+
+        phase = phaseName;
+    }
+
+    /**
+     * Ends the current stage and logs how long it and each of its phases took
+     */
+    public static void end()
+    {
+        endPhase();
+
+        BOPLogger.info(stage + " took " + toMillis(System.nanoTime() - stageStart) + " ms (" + timings + ")");
+
+        stage = null;
+        timings = null;
+    }
+
+    private static void endPhase()
+    {
+        long time = System.nanoTime();
+
+        if (phase != null)
+        {
+            if (timings.length() > 0) timings.append(", ");
+
+            timings.append(phase).append(": ").append(toMillis(time - phaseStart)).append(" ms");
+        }
+
+        phase = null;
+        phaseStart = time;
+    }
+
+    private static long toMillis(long nanos)
+    {
+        return nanos / 1000000L;
+    }
+}
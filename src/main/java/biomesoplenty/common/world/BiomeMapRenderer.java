@@ -0,0 +1,370 @@
+package biomesoplenty.common.world;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.imageio.ImageIO;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.layer.GenLayer;
+import biomesoplenty.common.core.BOPBiomes;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.layer.GenLayerBOP;
+import biomesoplenty.common.world.layer.hell.BiomeLayerHell;
+
+/**
+ * Renders a map of the biomes a seed would generate around the origin, one pixel per 4x4 blocks, without
+ * generating any chunks. The map is split into tiles which are each rendered with a single call to the
+ * biome layers.
+ *
+ * Both the overworld and Nether layers keep their own buffers, so maps are rendered by one worker per core,
+ * each with its own copy of the layers, and never touch the IntCache the running world generates with.
+ * The same renderer is used by BiomeMapTool to render maps without a server.
+ *
+ * Each pixel is stored as its biome ID, which the finished image reads straight from through a palette of
+ * biome colours, and the image is written out on its own thread.
+ */
+public class BiomeMapRenderer
+{
+	/** The size of each tile, in pixels */
+	private static final int TILE_SIZE = 256;
+	private static final int BLOCKS_PER_PIXEL = 4;
+
+	private static BiomeMapRenderer current;
+
+	public final long seed;
+	public final boolean nether;
+	/** The width and height of the map, in pixels */
+	public final int size;
+
+	private ICommandSender sender;
+	private final int tilesPerSide;
+	/** The biome ID of each pixel */
+	private final byte[] pixels;
+	private final AtomicLongArray biomeCounts = new AtomicLongArray(BiomeGenBase.getBiomeGenArray().length);
+	private final AtomicInteger nextTile = new AtomicInteger();
+	private final AtomicInteger completedTiles = new AtomicInteger();
+	private final long startTime = System.currentTimeMillis();
+
+	private ExecutorService executor;
+	private volatile boolean failed;
+
+	private File file;
+	private Thread writer;
+	private volatile boolean written;
+
+	/**
+	 * @param sizeInBlocks the width and height of the area to render, centred on the origin
+	 */
+	public BiomeMapRenderer(long seed, int sizeInBlocks, boolean nether)
+	{
+		this.seed = seed;
+		this.nether = nether;
+		this.size = sizeInBlocks / BLOCKS_PER_PIXEL;
+		this.tilesPerSide = (size + TILE_SIZE - 1) / TILE_SIZE;
+		this.pixels = new byte[size * size];
+	}
+
+	/**
+	 * Begins rendering a map, unless one is already being rendered
+	 *
+	 * @param sizeInBlocks the width and height of the area to render, centred on the origin
+	 * @return the new renderer, or null if another map is still being rendered
+	 */
+	public static BiomeMapRenderer start(ICommandSender sender, long seed, int sizeInBlocks, boolean nether)
+	{
+		if (current != null) return null;
+
+		current = new BiomeMapRenderer(seed, sizeInBlocks, nether);
+		current.sender = sender;
+		current.startWorkers(Runtime.getRuntime().availableProcessors());
+
+		return current;
+	}
+
+	/**
+	 * @return the memory needed to hold a map of the given size, in bytes
+	 */
+	public static long getRequiredMemory(int sizeInBlocks)
+	{
+		long size = sizeInBlocks / BLOCKS_PER_PIXEL;
+
+		return size * size;
+	}
+
+	public static BiomeMapRenderer getCurrent()
+	{
+		return current;
+	}
+
+	/**
+	 * Abandons the map being rendered. Any workers still running finish their current tile and stop.
+	 */
+	public static void cancel()
+	{
+		if (current != null) current.nextTile.set(Integer.MAX_VALUE);
+
+		current = null;
+	}
+
+	/**
+	 * Writes the map once every tile is done, and reports back once it has been written
+	 */
+	public void tick()
+	{
+		if (writer != null)
+		{
+			if (written) this.finish();
+			
+			return;
+		}
+
+		if (failed)
+		{
+			current = null;
+			sender.addChatMessage(new ChatComponentText("Rendering the biome map failed, see the log for details"));
+		}
+		else if (completedTiles.get() >= tilesPerSide * tilesPerSide) this.startWriter();
+	}
+
+	/**
+	 * Starts rendering the map's tiles, each worker with its own copy of the layers
+	 */
+	public void startWorkers(int threads)
+	{
+		executor = Executors.newFixedThreadPool(threads);
+
+		for (int i = 0; i < threads; i++)
+		{
+			executor.submit(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					try
+					{
+						GenLayer layer = createLayers(seed, nether);
+
+						while (renderNextTile(layer));
+					}
+					catch (Throwable t)
+					{
+						BOPLogger.warning("Failed to render biome map tile", t);
+						failed = true;
+					}
+				}
+			});
+		}
+
+		executor.shutdown();
+	}
+
+	/**
+	 * Waits for the workers to render every tile
+	 *
+	 * @return false if any of the tiles failed to render
+	 */
+	public boolean awaitWorkers() throws InterruptedException
+	{
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+		return !failed;
+	}
+
+	private static GenLayer createLayers(long seed, boolean nether)
+	{
+		//WorldChunkManagerBOPHell always builds its layers with the smaller biome size
+		if (nether) return BiomeLayerHell.initializeAllBiomeGenerators(seed, BOPBiomes.worldTypeBOP, 1)[0];
+
+		return GenLayerBOP.initializeAllBiomeGenerators(seed, BOPBiomes.worldTypeBOP)[0];
+	}
+
+	/**
+	 * @return false once there are no tiles left to render
+	 */
+	private boolean renderNextTile(GenLayer layer)
+	{
+		int tile = nextTile.getAndIncrement();
+
+		if (tile >= tilesPerSide * tilesPerSide) return false;
+
+		int startX = (tile % tilesPerSide) * TILE_SIZE;
+		int startZ = (tile / tilesPerSide) * TILE_SIZE;
+		int width = Math.min(TILE_SIZE, size - startX);
+		int length = Math.min(TILE_SIZE, size - startZ);
+		int[] biomeIDs = layer.getInts(startX - size / 2, startZ - size / 2, width, length);
+		long[] counts = new long[biomeCounts.length()];
+
+		for (int z = 0; z < length; z++)
+		{
+			for (int x = 0; x < width; x++)
+			{
+				int biomeID = biomeIDs[x + z * width];
+				BiomeGenBase biome = biomeID >= 0 && biomeID < counts.length ? BiomeGenBase.getBiome(biomeID) : null;
+
+				if (biome == null) continue;
+
+				this.pixels[startX + x + (startZ + z) * size] = (byte)biomeID;
+				counts[biomeID]++;
+			}
+		}
+
+		for (int i = 0; i < counts.length; i++)
+		{
+			if (counts[i] > 0) this.biomeCounts.addAndGet(i, counts[i]);
+		}
+
+		completedTiles.incrementAndGet();
+
+		return true;
+	}
+
+	private void startWriter()
+	{
+		file = new File(getMapDirectory(), this.getFileName());
+
+		writer = new Thread("BoP Biome Map Writer")
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					write(file);
+				}
+				catch (Throwable t)
+				{
+					BOPLogger.warning("Unable to write biome map", t);
+					failed = true;
+				}
+				
+				written = true;
+			}
+		};
+
+		writer.start();
+	}
+
+	/**
+	 * Writes the rendered map out as a PNG
+	 */
+	public void write(File file) throws IOException
+	{
+		if (file.getParentFile() != null) file.getParentFile().mkdirs();
+
+		//The PNG encoder reads the pixels a row at a time, straight from the biome IDs
+		if (!ImageIO.write(createImage(), "png", file)) throw new IOException("No PNG writer is available");
+	}
+
+	private BufferedImage createImage()
+	{
+		BiomeGenBase[] biomes = BiomeGenBase.getBiomeGenArray();
+		byte[] red = new byte[256];
+		byte[] green = new byte[256];
+		byte[] blue = new byte[256];
+
+		for (int i = 0; i < 256 && i < biomes.length; i++)
+		{
+			if (biomes[i] == null) continue;
+
+			red[i] = (byte)(biomes[i].color >> 16);
+			green[i] = (byte)(biomes[i].color >> 8);
+			blue[i] = (byte)biomes[i].color;
+		}
+
+		IndexColorModel palette = new IndexColorModel(8, 256, red, green, blue);
+		WritableRaster raster = Raster.createInterleavedRaster(new DataBufferByte(pixels, pixels.length), size, size, size, 1, new int[] { 0 }, null);
+
+		return new BufferedImage(palette, raster, false, null);
+	}
+
+	private void finish()
+	{
+		current = null;
+
+		if (failed)
+		{
+			sender.addChatMessage(new ChatComponentText("Unable to write biome map, see the log for details"));
+			return;
+		}
+
+		String summary = this.getSummary(file);
+		List<String> statistics = this.getStatistics();
+
+		BOPLogger.info(summary);
+		sender.addChatMessage(new ChatComponentText(summary));
+
+		for (int i = 0; i < statistics.size(); i++)
+		{
+			BOPLogger.info(statistics.get(i));
+
+			if (i < 10) sender.addChatMessage(new ChatComponentText(statistics.get(i)));
+		}
+	}
+
+	public String getFileName()
+	{
+		return seed + (nether ? "-nether" : "") + ".png";
+	}
+
+	public String getSummary(File file)
+	{
+		return String.format("Rendered %dx%d block biome map of seed %d in %.1fs to %s", size * BLOCKS_PER_PIXEL, size * BLOCKS_PER_PIXEL, seed, (System.currentTimeMillis() - startTime) / 1000.0D, file.getPath());
+	}
+
+	/**
+	 * @return the share of the map covered by each biome, largest first
+	 */
+	public List<String> getStatistics()
+	{
+		List<Integer> biomeIDs = new ArrayList<Integer>();
+		final long total = (long)size * size;
+
+		for (int i = 0; i < biomeCounts.length(); i++)
+		{
+			if (biomeCounts.get(i) > 0) biomeIDs.add(i);
+		}
+
+		Collections.sort(biomeIDs, new Comparator<Integer>()
+		{
+			@Override
+			public int compare(Integer a, Integer b)
+			{
+				long difference = biomeCounts.get(b) - biomeCounts.get(a);
+
+				return difference > 0 ? 1 : difference < 0 ? -1 : 0;
+			}
+		});
+
+		List<String> statistics = new ArrayList<String>();
+
+		for (int biomeID : biomeIDs)
+		{
+			statistics.add(String.format("%s: %.2f%%", BiomeGenBase.getBiome(biomeID).biomeName, biomeCounts.get(biomeID) * 100.0D / total));
+		}
+
+		return statistics;
+	}
+
+	private static File getMapDirectory()
+	{
+		return MinecraftServer.getServer().getFile("biomesoplenty/maps");
+	}
+}
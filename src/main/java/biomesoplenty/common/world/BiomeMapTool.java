@@ -0,0 +1,86 @@
+package biomesoplenty.common.world;
+
+import java.io.File;
+import java.lang.reflect.Field;
+
+import biomesoplenty.common.configuration.BOPConfiguration;
+import biomesoplenty.common.core.BOPBiomes;
+import cpw.mods.fml.relauncher.FMLInjectionData;
+
+/**
+ * Renders a biome map from the command line, without starting Minecraft. Only the config and the biomes are
+ * set up, as the biome layers never place any blocks. Maps are written to biomesoplenty/maps in the game
+ * directory, as they are by /bop biomemap.
+ */
+public class BiomeMapTool
+{
+	private static boolean bootstrapped;
+
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length < 3 || args.length > 4 || (args.length == 4 && !args[3].equals("nether")))
+		{
+			System.err.println("Usage: BiomeMapTool <game directory> <seed> <size in blocks> [nether]");
+			System.exit(1);
+		}
+
+		File gameDirectory = new File(args[0]);
+		long seed;
+
+		//Seeds are read the same way as on the world creation screen
+		try
+		{
+			seed = Long.parseLong(args[1]);
+		}
+		catch (NumberFormatException e)
+		{
+			seed = args[1].hashCode();
+		}
+
+		int size = Integer.parseInt(args[2]);
+		boolean nether = args.length == 4;
+
+		bootstrap(gameDirectory);
+
+		BiomeMapRenderer renderer = new BiomeMapRenderer(seed, size, nether);
+
+		renderer.startWorkers(Runtime.getRuntime().availableProcessors());
+
+		if (!renderer.awaitWorkers())
+		{
+			System.err.println("Rendering the biome map failed");
+			System.exit(1);
+		}
+
+		File file = new File(gameDirectory, "biomesoplenty/maps/" + renderer.getFileName());
+
+		renderer.write(file);
+
+		System.out.println(renderer.getSummary(file));
+
+		for (String line : renderer.getStatistics())
+		{
+			System.out.println(line);
+		}
+	}
+
+	/**
+	 * Loads the config from the given game directory and registers the biomes, which is all the biome layers need
+	 */
+	public static synchronized void bootstrap(File gameDirectory) throws ReflectiveOperationException
+	{
+		if (bootstrapped) return;
+
+		//Forge's configs work out their paths relative to the game directory, which FML normally sets up
+		Field minecraftHome = FMLInjectionData.class.getDeclaredField("minecraftHome");
+
+		minecraftHome.setAccessible(true);
+		minecraftHome.set(null, gameDirectory.getAbsoluteFile());
+
+		BOPConfiguration.init(new File(gameDirectory, "config").getPath() + "/biomesoplenty/");
+		BOPBiomes.init();
+		BOPBiomes.worldTypeBOP = new WorldTypeBOP();
+
+		bootstrapped = true;
+	}
+}
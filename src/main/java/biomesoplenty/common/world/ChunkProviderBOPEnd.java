@@ -9,6 +9,7 @@ import net.minecraft.block.BlockFalling;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.IProgressUpdate;
+import net.minecraft.util.MathHelper;
 import net.minecraft.world.ChunkPosition;
 import net.minecraft.world.SpawnerAnimals;
 import net.minecraft.world.World;
@@ -18,11 +19,20 @@ import net.minecraft.world.chunk.IChunkProvider;
 
 public class ChunkProviderBOPEnd implements IChunkProvider
 {
+    /** End terrain never generates above y 72, so nothing above this height is generated or stored */
+    private static final int TERRAIN_HEIGHT = 80;
+    
     private Random rand;
     private World worldObj;
     private PerlinNoise perlin;
     private BiomeGenBase[] biomesForGeneration;
     
+    private float[] noiseLarge = new float[256];
+    private float[] noiseMedium = new float[256];
+    private float[] noiseMediumOffset = new float[256];
+    private float[] noiseSmall = new float[256];
+    private float[] noiseColumn = new float[TERRAIN_HEIGHT];
+    
     public ChunkProviderBOPEnd(World world, long l)
     {
         worldObj = world;
@@ -35,8 +45,8 @@ public class ChunkProviderBOPEnd implements IChunkProvider
     	BiomeGenBase biome = BiomeGenBase.sky;
     	
     	rand.setSeed((long)cx * 0x4f9939f508L + (long)cy * 0x1ef1565bd5L);
-        Block[] blocks = new Block[65536];
-        byte[] metadata = new byte[65536];
+        Block[] blocks = new Block[256 * TERRAIN_HEIGHT];
+        byte[] metadata = new byte[256 * TERRAIN_HEIGHT];
         biomesForGeneration = worldObj.getWorldChunkManager().loadBlockGeneratorData(this.biomesForGeneration, cx * 16, cy * 16, 16, 16);
     	
         generateTerrain(cx, cy, blocks, metadata, biomesForGeneration);
@@ -54,44 +64,40 @@ public class ChunkProviderBOPEnd implements IChunkProvider
     
     public void generateTerrain(int cx, int cy, Block[] blocks, byte[] metadata, BiomeGenBase[] biome)
     {	
-    	int p;
-    	float noiseA, noiseB, noiseC, noise3, spawnDis;
+    	float noiseA, noiseB, noiseC, spawnDis;
+    	
+    	perlin.noise2(noiseLarge, cx * 16, cy * 16, 16, 16, 80f);
+    	perlin.noise2(noiseMedium, cx * 16, cy * 16, 16, 16, 40f);
+    	perlin.noise2(noiseMediumOffset, 1000 + cx * 16, cy * 16, 16, 16, 40f);
+    	perlin.noise2(noiseSmall, cx * 16, cy * 16, 16, 16, 12f);
+    	
     	for(int i = 0; i < 16; i++)
     	{
     		for(int j = 0; j < 16; j++)
     		{
+    			int index = j + i * 16;
+    			
     			spawnDis = (20000 - ((cx * 16 + j) * (cx * 16 + j) + (cy * 16 + i) * (cy * 16 + i))) / 13000f;
-    			noiseC = perlin.noise2((cx * 16 + j) / 80f, (cy * 16 + i) / 80f) * 6 - 1.2f;
+    			noiseC = noiseLarge[index] * 6 - 1.2f;
     			noiseC = spawnDis > noiseC ? spawnDis : noiseC;
     			
-    			noiseA = 64f + (perlin.noise2((cx * 16 + j) / 40f, (cy * 16 + i) / 40f) * 6) + (perlin.noise2((cx * 16 + j) / 12f, (cy * 16 + i) / 12f) * 3) + noiseC * 3;
-    			noiseB = 12f + (perlin.noise2((1000f + cx * 16 + j) / 40f, (cy * 16 + i) / 40f) * 6) + (perlin.noise2((cx * 16 + j) / 12f, (cy * 16 + i) / 12f) * 3) - noiseC * 3;
+    			noiseA = 64f + (noiseMedium[index] * 6) + (noiseSmall[index] * 3) + noiseC * 3;
+    			noiseB = 12f + (noiseMediumOffset[index] * 6) + (noiseSmall[index] * 3) - noiseC * 3;
+    			
+    			//Only heights between noiseB and noiseA can be solid
+    			int minK = Math.max(0, MathHelper.floor_float(noiseB) + 1);
+    			int maxK = Math.min(72, MathHelper.ceiling_float_int(noiseA) - 1);
     			
-    			for(int k = 0; k < 256; k++)
+    			if (minK > maxK) continue;
+    			
+    			perlin.noise3Column(noiseColumn, (cx * 16 + j) / 30f, (cy * 16 + i) / 30f, minK, maxK, 20f);
+    			
+    			//Air is left as null
+    			for(int k = minK; k <= maxK; k++)
     			{
-    				p = (j * 16 + i) * 256 + k;
-    				if(k > 72)
+    				if(noiseColumn[k] + noiseC > 0.2f)
     				{
-    					blocks[p] = Blocks.air;
-    				}
-    				else
-    				{
-    					if(k < noiseA && k > noiseB)
-    					{
-    						noise3 = perlin.noise3((cx * 16 + j) / 30f, (cy * 16 + i) / 30f, k / 20f) + noiseC;
-    						if(noise3 > 0.2f)
-    						{
-        						blocks[p] = Blocks.end_stone;
-    						}
-    						else
-    						{
-    							blocks[p] = Blocks.air;
-    						}
-    					}
-    					else
-    					{
-        					blocks[p] = Blocks.air;
-    					}
+    					blocks[(j * 16 + i) * TERRAIN_HEIGHT + k] = Blocks.end_stone;
     				}
     			}
     			
@@ -143,10 +149,10 @@ public class ChunkProviderBOPEnd implements IChunkProvider
     		for(int j = 0; j < 16; j++)
     		{
     			BiomeGenBase biome = biomes[i * 16 + j];
-				for(int k = 255; k > -1; k--)
+				for(int k = TERRAIN_HEIGHT - 1; k > -1; k--)
 				{
-					Block b = blocks[(j * 16 + i) * 256 + k];
-				    if(b == Blocks.air)
+					Block b = blocks[(j * 16 + i) * TERRAIN_HEIGHT + k];
+				    if(b == null)
 				    {
 				    	depth = -1;
 				    }
@@ -155,11 +161,11 @@ public class ChunkProviderBOPEnd implements IChunkProvider
 				    	depth++;
 				    	if(depth == 0)
 				    	{
-				    		blocks[(j * 16 + i) * 256 + k] = biome.topBlock;
+				    		blocks[(j * 16 + i) * TERRAIN_HEIGHT + k] = biome.topBlock;
 				    	}
 				    	else if(depth < 4)
 				    	{
-				    		blocks[(j * 16 + i) * 256 + k] = biome.fillerBlock;
+				    		blocks[(j * 16 + i) * TERRAIN_HEIGHT + k] = biome.fillerBlock;
 				    	}
 				    }
 				}
@@ -0,0 +1,392 @@
+package biomesoplenty.common.world;
+
+import java.util.Random;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.NoiseGeneratorOctaves;
+
+/**
+ * The terrain shaping and surface stages of Nether chunk generation. These only work on their own
+ * noise generators and arrays, so each instance may be used from one thread independently of the
+ * others, and instances created with the same seed generate identical terrain.
+ */
+public class NetherTerrainGenerator
+{
+	private NoiseGeneratorOctaves netherNoiseGen1;
+	private NoiseGeneratorOctaves netherNoiseGen2;
+	private NoiseGeneratorOctaves netherNoiseGen3;
+	private NoiseGeneratorOctaves slowsandGravelNoiseGen;
+	private NoiseGeneratorOctaves netherrackExculsivityNoiseGen;
+	public NoiseGeneratorOctaves netherNoiseGen6;
+	public NoiseGeneratorOctaves netherNoiseGen7;
+	private double[] noiseField;
+	private double[] slowsandNoise = new double[256];
+	private double[] gravelNoise = new double[256];
+	private double[] netherrackExclusivityNoise = new double[256];
+	double[] noiseData1;
+	double[] noiseData2;
+	double[] noiseData3;
+	double[] noiseData4;
+	double[] noiseData5;
+
+	public NetherTerrainGenerator(long seed)
+	{
+		Random random = new Random(seed);
+		netherNoiseGen1 = new NoiseGeneratorOctaves(random, 16);
+		netherNoiseGen2 = new NoiseGeneratorOctaves(random, 16);
+		netherNoiseGen3 = new NoiseGeneratorOctaves(random, 8);
+		slowsandGravelNoiseGen = new NoiseGeneratorOctaves(random, 4);
+		netherrackExculsivityNoiseGen = new NoiseGeneratorOctaves(random, 4);
+		netherNoiseGen6 = new NoiseGeneratorOctaves(random, 10);
+		netherNoiseGen7 = new NoiseGeneratorOctaves(random, 16);
+	}
+
+	/**
+	 * Generates the shaped and surfaced blocks for a chunk, before caves and structures are added.
+	 * The given random is seeded for the chunk the same way as the chunk provider does.
+	 */
+	public Block[] generateChunkBlocks(int chunkX, int chunkZ, BiomeGenBase[] biomes, Random random)
+	{
+		Block[] blocks = new Block[32768];
+
+		random.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
+		this.generateNetherTerrain(chunkX, chunkZ, blocks);
+		this.replaceBlocksForBiome(chunkX, chunkZ, blocks, biomes, random);
+
+		return blocks;
+	}
+
+	/**
+	 * Generates the shape of the terrain in the nether.
+	 */
+	 public void generateNetherTerrain(int par1, int par2, Block[] blocks)
+	{
+		byte b0 = 4;
+		byte b1 = 32;
+		int k = b0 + 1;
+		byte b2 = 17;
+		int l = b0 + 1;
+		noiseField = this.initializeNoiseField(noiseField, par1 * b0, 0, par2 * b0, k, b2, l);
+
+		for (int i1 = 0; i1 < b0; ++i1)
+		{
+			for (int j1 = 0; j1 < b0; ++j1)
+			{
+				for (int k1 = 0; k1 < 16; ++k1)
+				{
+					double d0 = 0.125D;
+					double d1 = noiseField[((i1 + 0) * l + j1 + 0) * b2 + k1 + 0];
+					double d2 = noiseField[((i1 + 0) * l + j1 + 1) * b2 + k1 + 0];
+					double d3 = noiseField[((i1 + 1) * l + j1 + 0) * b2 + k1 + 0];
+					double d4 = noiseField[((i1 + 1) * l + j1 + 1) * b2 + k1 + 0];
+					double d5 = (noiseField[((i1 + 0) * l + j1 + 0) * b2 + k1 + 1] - d1) * d0;
+					double d6 = (noiseField[((i1 + 0) * l + j1 + 1) * b2 + k1 + 1] - d2) * d0;
+					double d7 = (noiseField[((i1 + 1) * l + j1 + 0) * b2 + k1 + 1] - d3) * d0;
+					double d8 = (noiseField[((i1 + 1) * l + j1 + 1) * b2 + k1 + 1] - d4) * d0;
+
+					for (int l1 = 0; l1 < 8; ++l1)
+					{
+						double d9 = 0.25D;
+						double d10 = d1;
+						double d11 = d2;
+						double d12 = (d3 - d1) * d9;
+						double d13 = (d4 - d2) * d9;
+
+						for (int i2 = 0; i2 < 4; ++i2)
+						{
+							int j2 = i2 + i1 * 4 << 11 | 0 + j1 * 4 << 7 | k1 * 8 + l1;
+							short short1 = 128;
+							double d14 = 0.25D;
+							double d15 = d10;
+							double d16 = (d11 - d10) * d14;
+
+							for (int k2 = 0; k2 < 4; ++k2)
+							{
+								Block l2 = null;
+
+								if (k1 * 8 + l1 < b1)
+								{
+									l2 = Blocks.lava;
+								}
+
+								if (d15 > 0.0D)
+								{
+									l2 = Blocks.netherrack;
+								}
+
+								blocks[j2] = l2;
+								j2 += short1;
+								d15 += d16;
+							}
+
+							d10 += d12;
+							d11 += d13;
+						}
+
+						d1 += d5;
+						d2 += d6;
+						d3 += d7;
+						d4 += d8;
+					}
+				}
+			}
+		}
+	}
+
+	 /**
+	  * name based on ChunkProviderGenerate
+	  */
+	 public void replaceBlocksForBiome(int par1, int par2, Block[] blocks, BiomeGenBase[] par4ArrayOfBiomeGenBase, Random hellRNG)
+	 {
+		 //ChunkProviderEvent.ReplaceBiomeBlocks event = new ChunkProviderEvent.ReplaceBiomeBlocks(this, par1, par2, par3ArrayOfByte, par4ArrayOfBiomeGenBase);
+		 //MinecraftForge.EVENT_BUS.post(event);
+		 //if (event.getResult() == Result.DENY) return;
+
+		 byte b0 = 32;
+		 double d0 = 0.03125D;
+		 slowsandNoise = slowsandGravelNoiseGen.generateNoiseOctaves(slowsandNoise, par1 * 16, par2 * 16, 0, 16, 16, 1, d0, d0, 1.0D);
+		 gravelNoise = slowsandGravelNoiseGen.generateNoiseOctaves(gravelNoise, par1 * 16, 109, par2 * 16, 16, 1, 16, d0, 1.0D, d0);
+		 netherrackExclusivityNoise = netherrackExculsivityNoiseGen.generateNoiseOctaves(netherrackExclusivityNoise, par1 * 16, par2 * 16, 0, 16, 16, 1, d0 * 2.0D, d0 * 2.0D, d0 * 2.0D);
+
+		 for (int k = 0; k < 16; ++k)
+		 {
+			 for (int l = 0; l < 16; ++l)
+			 {
+				 BiomeGenBase biomegenbase = par4ArrayOfBiomeGenBase[l + k * 16];
+
+				 boolean flag = slowsandNoise[k + l * 16] + hellRNG.nextDouble() * 0.2D > 0.0D;
+				 boolean flag1 = gravelNoise[k + l * 16] + hellRNG.nextDouble() * 0.2D > 0.0D;
+				 int i1 = (int)(netherrackExclusivityNoise[k + l * 16] / 3.0D + 3.0D + hellRNG.nextDouble() * 0.25D);
+				 int j1 = -1;
+				 Block b1 = biomegenbase.topBlock;
+				 Block b2 = biomegenbase.fillerBlock;
+
+				 for (int k1 = 127; k1 >= 0; --k1)
+				 {
+					 int l1 = (l * 16 + k) * 128 + k1;
+
+					 if (k1 < 127 - hellRNG.nextInt(5) && k1 > 0 + hellRNG.nextInt(5))
+					 {
+						 Block b3 = blocks[l1];
+
+						 if (b3 == null || b3 == Blocks.air)
+						 {
+							 j1 = -1;
+						 }
+						 else if (b3 == Blocks.netherrack)
+						 {
+							 if (j1 == -1)
+							 {
+								 if (i1 <= 0)
+								 {
+									 b1 = Blocks.air;
+									 b2 = Blocks.netherrack;
+								 }
+								 else if (k1 >= b0 - 4 && k1 <= b0 + 1)
+								 {
+									 b1 = Blocks.netherrack;
+									 b2 = Blocks.netherrack;
+
+									 if (flag1)
+									 {
+										 b1 = Blocks.gravel;
+									 }
+
+									 if (flag1)
+									 {
+										 b2 = Blocks.netherrack;
+									 }
+
+									 if (flag)
+									 {
+										 b1 = Blocks.soul_sand;
+									 }
+
+									 if (flag)
+									 {
+										 b2 = Blocks.soul_sand;
+									 }
+								 }
+
+								 if (k1 < b0 && b1 == Blocks.air)
+								 {
+									 b1 = Blocks.lava;
+								 }
+
+								 j1 = i1;
+
+								 if (k1 >= b0 - 1)
+								 {
+									 blocks[l1] = b1;
+								 }
+								 else
+								 {
+									 blocks[l1] = b2;
+								 }
+							 }
+							 else if (j1 > 0)
+							 {
+								 --j1;
+								 blocks[l1] = b2;
+							 }
+						 }
+					 }
+					 else
+					 {
+						 blocks[l1] = Blocks.bedrock;
+					 }
+				 }
+			 }
+		 }
+	 }
+
+	 /**
+	  * generates a subset of the level's terrain data. Takes 7 arguments: the [empty] noise array, the position, and the
+	  * size.
+	  */
+	 private double[] initializeNoiseField(double[] par1ArrayOfDouble, int par2, int par3, int par4, int par5, int par6, int par7)
+	 {
+		 //ChunkProviderEvent.InitNoiseField event = new ChunkProviderEvent.InitNoiseField(this, par1ArrayOfDouble, par2, par3, par4, par5, par6, par7);
+		 //MinecraftForge.EVENT_BUS.post(event);
+		 //if (event.getResult() == Result.DENY) return event.noisefield;
+		 
+		 if (par1ArrayOfDouble == null)
+		 {
+			 par1ArrayOfDouble = new double[par5 * par6 * par7];
+		 }
+
+		 double d0 = 684.412D;
+		 double d1 = 2053.236D;
+		 noiseData4 = netherNoiseGen6.generateNoiseOctaves(noiseData4, par2, par3, par4, par5, 1, par7, 1.0D, 0.0D, 1.0D);
+		 noiseData5 = netherNoiseGen7.generateNoiseOctaves(noiseData5, par2, par3, par4, par5, 1, par7, 100.0D, 0.0D, 100.0D);
+		 noiseData1 = netherNoiseGen3.generateNoiseOctaves(noiseData1, par2, par3, par4, par5, par6, par7, d0 / 80.0D, d1 / 60.0D, d0 / 80.0D);
+		 noiseData2 = netherNoiseGen1.generateNoiseOctaves(noiseData2, par2, par3, par4, par5, par6, par7, d0, d1, d0);
+		 noiseData3 = netherNoiseGen2.generateNoiseOctaves(noiseData3, par2, par3, par4, par5, par6, par7, d0, d1, d0);
+		 int k1 = 0;
+		 int l1 = 0;
+		 double[] adouble1 = new double[par6];
+		 int i2;
+
+		 for (i2 = 0; i2 < par6; ++i2)
+		 {
+			 adouble1[i2] = Math.cos(i2 * Math.PI * 6.0D / par6) * 2.0D;
+			 double d2 = i2;
+
+			 if (i2 > par6 / 2)
+			 {
+				 d2 = par6 - 1 - i2;
+			 }
+
+			 if (d2 < 4.0D)
+			 {
+				 d2 = 4.0D - d2;
+				 adouble1[i2] -= d2 * d2 * d2 * 10.0D;
+			 }
+		 }
+
+		 for (i2 = 0; i2 < par5; ++i2)
+		 {
+			 for (int j2 = 0; j2 < par7; ++j2)
+			 {
+				 double d3 = (noiseData4[l1] + 256.0D) / 512.0D;
+
+				 if (d3 > 1.0D)
+				 {
+					 d3 = 1.0D;
+				 }
+
+				 double d4 = 0.0D;
+				 double d5 = noiseData5[l1] / 8000.0D;
+
+				 if (d5 < 0.0D)
+				 {
+					 d5 = -d5;
+				 }
+
+				 d5 = d5 * 3.0D - 3.0D;
+
+				 if (d5 < 0.0D)
+				 {
+					 d5 /= 2.0D;
+
+					 if (d5 < -1.0D)
+					 {
+						 d5 = -1.0D;
+					 }
+
+					 d5 /= 1.4D;
+					 d5 /= 2.0D;
+					 d3 = 0.0D;
+				 }
+				 else
+				 {
+					 if (d5 > 1.0D)
+					 {
+						 d5 = 1.0D;
+					 }
+
+					 d5 /= 6.0D;
+				 }
+
+				 d3 += 0.5D;
+				 d5 = d5 * par6 / 16.0D;
+				 ++l1;
+
+				 for (int k2 = 0; k2 < par6; ++k2)
+				 {
+					 double d6 = 0.0D;
+					 double d7 = adouble1[k2];
+					 double d8 = noiseData2[k1] / 512.0D;
+					 double d9 = noiseData3[k1] / 512.0D;
+					 double d10 = (noiseData1[k1] / 10.0D + 1.0D) / 2.0D;
+
+					 if (d10 < 0.0D)
+					 {
+						 d6 = d8;
+					 }
+					 else if (d10 > 1.0D)
+					 {
+						 d6 = d9;
+					 }
+					 else
+					 {
+						 d6 = d8 + (d9 - d8) * d10;
+					 }
+
+					 d6 -= d7;
+					 double d11;
+
+					 if (k2 > par6 - 4)
+					 {
+						 d11 = (k2 - (par6 - 4)) / 3.0F;
+						 d6 = d6 * (1.0D - d11) + -10.0D * d11;
+					 }
+
+					 if (k2 < d4)
+					 {
+						 d11 = (d4 - k2) / 4.0D;
+
+						 if (d11 < 0.0D)
+						 {
+							 d11 = 0.0D;
+						 }
+
+						 if (d11 > 1.0D)
+						 {
+							 d11 = 1.0D;
+						 }
+
+						 d6 = d6 * (1.0D - d11) + -10.0D * d11;
+					 }
+
+					 par1ArrayOfDouble[k1] = d6;
+					 ++k1;
+				 }
+			 }
+		 }
+
+		 return par1ArrayOfDouble;
+	 }
+}
@@ -0,0 +1,246 @@
+package biomesoplenty.common.world;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.gen.ChunkProviderServer;
+import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
+import biomesoplenty.common.utils.BOPLogger;
+
+/**
+ * Generates the terrain of Nether chunks on worker threads before players reach them. Chunks are
+ * predicted from the direction each player is moving in, and only the shaping and surface stages
+ * are run early. Caves, structures and population still happen on the server thread once the chunk
+ * is actually provided.
+ *
+ * Apart from the workers themselves, everything here is only used from the server thread.
+ */
+public class NetherTerrainPrefetcher
+{
+	/** How far ahead of a player's current movement chunks are predicted */
+	private static final int LOOKAHEAD_TICKS = 60;
+	/** Players moving slower than this, in blocks per tick, don't have chunks predicted for them */
+	private static final double MIN_SPEED = 0.15D;
+	private static final int MAX_PENDING = 64;
+	private static final int MAX_SUBMITTED_PER_TICK = 4;
+	/** Predictions which still haven't been used after this long are dropped */
+	private static final int EXPIRY_TICKS = 1200;
+
+	private static ExecutorService executor;
+
+	private final long seed;
+
+	private final ThreadLocal<NetherTerrainGenerator> workerGenerators = new ThreadLocal<NetherTerrainGenerator>()
+	{
+		@Override
+		protected NetherTerrainGenerator initialValue()
+		{
+			return new NetherTerrainGenerator(seed);
+		}
+	};
+
+	private final ThreadLocal<Random> workerRandoms = new ThreadLocal<Random>()
+	{
+		@Override
+		protected Random initialValue()
+		{
+			return new Random();
+		}
+	};
+
+	private final Map<Long, PendingChunk> pendingChunks = new HashMap<Long, PendingChunk>();
+
+	/** The last position and smoothed velocity of each player, as x, z, motion x, motion z */
+	private final Map<EntityPlayer, double[]> playerMotion = new WeakHashMap<EntityPlayer, double[]>();
+
+	public NetherTerrainPrefetcher(long seed)
+	{
+		this.seed = seed;
+	}
+
+	/**
+	 * Removes and returns the prefetched blocks for a chunk, if they have finished generating. Chunks
+	 * which are still queued or generating are dropped, to be generated by the caller instead.
+	 */
+	public Block[] takeBlocks(int chunkX, int chunkZ)
+	{
+		PendingChunk pendingChunk = pendingChunks.remove(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+
+		if (pendingChunk == null) return null;
+
+		if (!pendingChunk.future.isDone())
+		{
+			pendingChunk.future.cancel(false);
+			return null;
+		}
+
+		try
+		{
+			return pendingChunk.future.get();
+		}
+		catch (Exception e)
+		{
+			BOPLogger.warning("Failed to prefetch Nether chunk at " + chunkX + ", " + chunkZ, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Predicts the chunks players are about to load and queues them for generation
+	 */
+	public void tick(WorldServer world)
+	{
+		long time = world.getTotalWorldTime();
+
+		for (Iterator<PendingChunk> iterator = pendingChunks.values().iterator(); iterator.hasNext();)
+		{
+			PendingChunk pendingChunk = iterator.next();
+
+			if (time - pendingChunk.submitTime > EXPIRY_TICKS)
+			{
+				pendingChunk.future.cancel(false);
+				iterator.remove();
+			}
+		}
+
+		int viewDistance = MinecraftServer.getServer().getConfigurationManager().getViewDistance();
+		int submitted = 0;
+
+		for (Object object : world.playerEntities)
+		{
+			EntityPlayer player = (EntityPlayer)object;
+			double[] motion = this.updateMotion(player);
+
+			if (motion[2] * motion[2] + motion[3] * motion[3] < MIN_SPEED * MIN_SPEED) continue;
+
+			int currentChunkX = MathHelper.floor_double(player.posX) >> 4;
+			int currentChunkZ = MathHelper.floor_double(player.posZ) >> 4;
+			int predictedChunkX = MathHelper.floor_double(player.posX + motion[2] * LOOKAHEAD_TICKS) >> 4;
+			int predictedChunkZ = MathHelper.floor_double(player.posZ + motion[3] * LOOKAHEAD_TICKS) >> 4;
+
+			for (int chunkX = predictedChunkX - viewDistance; chunkX <= predictedChunkX + viewDistance; chunkX++)
+			{
+				for (int chunkZ = predictedChunkZ - viewDistance; chunkZ <= predictedChunkZ + viewDistance; chunkZ++)
+				{
+					//Chunks within view of the player's current position have already been loaded
+					if (Math.abs(chunkX - currentChunkX) <= viewDistance && Math.abs(chunkZ - currentChunkZ) <= viewDistance) continue;
+
+					if (submitted >= MAX_SUBMITTED_PER_TICK || pendingChunks.size() >= MAX_PENDING) return;
+
+					if (this.prefetch(world, chunkX, chunkZ)) submitted++;
+				}
+			}
+		}
+	}
+
+	private double[] updateMotion(EntityPlayer player)
+	{
+		double[] motion = playerMotion.get(player);
+
+		if (motion == null)
+		{
+			motion = new double[] { player.posX, player.posZ, 0.0D, 0.0D };
+			playerMotion.put(player, motion);
+		}
+
+		double deltaX = player.posX - motion[0];
+		double deltaZ = player.posZ - motion[1];
+
+		//Teleports aren't movement
+		if (Math.abs(deltaX) > 16.0D || Math.abs(deltaZ) > 16.0D)
+		{
+			deltaX = 0.0D;
+			deltaZ = 0.0D;
+			motion[2] = 0.0D;
+			motion[3] = 0.0D;
+		}
+
+		//Movement packets don't arrive every tick, so smooth the velocity out
+		motion[0] = player.posX;
+		motion[1] = player.posZ;
+		motion[2] = motion[2] * 0.9D + deltaX * 0.1D;
+		motion[3] = motion[3] * 0.9D + deltaZ * 0.1D;
+
+		return motion;
+	}
+
+	private boolean prefetch(WorldServer world, final int chunkX, final int chunkZ)
+	{
+		Long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		ChunkProviderServer chunkProvider = world.theChunkProviderServer;
+
+		if (pendingChunks.containsKey(key) || chunkProvider.chunkExists(chunkX, chunkZ)) return false;
+
+		//Chunks which have been saved will be loaded rather than generated
+		if (chunkProvider.currentChunkLoader instanceof AnvilChunkLoader && ((AnvilChunkLoader)chunkProvider.currentChunkLoader).chunkExists(world, chunkX, chunkZ)) return false;
+
+		//Biomes aren't safe to look up off the server thread, so they are fetched before the task is queued
+		final BiomeGenBase[] biomes = world.getWorldChunkManager().loadBlockGeneratorData((BiomeGenBase[])null, chunkX * 16, chunkZ * 16, 16, 16);
+
+		Future<Block[]> future = getExecutor().submit(new Callable<Block[]>()
+		{
+			@Override
+			public Block[] call()
+			{
+				return workerGenerators.get().generateChunkBlocks(chunkX, chunkZ, biomes, workerRandoms.get());
+			}
+		});
+
+		pendingChunks.put(key, new PendingChunk(future, world.getTotalWorldTime()));
+
+		return true;
+	}
+
+	private static synchronized ExecutorService getExecutor()
+	{
+		if (executor == null)
+		{
+			executor = Executors.newFixedThreadPool(Math.max(1, BOPConfigurationTerrainGen.netherPrefetchThreads), new ThreadFactory()
+			{
+				private final AtomicInteger threadCount = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable runnable)
+				{
+					Thread thread = new Thread(runnable, "BoP Nether Prefetch #" + threadCount.incrementAndGet());
+
+					thread.setDaemon(true);
+					thread.setPriority(Thread.NORM_PRIORITY - 1);
+
+					return thread;
+				}
+			});
+		}
+
+		return executor;
+	}
+
+	private static class PendingChunk
+	{
+		public final Future<Block[]> future;
+		public final long submitTime;
+
+		public PendingChunk(Future<Block[]> future, long submitTime)
+		{
+			this.future = future;
+			this.submitTime = submitTime;
+		}
+	}
+}
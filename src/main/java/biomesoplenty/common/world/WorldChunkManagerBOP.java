@@ -1,14 +1,17 @@
 package biomesoplenty.common.world;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import cpw.mods.fml.common.ObfuscationReflectionHelper;
 import biomesoplenty.common.configuration.BOPConfigurationMisc;
 import biomesoplenty.common.world.layer.GenLayerBOP;
+import biomesoplenty.common.world.layer.GenLayerTileCache;
 import net.minecraft.world.ChunkPosition;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.WorldChunkManager;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.GenLayerAddIsland;
@@ -28,24 +31,143 @@ import net.minecraft.world.gen.layer.GenLayerShore;
 import net.minecraft.world.gen.layer.GenLayerSmooth;
 import net.minecraft.world.gen.layer.GenLayerVoronoiZoom;
 import net.minecraft.world.gen.layer.GenLayerZoom;
+import net.minecraft.world.gen.layer.IntCache;
 
 public class WorldChunkManagerBOP extends WorldChunkManager
 {
+	/** The width of each ring of the biome search, in cells of the 1:4 biome layer */
+	private static final int SEARCH_RING_WIDTH = 64;
+	
+	private final GenLayer genBiomes;
+	private final GenLayer biomeIndexLayer;
+	
 	public WorldChunkManagerBOP(World world)
 	{
 		super();
 		
         GenLayer[] agenlayer = GenLayerBOP.initializeAllBiomeGenerators(world.getSeed(), world.getWorldInfo().getTerrainType());
         agenlayer = getModdedBiomeGenerators(world.getWorldInfo().getTerrainType(), world.getSeed(), agenlayer);
+        
+        //Each tile of the generation layer covers 1024x1024 blocks, and each tile of the index layer 256x256
+        agenlayer[0] = new GenLayerTileCache(agenlayer[0], 8);
+        agenlayer[1] = new GenLayerTileCache(agenlayer[1], 16);
+        
+        this.genBiomes = agenlayer[0];
+        this.biomeIndexLayer = agenlayer[1];
+        
         ObfuscationReflectionHelper.setPrivateValue(WorldChunkManager.class, this, agenlayer[0], "genBiomes", "field_76944_d");
         ObfuscationReflectionHelper.setPrivateValue(WorldChunkManager.class, this, agenlayer[1], "biomeIndexLayer", "field_76945_e");
 	}
 	
+    /**
+     * Searches the biome layer at 1:4 scale in rings around the centre, so that a match near the centre is
+     * found without generating the whole area, and then refines the chosen cell at full resolution. The
+     * configured spawn search radius is only used for spawn searches, other callers keep their own radius.
+     */
     @Override
 	public ChunkPosition findBiomePosition(int x, int z, int radius, List biomesToSpawnIn, Random random)
     {
-    	int spawnSearchRadius = BOPConfigurationMisc.spawnSearchRadius;
+    	if (biomesToSpawnIn == this.getBiomesToSpawnIn()) radius = BOPConfigurationMisc.spawnSearchRadius;
+    	
+    	boolean[] allowedBiomes = new boolean[BiomeGenBase.getBiomeGenArray().length];
+    	
+    	for (Object biome : biomesToSpawnIn)
+    	{
+    		if (biome != null) allowedBiomes[((BiomeGenBase)biome).biomeID] = true;
+    	}
+    	
+    	int centerX = x >> 2;
+    	int centerZ = z >> 2;
+    	int cellRadius = radius >> 2;
+    	List<Integer> candidates = new ArrayList<Integer>();
+    	
+    	IntCache.resetIntCache();
+    	
+    	for (int innerRadius = -1; innerRadius < cellRadius; innerRadius += SEARCH_RING_WIDTH)
+    	{
+    		int outerRadius = Math.min(innerRadius + SEARCH_RING_WIDTH, cellRadius);
+    		
+    		if (innerRadius < 0)
+    		{
+    			this.findCandidates(centerX - outerRadius, centerZ - outerRadius, outerRadius * 2 + 1, outerRadius * 2 + 1, allowedBiomes, candidates);
+    		}
+    		else
+    		{
+    			//Each ring is made up of the strips above and below the area already searched, and the strips either side of it
+    			this.findCandidates(centerX - outerRadius, centerZ - outerRadius, outerRadius * 2 + 1, outerRadius - innerRadius, allowedBiomes, candidates);
+    			this.findCandidates(centerX - outerRadius, centerZ + innerRadius + 1, outerRadius * 2 + 1, outerRadius - innerRadius, allowedBiomes, candidates);
+    			this.findCandidates(centerX - outerRadius, centerZ - innerRadius, outerRadius - innerRadius, innerRadius * 2 + 1, allowedBiomes, candidates);
+    			this.findCandidates(centerX + innerRadius + 1, centerZ - innerRadius, outerRadius - innerRadius, innerRadius * 2 + 1, allowedBiomes, candidates);
+    		}
+    		
+    		IntCache.resetIntCache();
+    		
+    		if (!candidates.isEmpty()) return this.refineCandidate(candidates, allowedBiomes, random);
+    	}
+    	
+    	return null;
+    }
+    
+    /**
+     * Adds the position of every cell of the given area of the 1:4 biome layer which is in an allowed biome
+     */
+    private void findCandidates(int cellX, int cellZ, int width, int length, boolean[] allowedBiomes, List<Integer> candidates)
+    {
+    	if (width <= 0 || length <= 0) return;
+    	
+    	int[] biomeIDs = this.genBiomes.getInts(cellX, cellZ, width, length);
+    	
+    	for (int i = 0; i < width * length; i++)
+    	{
+    		int biomeID = biomeIDs[i];
+    		
+    		if (biomeID >= 0 && biomeID < allowedBiomes.length && allowedBiomes[biomeID])
+    		{
+    			candidates.add(cellX + i % width);
+    			candidates.add(cellZ + i / width);
+    		}
+    	}
+    }
+    
+    /**
+     * Picks a random candidate cell and finds a block within it which is in an allowed biome at full resolution.
+     * Cells which only matched at 1:4 scale are skipped, although if none of them match their centre is used.
+     */
+    private ChunkPosition refineCandidate(List<Integer> candidates, boolean[] allowedBiomes, Random random)
+    {
+    	int fallbackX = candidates.get(0) << 2;
+    	int fallbackZ = candidates.get(1) << 2;
+    	
+    	while (!candidates.isEmpty())
+    	{
+    		int candidate = random.nextInt(candidates.size() / 2) * 2;
+    		int blockX = candidates.get(candidate) << 2;
+    		int blockZ = candidates.get(candidate + 1) << 2;
+    		int[] biomeIDs = this.biomeIndexLayer.getInts(blockX, blockZ, 4, 4);
+    		int matches = 0;
+    		ChunkPosition position = null;
+    		
+    		for (int i = 0; i < 16; i++)
+    		{
+    			int biomeID = biomeIDs[i];
+    			
+    			if (biomeID >= 0 && biomeID < allowedBiomes.length && allowedBiomes[biomeID] && random.nextInt(++matches) == 0)
+    			{
+    				position = new ChunkPosition(blockX + (i & 3), 0, blockZ + (i >> 2));
+    			}
+    		}
+    		
+    		if (position != null) return position;
+    		
+    		//Swap the last candidate into this one's place rather than shifting the rest of the list
+    		int last = candidates.size() - 2;
+    		
+    		candidates.set(candidate, candidates.get(last));
+    		candidates.set(candidate + 1, candidates.get(last + 1));
+    		candidates.remove(last + 1);
+    		candidates.remove(last);
+    	}
     	
-    	return super.findBiomePosition(x, z, spawnSearchRadius, biomesToSpawnIn, random);
+    	return new ChunkPosition(fallbackX + 2, 0, fallbackZ + 2);
     }
 }
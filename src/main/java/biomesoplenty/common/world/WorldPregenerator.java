@@ -0,0 +1,295 @@
+package biomesoplenty.common.world;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.DimensionManager;
+import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
+import biomesoplenty.common.utils.BOPLogger;
+
+/**
+ * Generates and populates every chunk within a square around a dimension's spawn point, spiralling
+ * outwards from the centre. Work is limited to a few milliseconds of each server tick, and progress
+ * is checkpointed to the world's save folder so that it carries on after a restart.
+ */
+public class WorldPregenerator
+{
+	/** Chunks loaded by the pregenerator beyond this many are queued to be saved and unloaded */
+	private static final int MAX_LOADED_CHUNKS = 256;
+	private static final int CHECKPOINT_INTERVAL = 100;
+	private static final long REPORT_INTERVAL = 30000L;
+
+	private static WorldPregenerator current;
+
+	public final int dimension;
+	public final int centerX;
+	public final int centerZ;
+	public final int radius;
+	public final long totalChunks;
+
+	/** The number of chunks of the spiral which have been completed */
+	private long index;
+	private int x;
+	private int z;
+	private int directionX = 0;
+	private int directionZ = -1;
+
+	private final Deque<Long> loadedChunks = new ArrayDeque<Long>();
+
+	private final long startTime = System.currentTimeMillis();
+	private final long startIndex;
+	private long lastReport = startTime;
+
+	private WorldPregenerator(int dimension, int centerX, int centerZ, int radius, long index)
+	{
+		this.dimension = dimension;
+		this.centerX = centerX;
+		this.centerZ = centerZ;
+		this.radius = radius;
+		this.totalChunks = (2L * radius + 1) * (2L * radius + 1);
+
+		for (long i = 0; i < index; i++)
+		{
+			this.advance();
+		}
+
+		this.index = index;
+		this.startIndex = index;
+	}
+
+	/**
+	 * Begins pregenerating the given dimension, replacing any pregeneration already in progress
+	 *
+	 * @param radius the radius of the square to generate, in chunks
+	 */
+	public static WorldPregenerator start(WorldServer world, int radius)
+	{
+		if (current != null) current.stop();
+
+		current = new WorldPregenerator(world.provider.dimensionId, world.getSpawnPoint().posX >> 4, world.getSpawnPoint().posZ >> 4, radius, 0);
+		current.saveCheckpoint();
+
+		return current;
+	}
+
+	/**
+	 * Carries on from the checkpoint left in the current save, if there is one
+	 */
+	public static void resume()
+	{
+		File file = getCheckpointFile();
+
+		if (!file.exists()) return;
+
+		try
+		{
+			NBTTagCompound compound = CompressedStreamTools.read(file);
+
+			current = new WorldPregenerator(compound.getInteger("Dimension"), compound.getInteger("CenterX"), compound.getInteger("CenterZ"), compound.getInteger("Radius"), compound.getLong("Index"));
+
+			BOPLogger.info("Resuming pregeneration of dimension " + current.dimension + " at " + current.index + "/" + current.totalChunks + " chunks");
+		}
+		catch (IOException e)
+		{
+			BOPLogger.warning("Unable to read pregeneration checkpoint", e);
+		}
+	}
+
+	public static WorldPregenerator getCurrent()
+	{
+		return current;
+	}
+
+	/**
+	 * Stops pregeneration, leaving the checkpoint behind so that it can be resumed on the next start
+	 */
+	public static void pause()
+	{
+		if (current == null) return;
+
+		current.saveCheckpoint();
+		current.unloadChunks(0);
+		current = null;
+	}
+
+	/**
+	 * Stops pregeneration and discards its progress
+	 */
+	public void stop()
+	{
+		this.unloadChunks(0);
+
+		if (current == this) current = null;
+
+		getCheckpointFile().delete();
+	}
+
+	public void tick()
+	{
+		WorldServer world = DimensionManager.getWorld(dimension);
+
+		if (world == null)
+		{
+			DimensionManager.initDimension(dimension);
+			world = DimensionManager.getWorld(dimension);
+
+			if (world == null)
+			{
+				BOPLogger.warning("Unable to load dimension " + dimension + " for pregeneration");
+				this.stop();
+				return;
+			}
+		}
+
+		long endTime = System.nanoTime() + BOPConfigurationTerrainGen.pregenTickBudget * 1000000L;
+
+		while (index < totalChunks && System.nanoTime() < endTime)
+		{
+			this.generateChunk(world, centerX + x, centerZ + z);
+			this.advance();
+
+			if (++index % CHECKPOINT_INTERVAL == 0) this.saveCheckpoint();
+		}
+
+		this.unloadChunks(MAX_LOADED_CHUNKS);
+
+		if (index >= totalChunks)
+		{
+			BOPLogger.info("Finished pregenerating " + totalChunks + " chunks in dimension " + dimension);
+			this.stop();
+		}
+		else if (System.currentTimeMillis() - lastReport >= REPORT_INTERVAL)
+		{
+			lastReport = System.currentTimeMillis();
+
+			BOPLogger.info(this.getStatus());
+		}
+	}
+
+	public String getStatus()
+	{
+		double chunksPerSecond = this.getChunksPerSecond();
+		String eta = chunksPerSecond > 0.0D ? formatDuration((long)((totalChunks - index) / chunksPerSecond)) : "unknown";
+
+		return String.format("Pregenerating dimension %d: %d/%d chunks (%.1f%%), %.1f chunks/s, %s remaining", dimension, index, totalChunks, index * 100.0D / totalChunks, chunksPerSecond, eta);
+	}
+
+	public double getChunksPerSecond()
+	{
+		long elapsed = System.currentTimeMillis() - startTime;
+
+		return elapsed > 0L ? (index - startIndex) * 1000.0D / elapsed : 0.0D;
+	}
+
+	/**
+	 * Chunks are only populated once the chunks on their positive sides exist, so those are loaded too
+	 */
+	private void generateChunk(WorldServer world, int chunkX, int chunkZ)
+	{
+		this.loadChunk(world, chunkX, chunkZ);
+		this.loadChunk(world, chunkX + 1, chunkZ);
+		this.loadChunk(world, chunkX, chunkZ + 1);
+		this.loadChunk(world, chunkX + 1, chunkZ + 1);
+	}
+
+	private void loadChunk(WorldServer world, int chunkX, int chunkZ)
+	{
+		ChunkProviderServer chunkProvider = world.theChunkProviderServer;
+
+		if (chunkProvider.chunkExists(chunkX, chunkZ)) return;
+
+		chunkProvider.loadChunk(chunkX, chunkZ);
+		loadedChunks.add(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+	}
+
+	/**
+	 * Queues the oldest chunks loaded by the pregenerator to be saved and unloaded, leaving the given number loaded
+	 */
+	private void unloadChunks(int keepLoaded)
+	{
+		WorldServer world = DimensionManager.getWorld(dimension);
+
+		if (world == null)
+		{
+			loadedChunks.clear();
+			return;
+		}
+
+		while (loadedChunks.size() > keepLoaded)
+		{
+			long key = loadedChunks.poll();
+			int chunkX = (int)key;
+			int chunkZ = (int)(key >> 32);
+
+			if (!isWatched(world, chunkX, chunkZ)) world.theChunkProviderServer.unloadChunksIfNotNearSpawn(chunkX, chunkZ);
+		}
+	}
+
+	private static boolean isWatched(WorldServer world, int chunkX, int chunkZ)
+	{
+		for (Object object : world.playerEntities)
+		{
+			if (world.getPlayerManager().isPlayerWatchingChunk((EntityPlayerMP)object, chunkX, chunkZ)) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Moves to the next position of a square spiral around the centre
+	 */
+	private void advance()
+	{
+		if (x == z || (x < 0 && x == -z) || (x > 0 && x == 1 - z))
+		{
+			int previousX = directionX;
+
+			directionX = -directionZ;
+			directionZ = previousX;
+		}
+
+		x += directionX;
+		z += directionZ;
+	}
+
+	private void saveCheckpoint()
+	{
+		NBTTagCompound compound = new NBTTagCompound();
+
+		compound.setInteger("Dimension", dimension);
+		compound.setInteger("CenterX", centerX);
+		compound.setInteger("CenterZ", centerZ);
+		compound.setInteger("Radius", radius);
+		compound.setLong("Index", index);
+
+		try
+		{
+			File file = getCheckpointFile();
+
+			file.getParentFile().mkdirs();
+			CompressedStreamTools.safeWrite(compound, file);
+		}
+		catch (IOException e)
+		{
+			BOPLogger.warning("Unable to write pregeneration checkpoint", e);
+		}
+	}
+
+	private static File getCheckpointFile()
+	{
+		return new File(DimensionManager.getCurrentSaveRootDirectory(), "biomesoplenty/pregen.dat");
+	}
+
+	private static String formatDuration(long seconds)
+	{
+		return String.format("%d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+	}
+}
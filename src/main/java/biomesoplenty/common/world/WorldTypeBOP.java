@@ -4,10 +4,10 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.WorldChunkManager;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.GenLayerBiomeEdge;
-import net.minecraft.world.gen.layer.GenLayerZoom;
 import net.minecraftforge.common.DimensionManager;
 import biomesoplenty.common.world.layer.GenLayerBiomeBOP;
+import biomesoplenty.common.world.layer.GenLayerBiomeEdgeBOP;
+import biomesoplenty.common.world.layer.GenLayerZoomBOP;
 
 public class WorldTypeBOP extends WorldType
 {
@@ -29,8 +29,8 @@ public class WorldTypeBOP extends WorldType
     {
         GenLayer ret = new GenLayerBiomeBOP(200L, parentLayer, this);
 
-        ret = GenLayerZoom.magnify(1000L, ret, 2);
-        ret = new GenLayerBiomeEdge(1000L, ret);
+        ret = GenLayerZoomBOP.magnify(1000L, ret, 2);
+        ret = new GenLayerBiomeEdgeBOP(1000L, ret);
         return ret;
     }
 
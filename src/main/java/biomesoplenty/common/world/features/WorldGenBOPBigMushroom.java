@@ -1,18 +1,18 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPBigMushroom extends WorldGeneratorBOP
 {
-    private List soilBlocks;
+    private BlockSet soilBlocks;
 	
     /** The mushroom type. 0 for brown, 1 for red. */
     private int mushroomType = -1;
@@ -21,7 +21,7 @@ public class WorldGenBOPBigMushroom extends WorldGeneratorBOP
     {
         super(false);
         
-        this.soilBlocks = Arrays.asList(soilBlocks);
+        this.soilBlocks = BlockSet.of(soilBlocks);
     }
 
     @Override
@@ -215,7 +215,7 @@ public class WorldGenBOPBigMushroom extends WorldGeneratorBOP
     }
 
 	@Override
-	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z) 
+	public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z) 
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
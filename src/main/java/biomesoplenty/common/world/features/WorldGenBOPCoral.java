@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPCoral extends WorldGeneratorBOP
@@ -55,13 +56,13 @@ public class WorldGenBOPCoral extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
-			int randY = random.nextInt(world.getHeightValue(randX, randZ) * 2);
+			int randY = random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
 			this.generate(world, random, randX, randY, randZ);
 		}
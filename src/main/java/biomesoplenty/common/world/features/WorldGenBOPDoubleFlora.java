@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.DecorationRegion;
 
 public class WorldGenBOPDoubleFlora extends WorldGenBOPFlora
 {
@@ -72,8 +73,8 @@ public class WorldGenBOPDoubleFlora extends WorldGenBOPFlora
                 {
                     if (bottomFlora != null && this.bottomFlora.canReplace(world, i1, j1, k1, 0, new ItemStack(bottomFlora, 1, bottomFloraMeta)))
                     {
-                        world.setBlock(i1, j1, k1, this.bottomFlora, this.bottomFloraMeta, 2);
-                        world.setBlock(i1, j1 + 1, k1, this.topFlora, this.topFloraMeta, 2);
+                        this.setBlockAndNotifyAdequately(world, i1, j1, k1, this.bottomFlora, this.bottomFloraMeta);
+                        this.setBlockAndNotifyAdequately(world, i1, j1 + 1, k1, this.topFlora, this.topFloraMeta);
                     }
                 }
             }
@@ -83,13 +84,13 @@ public class WorldGenBOPDoubleFlora extends WorldGenBOPFlora
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
-			int randY = random.nextInt(world.getHeightValue(randX, randZ) * 2);
+			int randY = random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
             this.generate(world, random, randX, randY, randZ);
 		}
@@ -8,6 +8,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPFlora extends WorldGeneratorBOP
@@ -44,7 +45,7 @@ public class WorldGenBOPFlora extends WorldGeneratorBOP
             (flora == Blocks.web ? world.getBlock(i1, j1 + 1, k1) == BOPCBlocks.leaves2 || world.getBlock(i1, j1 + 1, k1) == BOPCBlocks.colorizedLeaves2 || world.getBlock(i1, j1 - 1, k1) == Blocks.grass : 
             this.flora.canReplace(world, i1, j1, k1, 0, new ItemStack(flora, 1, floraMeta))))
             {
-                world.setBlock(i1, j1, k1, this.flora, this.floraMeta, 2);
+                this.setBlockAndNotifyAdequately(world, i1, j1, k1, this.flora, this.floraMeta);
             }
         }
 
@@ -52,7 +53,7 @@ public class WorldGenBOPFlora extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPTallGrass extends WorldGeneratorBOP
@@ -25,6 +26,8 @@ public class WorldGenBOPTallGrass extends WorldGeneratorBOP
     {
         Block block;
 
+        y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
         do
         {
         	block = world.getBlock(x, y, z);
@@ -43,7 +46,7 @@ public class WorldGenBOPTallGrass extends WorldGeneratorBOP
 
         	if (world.isAirBlock(i1, j1, k1) && (this.tallGrass.canReplace(world, i1, j1, k1, 0, new ItemStack(this.tallGrass, 1, this.tallGrassMetadata))))
         	{
-        		world.setBlock(i1, j1, k1, this.tallGrass, this.tallGrassMetadata, 2);
+        		this.setBlockAndNotifyAdequately(world, i1, j1, k1, this.tallGrass, this.tallGrassMetadata);
         	}
         }
 
@@ -51,13 +54,13 @@ public class WorldGenBOPTallGrass extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
-			int randY = world.provider.isHellWorld ? random.nextInt(128) : random.nextInt(world.getHeightValue(randX, randZ) * 2);
+			int randY = world.provider.isHellWorld ? random.nextInt(128) : random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
             this.generate(world, random, randX, randY, randZ);
 		}
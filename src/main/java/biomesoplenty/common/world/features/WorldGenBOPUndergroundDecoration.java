@@ -6,6 +6,7 @@ import net.minecraft.block.Block;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
@@ -24,6 +25,8 @@ public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
     {
         Block block;
 
+        y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
         do
         {
             block = world.getBlock(x, y, z);
@@ -42,7 +45,7 @@ public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
 
             if (world.isAirBlock(i1, j1, k1) && this.tallGrass.canReplace(world, i1, j1, k1, 0, new ItemStack(this.tallGrass, 1, this.tallGrassMetadata)))
             {
-                world.setBlock(i1, j1, k1, this.tallGrass, this.tallGrassMetadata, 2);
+                this.setBlockAndNotifyAdequately(world, i1, j1, k1, this.tallGrass, this.tallGrassMetadata);
             }
         }
 
@@ -50,7 +53,7 @@ public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
@@ -7,6 +7,7 @@ import net.minecraft.entity.monster.EntitySpider;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenCobwebNest extends WorldGeneratorBOP
@@ -16,6 +17,8 @@ public class WorldGenCobwebNest extends WorldGeneratorBOP
     {
         Block var15;
 
+        par4 = DecorationRegion.skipAirAboveSurface(par1World, par3, par4, par5, 1);
+
         for (boolean var6 = false; ((var15 = par1World.getBlock(par3, par4, par5)) == Blocks.air || var15 == Blocks.web) && par4 > 0; --par4)
         {
             ;
@@ -63,13 +66,13 @@ public class WorldGenCobwebNest extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
         for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
-            int randY = random.nextInt(world.getHeightValue(randX, randZ) * 2);
+            int randY = random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
             this.generate(world, random, randX, randY, randZ);
         }
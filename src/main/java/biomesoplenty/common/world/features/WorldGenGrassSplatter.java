@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenGrassSplatter extends WorldGeneratorBOP
@@ -16,6 +17,8 @@ public class WorldGenGrassSplatter extends WorldGeneratorBOP
     {
         Block block;
 
+        y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
         do
         {
             block = world.getBlock(x, y, z);
@@ -36,23 +39,23 @@ public class WorldGenGrassSplatter extends WorldGeneratorBOP
 
             if (world.isAirBlock(randX, randY, randZ) && (world.getBlock(randX, randY - 1, randZ) == BOPCBlocks.hardSand || world.getBlock(randX, randY - 1, randZ) == BOPCBlocks.mud || world.getBlock(randX, randY - 1, randZ) == BOPCBlocks.hardDirt || world.getBlock(randX, randY - 1, randZ) == Blocks.sand || world.getBlock(randX, randY - 1, randZ) == Blocks.stone))
             {
-                world.setBlock(randX, randY - 1, randZ, Blocks.grass, 0, 2);
+                this.setBlockAndNotifyAdequately(world, randX, randY - 1, randZ, Blocks.grass, 0);
 
                 if (var999 == 0)
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.foliage, 2, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.foliage, 2);
                 }
                 else if (var999 == 1)
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.foliage, 10, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.foliage, 10);
                 }
                 else if (var999 == 2)
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.foliage, 11, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.foliage, 11);
                 }
                 else
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.foliage, 2, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.foliage, 2);
                 }
             }
         }
@@ -61,13 +64,13 @@ public class WorldGenGrassSplatter extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
         for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
-            int randY = random.nextInt(world.getHeightValue(randX, randZ) * 2);
+            int randY = random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
             this.generate(world, random, randX, randY, randZ);
         }
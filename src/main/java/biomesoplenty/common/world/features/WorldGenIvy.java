@@ -7,6 +7,7 @@ import net.minecraft.util.Facing;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenIvy extends WorldGeneratorBOP
@@ -40,13 +41,13 @@ public class WorldGenIvy extends WorldGeneratorBOP
 	}
 	
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
-			int randY = random.nextInt(world.getHeightValue(randX, randZ) * 2);
+			int randY = random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
             this.generate(world, random, randX, randY, randZ);
 		}
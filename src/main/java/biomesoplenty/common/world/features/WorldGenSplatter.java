@@ -1,12 +1,12 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenSplatter extends WorldGeneratorBOP
@@ -14,13 +14,13 @@ public class WorldGenSplatter extends WorldGeneratorBOP
 	private Block splatterBlock;
 	private int splatterBlockMeta;
 	
-	private List<Block> blocksToSplatter;
+	private BlockSet blocksToSplatter;
 	
 	public WorldGenSplatter(Block splatterBlock, int splatterBlockMeta, Block... blocksToSplatter)
 	{
 		this.splatterBlock = splatterBlock;
 		this.splatterBlockMeta = splatterBlockMeta;
-		this.blocksToSplatter = Arrays.asList(blocksToSplatter);
+		this.blocksToSplatter = BlockSet.of(blocksToSplatter);
 	}
 	
 	public WorldGenSplatter(Block splatterBlock, Block... blocksToSplatter)
@@ -33,6 +33,8 @@ public class WorldGenSplatter extends WorldGeneratorBOP
 	{
 		Block block;
 
+		y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
 		do
 		{
 			block = world.getBlock(x, y, z);
@@ -51,7 +53,7 @@ public class WorldGenSplatter extends WorldGeneratorBOP
 
 			if (world.isAirBlock(i1, j1, k1) && blocksToSplatter.contains(world.getBlock(i1, j1 - 1, k1)))
 			{
-				world.setBlock(i1, j1 - 1, k1, this.splatterBlock, this.splatterBlockMeta, 2);
+				this.setBlockAndNotifyAdequately(world, i1, j1 - 1, k1, this.splatterBlock, this.splatterBlockMeta);
 			}
 		}
 
@@ -59,7 +61,7 @@ public class WorldGenSplatter extends WorldGeneratorBOP
 	}
 	
 	@Override
-	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z) 
+	public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z) 
 	{
 		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
 		{
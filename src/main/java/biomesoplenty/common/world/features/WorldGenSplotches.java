@@ -1,14 +1,15 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.MathHelper;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenSplotches extends WorldGeneratorBOP
@@ -18,7 +19,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
 
     private int numberOfBlocks;
 
-    private List blockList;
+    private BlockSet blockList;
 
     public WorldGenSplotches(Block quicksandBlock, int quicksandBlockMeta, int numberOfBlocks, Block... blockList)
     {
@@ -28,11 +29,19 @@ public class WorldGenSplotches extends WorldGeneratorBOP
         this.splotchBlockMeta = quicksandBlockMeta;
         this.numberOfBlocks = numberOfBlocks;
 
-        this.blockList = Arrays.asList(blockList);
+        this.blockList = BlockSet.of(blockList);
     }
 
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
+    {
+        return this.generate(world, world, random, x, y, z);
+    }
+
+    /**
+     * @param blockAccess used to check the blocks to be replaced, which may be a faster view of the world during decoration
+     */
+    private boolean generate(World world, IBlockAccess blockAccess, Random random, int x, int y, int z)
     {
         float var6 = random.nextFloat() * (float)Math.PI;
         double var7 = x + 8 + MathHelper.sin(var6) * numberOfBlocks / 8.0F;
@@ -73,9 +82,14 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                             {
                                 double var45 = (var44 + 0.5D - var24) / (var28 / 2.0D);
 
-                                if (var39 * var39 + var42 * var42 + var45 * var45 < 1.0D && world.getBlock(var38, var41, var44) != Blocks.air && (blockList.contains(world.getBlock(var38, var41, var44))))
+                                if (var39 * var39 + var42 * var42 + var45 * var45 < 1.0D)
                                 {
-                                    this.setBlockAndNotifyAdequately(world, var38, var41, var44, splotchBlock, splotchBlockMeta);
+                                    Block block = blockAccess.getBlock(var38, var41, var44);
+
+                                    if (block != Blocks.air && blockList.contains(block))
+                                    {
+                                        this.setBlockAndNotifyAdequately(world, var38, var41, var44, splotchBlock, splotchBlockMeta);
+                                    }
                                 }
                             }
                         }
@@ -88,7 +102,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
         if (featureName.equals("generateQuicksand") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateQuicksand"))
         {
@@ -98,7 +112,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(64) + 64;
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateCanyon") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateCanyon"))
@@ -109,7 +123,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(64) + 64;
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateStoneInGrass") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateStoneInGrass"))
@@ -120,7 +134,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(64) + 64;
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateStoneInGrass2") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateStoneInGrass2"))
@@ -131,7 +145,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(64) + 64;
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateGrass") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateGrass"))
@@ -142,7 +156,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(128);
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateSand") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateSand"))
@@ -153,7 +167,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(128);
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateQuagmire") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateQuagmire"))
@@ -164,7 +178,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(64) + 64;
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateAsh") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateAsh"))
@@ -175,7 +189,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(128);
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateMycelium") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateMycelium"))
@@ -186,7 +200,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(128);
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
         else if (featureName.equals("generateSponge") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateSponge"))
@@ -197,7 +211,7 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                 int randY = random.nextInt(64);
                 int randZ = z + random.nextInt(16);
 
-                this.generate(world, random, randX, randY, randZ);
+                this.generate(world, region, random, randX, randY, randZ);
             }
         }
     }
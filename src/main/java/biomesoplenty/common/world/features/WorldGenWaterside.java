@@ -1,18 +1,18 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenWaterside extends WorldGeneratorBOP
 {
-    private List sideBlocks;
+    private BlockSet sideBlocks;
     
     private Block watersideBlock;
     private int radius;
@@ -24,7 +24,7 @@ public class WorldGenWaterside extends WorldGeneratorBOP
         this.watersideBlock = watersideBlock;
         this.radius = radius;
         
-        this.sideBlocks = Arrays.asList(sideBlocks);
+        this.sideBlocks = BlockSet.of(sideBlocks);
     }
 
     @Override
@@ -66,14 +66,14 @@ public class WorldGenWaterside extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
         for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
 
-            this.generate(world, random, randX, world.getTopSolidOrLiquidBlock(randX, randZ), randZ);
+            this.generate(world, random, randX, region.getTopSolidOrLiquidBlock(randX, randZ), randZ);
         }
     }
 }
@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenXericSplatter extends WorldGeneratorBOP
@@ -16,6 +17,8 @@ public class WorldGenXericSplatter extends WorldGeneratorBOP
     {
         Block block;
 
+        y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
         do
         {
             block = world.getBlock(x, y, z);
@@ -36,31 +39,31 @@ public class WorldGenXericSplatter extends WorldGeneratorBOP
 
             if (world.isAirBlock(randX, randY, randZ) && (world.getBlock(randX, randY - 1, randZ) == BOPCBlocks.hardSand || world.getBlock(randX, randY - 1, randZ) == BOPCBlocks.mud || world.getBlock(randX, randY - 1, randZ) == BOPCBlocks.hardDirt || world.getBlock(randX, randY - 1, randZ) == Blocks.sand || world.getBlock(randX, randY - 1, randZ) == Blocks.stone))
             {
-                world.setBlock(randX, randY - 1, randZ, Blocks.grass, 0, 2);
+                this.setBlockAndNotifyAdequately(world, randX, randY - 1, randZ, Blocks.grass, 0);
 
                 if (var999 == 0)
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.flowers, 7, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.flowers, 7);
                 }
                 else if (var999 == 2)
                 {
-                    world.setBlock(randX, randY, randZ, Blocks.red_flower, 0, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, Blocks.red_flower, 0);
                 }
                 else if (var999 == 3)
                 {
-                    world.setBlock(randX, randY, randZ, Blocks.yellow_flower, 0, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, Blocks.yellow_flower, 0);
                 }
                 else if (var999 == 5)
                 {
-                    world.setBlock(randX, randY, randZ, Blocks.red_flower, 3, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, Blocks.red_flower, 3);
                 }
                 else if (var999 == 7)
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.foliage, 9, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.foliage, 9);
                 }
                 else
                 {
-                    world.setBlock(randX, randY, randZ, BOPCBlocks.foliage, 4, 2);
+                    this.setBlockAndNotifyAdequately(world, randX, randY, randZ, BOPCBlocks.foliage, 4);
                 }
             }
         }
@@ -69,13 +72,13 @@ public class WorldGenXericSplatter extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
         for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
-            int randY = random.nextInt(world.getHeightValue(randX, randZ) * 2);
+            int randY = random.nextInt(region.getHeightValue(randX, randZ) * 2);
 
             this.generate(world, random, randX, randY, randZ);
         }
@@ -5,35 +5,35 @@ import java.util.Random;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 import biomesoplenty.api.biome.BOPBiome;
-import biomesoplenty.api.biome.BOPBiomeDecorator;
 import biomesoplenty.api.biome.BiomeFeatures;
+import biomesoplenty.api.biome.WeightedGeneratorTable;
 import biomesoplenty.common.world.features.WorldGenBOPFlora;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPGrassManager extends WorldGeneratorBOP
 {
     private BiomeFeatures biomeFeatures;
+    private WeightedGeneratorTable<WorldGenerator> grassGenerators;
 
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
-        if (biomeFeatures != null)
+        if (grassGenerators != null && !grassGenerators.isEmpty())
         {
-            if (biomeFeatures.weightedGrassGen != null && !biomeFeatures.weightedGrassGen.isEmpty())
-            {
-            	WorldGenerator grassGenerator = BOPBiomeDecorator.getRandomWeightedWorldGenerator(biomeFeatures.weightedGrassGen);
+            WorldGenerator grassGenerator = grassGenerators.getRandomGenerator(random);
 
-                return grassGenerator.generate(world, random, x, y, z);
-            }
+            return grassGenerator.generate(world, random, x, y, z);
         }
 
         return false;
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
         this.biomeFeatures = biome.theBiomeDecorator.bopFeatures;
+        this.grassGenerators = biome.theBiomeDecorator.getWeightedGrassGenerators();
 
         for (int i = 0; i < (Integer)biomeFeatures.getFeature(featureName); ++i)
         {
@@ -6,6 +6,7 @@ import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenLakesNether extends WorldGeneratorBOP
@@ -97,7 +98,7 @@ public class WorldGenLakesNether extends WorldGeneratorBOP
 					{
 						if (aboolean[(i1 * 16 + j2) * 8 + j1])
 						{
-							world.setBlock(x + i1, y + j1, z + j2, j1 >= 4 ? Blocks.air : Blocks.lava, 0, 2);
+							this.setBlockAndNotifyAdequately(world, x + i1, y + j1, z + j2, j1 >= 4 ? Blocks.air : Blocks.lava, 0);
 						}
 					}
 				}
@@ -113,7 +114,7 @@ public class WorldGenLakesNether extends WorldGeneratorBOP
 
 						if (flag && (j1 < 4 || rand.nextInt(2) != 0) && world.getBlock(x + i1, y + j1, z + j2).getMaterial().isSolid())
 						{
-							world.setBlock(x + i1, y + j1, z + j2, Blocks.netherrack, 0, 2);
+							this.setBlockAndNotifyAdequately(world, x + i1, y + j1, z + j2, Blocks.netherrack, 0);
 						}
 					}
 				}
@@ -124,7 +125,7 @@ public class WorldGenLakesNether extends WorldGeneratorBOP
 	}
 	
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
     	for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
     	{
@@ -4,9 +4,11 @@ import java.util.Random;
 
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntityMobSpawner;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationRegion;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
 
@@ -14,15 +16,22 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 {
 	@Override
 	public boolean generate(World world, Random rand, int x, int y, int z)
+	{ 
+		return this.generate(world, world, rand, x, y, z);
+	}
+
+	private boolean generate(World world, IBlockAccess blockAccess, Random rand, int x, int y, int z)
 	{ 
 		if (!BOPConfigurationTerrainGen.genWaspHives) return false;
 
 		int baseWidth = 4 + rand.nextInt(2);
 		int baseHeight = 8 + rand.nextInt(2);
 
+		if (blockAccess.getBlock(x, y + 3, z) != Blocks.netherrack) return false;
+
 		for (int air = 0; air < 26; air++)
 		{
-			if (world.getBlock(x, y + 3, z) != Blocks.netherrack || !world.isAirBlock(x, (y + 2) - air, z))
+			if (!blockAccess.isAirBlock(x, (y + 2) - air, z))
 			{
 				return false;
 			}
@@ -84,7 +93,7 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 	}
 	
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, DecorationRegion region, Random random, BOPBiome biome, String featureName, int x, int z)
     {
 		 for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); ++i)
 		 {
@@ -96,7 +105,7 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 				 int randY = random.nextInt(64) + 50;
 				 int randZ = z + random.nextInt(16) + 8;
 				 
-				 this.generate(world, random, randX, randY, randZ);
+				 this.generate(world, region, random, randX, randY, randZ);
 			 }
 		 }
     }
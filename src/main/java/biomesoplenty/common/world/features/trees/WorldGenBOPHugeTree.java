@@ -7,10 +7,10 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBOPHugeTree extends WorldGenAbstractTree
+public class WorldGenBOPHugeTree extends WorldGenAbstractTreeBOP
 {
 	static final byte[] otherCoordPairs = new byte[] {(byte)2, (byte)0, (byte)0, (byte)1, (byte)2, (byte)1};
 
@@ -464,10 +464,8 @@ public class WorldGenBOPHugeTree extends WorldGenAbstractTree
 		this.basePos[1] = par4;
 		this.basePos[2] = par5;
 
-		if (this.heightLimit == 0)
-		{
-			this.heightLimit = 15 + this.rand.nextInt(this.heightLimitLimit);
-		}
+		//Generators are shared between trees, so a new height is picked for every tree
+		this.heightLimit = 15 + this.rand.nextInt(this.heightLimitLimit);
 
 		if (!this.validTreeLocation())
 		{
@@ -8,14 +8,25 @@ import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenHugeTrees;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
 
 public class WorldGenBOPJungle extends WorldGenHugeTrees
 {
     private static final String __OBFID = "CL_00000420";
 
+    private final boolean doBlockNotify;
+
     public WorldGenBOPJungle(boolean p_i45456_1_, int p_i45456_2_, int p_i45456_3_, int p_i45456_4_, int p_i45456_5_)
     {
         super(p_i45456_1_, p_i45456_2_, p_i45456_3_, p_i45456_4_, p_i45456_5_);
+
+        this.doBlockNotify = p_i45456_1_;
+    }
+
+    @Override
+    protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+    {
+        DecorationBlockWriter.setBlock(world, x, y, z, block, meta, this.doBlockNotify ? 3 : 2);
     }
 
     public boolean generate(World p_76484_1_, Random p_76484_2_, int p_76484_3_, int p_76484_4_, int p_76484_5_)
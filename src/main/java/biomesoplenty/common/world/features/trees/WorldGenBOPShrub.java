@@ -1,12 +1,13 @@
 package biomesoplenty.common.world.features.trees;
  
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenTrees;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.DecorationRegion;
 
 public class WorldGenBOPShrub extends WorldGenTrees
 {
@@ -19,7 +20,7 @@ public class WorldGenBOPShrub extends WorldGenTrees
 	private int minHeight;
 	private int maxHeight;
 	
-	private List soilBlocks;
+	private BlockSet soilBlocks;
 	
 	public WorldGenBOPShrub(Block wood, Block leaves, int metaWood, int metaLeaves, Block... soilBlocks)
 	{
@@ -39,7 +40,13 @@ public class WorldGenBOPShrub extends WorldGenTrees
         this.minHeight = minHeight;
         this.maxHeight = maxHeight;
         
-        this.soilBlocks = Arrays.asList(soilBlocks);
+        this.soilBlocks = BlockSet.of(soilBlocks);
+    }
+
+    @Override
+    protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+    {
+        DecorationBlockWriter.setBlock(world, x, y, z, block, meta, 2);
     }
 
     @Override
@@ -47,6 +54,8 @@ public class WorldGenBOPShrub extends WorldGenTrees
     {
         Block block;
 
+        y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
         do
         {
             block = world.getBlock(x, y, z);
@@ -6,10 +6,10 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockSapling;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBOPTaiga1 extends WorldGenAbstractTree
+public class WorldGenBOPTaiga1 extends WorldGenAbstractTreeBOP
 {
 	private final Block wood;
 	private final Block leaves;
@@ -3,14 +3,14 @@ package biomesoplenty.common.world.features.trees;
 import java.util.Random;
 
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSapling;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 
-public class WorldGenBOPTaiga3 extends WorldGenAbstractTree
+public class WorldGenBOPTaiga3 extends WorldGenAbstractTreeBOP
 {
     private final int minTreeHeight;
     private final int randomTreeHeight;
@@ -7,11 +7,11 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBayou1 extends WorldGenAbstractTree
+public class WorldGenBayou1 extends WorldGenAbstractTreeBOP
 {
     private Block wood;
     private Block leaves;
@@ -7,10 +7,10 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBayou3 extends WorldGenAbstractTree
+public class WorldGenBayou3 extends WorldGenAbstractTreeBOP
 {
     private final Block wood;
 
@@ -241,10 +241,10 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBogTree1 extends WorldGenAbstractTree
+public class WorldGenBogTree1 extends WorldGenAbstractTreeBOP
 {
     private final int minTreeHeight;
     private final int randomTreeHeight;
@@ -5,10 +5,11 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBrush1 extends WorldGenAbstractTree
+public class WorldGenBrush1 extends WorldGenAbstractTreeBOP
 {
 	public WorldGenBrush1() 
 	{
@@ -40,31 +41,31 @@ public class WorldGenBrush1 extends WorldGenAbstractTree
 				}
 			}
 
-			world.setBlock(x, y, z, Blocks.dirt);
-			world.setBlock(x, y + 1, z, Blocks.log, 3, 2);
-			world.setBlock(x, y + 2, z, Blocks.log, 3, 2);
-			world.setBlock(x, y + 3, z, Blocks.log, 3, 2);
-			world.setBlock(x, y + 4, z, Blocks.log, 3, 2);
-			world.setBlock(x, y + 5, z, Blocks.log, 3, 2);
-			world.setBlock(x, y + 6, z, Blocks.log, 3, 2);
-			world.setBlock(x, y + 7, z, Blocks.log, 3, 2);
-			world.setBlock(x + 1, y + 7, z, Blocks.leaves);
-			world.setBlock(x - 1, y + 7, z, Blocks.leaves);
-			world.setBlock(x, y + 7, z + 1, Blocks.leaves);
-			world.setBlock(x, y + 7, z - 1, Blocks.leaves);
+			DecorationBlockWriter.setBlock(world, x, y, z, Blocks.dirt, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 1, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 2, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 3, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 4, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 5, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 6, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 7, z, Blocks.log, 3, 2);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 7, z, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 7, z, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 7, z + 1, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 7, z - 1, Blocks.leaves, 0, 3);
 
-			world.setBlock(x + 1, y + 8, z, Blocks.leaves);
-			world.setBlock(x - 1, y + 8, z, Blocks.leaves);
-			world.setBlock(x, y + 8, z + 1, Blocks.leaves);
-			world.setBlock(x, y + 8, z - 1, Blocks.leaves);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 8, z, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 8, z, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 8, z + 1, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 8, z - 1, Blocks.leaves, 0, 3);
                                                          
-			world.setBlock(x + 1, y + 8, z + 1, Blocks.leaves);
-			world.setBlock(x + 1, y + 8, z - 1, Blocks.leaves);
-			world.setBlock(x - 1, y + 8, z + 1, Blocks.leaves);
-			world.setBlock(x - 1, y + 8, z - 1, Blocks.leaves);
-			world.setBlock(x, y + 8, z, Blocks.leaves);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 8, z + 1, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 8, z - 1, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 8, z + 1, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 8, z - 1, Blocks.leaves, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 8, z, Blocks.leaves, 0, 3);
 
-			world.setBlock(x, y + 9, z, Blocks.leaves);
+			DecorationBlockWriter.setBlock(world, x, y + 9, z, Blocks.leaves, 0, 3);
 			return true;
 		}
 	}
@@ -1,14 +1,14 @@
 package biomesoplenty.common.world.features.trees;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBrush2 extends WorldGenAbstractTree
+public class WorldGenBrush2 extends WorldGenAbstractTreeBOP
 {
     private Block wood;
     private Block leaves;
@@ -16,7 +16,7 @@ public class WorldGenBrush2 extends WorldGenAbstractTree
     private int woodMeta;
     private int leavesMeta;
     
-    private List soilBlocks;
+    private BlockSet soilBlocks;
     
 	public WorldGenBrush2(Block wood, Block leaves, int woodMeta, int leavesMeta, Block... soilBlocks) 
 	{
@@ -28,7 +28,7 @@ public class WorldGenBrush2 extends WorldGenAbstractTree
 		this.leavesMeta = leavesMeta;
 		this.woodMeta = woodMeta;
 		
-		this.soilBlocks = Arrays.asList(soilBlocks);
+		this.soilBlocks = BlockSet.of(soilBlocks);
 	}
 	
 	@Override
@@ -58,23 +58,23 @@ public class WorldGenBrush2 extends WorldGenAbstractTree
 
 			world.getBlock(x, y, z).onPlantGrow(world, x, y, z, x, y, z);
 
-			world.setBlock(x, y + 1, z, wood, woodMeta, 2);
-			world.setBlock(x, y + 2, z, wood, woodMeta, 2);
-			world.setBlock(x, y + 3, z, wood, woodMeta, 2);
-			world.setBlock(x, y + 4, z, wood, woodMeta, 2);
-			world.setBlock(x + 1, y + 4, z, leaves, leavesMeta, 2);
-			world.setBlock(x - 1, y + 4, z, leaves, leavesMeta, 2);
-			world.setBlock(x, y + 4, z + 1, leaves, leavesMeta, 2);
-			world.setBlock(x, y + 4, z - 1, leaves, leavesMeta, 2);
-			world.setBlock(x + 1, y + 4, z + 1, leaves, leavesMeta, 2);
-			world.setBlock(x + 1, y + 4, z - 1, leaves, leavesMeta, 2);
-			world.setBlock(x - 1, y + 4, z + 1, leaves, leavesMeta, 2);
-			world.setBlock(x - 1, y + 4, z - 1, leaves, leavesMeta, 2);
-			world.setBlock(x + 1, y + 5, z, leaves, leavesMeta, 2);
-			world.setBlock(x - 1, y + 5, z, leaves, leavesMeta, 2);
-			world.setBlock(x, y + 5, z + 1, leaves, leavesMeta, 2);
-			world.setBlock(x, y + 5, z - 1, leaves, leavesMeta, 2);
-			world.setBlock(x, y + 5, z, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 1, z, wood, woodMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 2, z, wood, woodMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 3, z, wood, woodMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 4, z, wood, woodMeta, 2);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 4, z, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 4, z, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 4, z + 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 4, z - 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 4, z + 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 4, z - 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 4, z + 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 4, z - 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x + 1, y + 5, z, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x - 1, y + 5, z, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 5, z + 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 5, z - 1, leaves, leavesMeta, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 5, z, leaves, leavesMeta, 2);
 			
 			return true;
 		}
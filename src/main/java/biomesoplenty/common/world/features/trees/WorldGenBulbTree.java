@@ -7,10 +7,10 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.Direction;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenBulbTree extends WorldGenAbstractTree
+public class WorldGenBulbTree extends WorldGenAbstractTreeBOP
 {
 	private final int minTreeHeight;
 	private final int randomTreeHeight;
@@ -5,10 +5,11 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenChaparral3 extends WorldGenAbstractTree
+public class WorldGenChaparral3 extends WorldGenAbstractTreeBOP
 {
     public WorldGenChaparral3()
     {
@@ -40,8 +41,8 @@ public class WorldGenChaparral3 extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.log);
-            world.setBlock(x, y + 1, z, Blocks.leaves);
+            DecorationBlockWriter.setBlock(world, x, y, z, Blocks.log, 0, 3);
+            DecorationBlockWriter.setBlock(world, x, y + 1, z, Blocks.leaves, 0, 3);
             return true;
         }
     }
@@ -5,10 +5,11 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenDeadTree extends WorldGenAbstractTree
+public class WorldGenDeadTree extends WorldGenAbstractTreeBOP
 {
 	private int strengthRand;
 	private int bMax;
@@ -378,7 +379,7 @@ public class WorldGenDeadTree extends WorldGenAbstractTree
     {
     	if (world.isAirBlock(x, y, z) || world.getBlock(x, y, z).isLeaves(world, x, y, z))
 		{
-    		world.setBlock(x, y, z, block, meta, 2);
+    		DecorationBlockWriter.setBlock(world, x, y, z, block, meta, 2);
 		}
     }
 }
@@ -5,11 +5,12 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.BOPBlockHelper;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenGiantFlower extends WorldGenAbstractTree
+public class WorldGenGiantFlower extends WorldGenAbstractTreeBOP
 {
 	private int metadata;
 	
@@ -42,89 +43,89 @@ public class WorldGenGiantFlower extends WorldGenAbstractTree
 				}
 			}
 			
-			world.setBlock(x, y, z, Blocks.dirt);
-			world.setBlock(x, y + 1, z, BOPCBlocks.logs3, 3, 2);
-			world.setBlock(x, y + 2, z, BOPCBlocks.logs3, 3, 2);
-			world.setBlock(x, y + 3, z, BOPCBlocks.logs3, 3, 2);
-			world.setBlock(x, y + 4, z, BOPCBlocks.logs3, 3, 2);
-			world.setBlock(x, y + 5, z, BOPCBlocks.logs3, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y, z, Blocks.dirt, 0, 3);
+			DecorationBlockWriter.setBlock(world, x, y + 1, z, BOPCBlocks.logs3, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 2, z, BOPCBlocks.logs3, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 3, z, BOPCBlocks.logs3, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 4, z, BOPCBlocks.logs3, 3, 2);
+			DecorationBlockWriter.setBlock(world, x, y + 5, z, BOPCBlocks.logs3, 3, 2);
 
 			//Red
 			if (metadata == 0)
 			{
-				world.setBlock(x - 1, y + 5, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 1, y + 5, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 5, z - 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 5, z + 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 5, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 5, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 5, z - 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 5, z + 1, BOPCBlocks.petals, 0, 2);
 
-				world.setBlock(x, y + 6, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 1, y + 6, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 1, y + 6, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 6, z - 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 6, z + 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 1, y + 6, z + 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 1, y + 6, z - 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 1, y + 6, z + 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 1, y + 6, z - 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 2, y + 6, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 2, y + 6, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 6, z + 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 6, z - 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 6, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 6, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z - 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z + 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 6, z + 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 6, z - 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 6, z + 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 6, z - 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 6, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 6, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z + 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z - 2, BOPCBlocks.petals, 0, 2);
 
-				world.setBlock(x + 1, y + 7, z + 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 1, y + 7, z - 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 1, y + 7, z + 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 1, y + 7, z - 1, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 2, y + 7, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 2, y + 7, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 7, z + 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 7, z - 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 2, y + 7, z + 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x + 2, y + 7, z - 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 2, y + 7, z + 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 2, y + 7, z - 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 7, z + 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 7, z - 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 7, z + 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 7, z - 1, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 7, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 7, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 7, z + 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 7, z - 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 7, z + 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 7, z - 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 7, z + 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 7, z - 2, BOPCBlocks.petals, 0, 2);
 
-				world.setBlock(x + 2, y + 8, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 2, y + 8, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 8, z + 2, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 8, z - 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 8, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 8, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 8, z + 2, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 8, z - 2, BOPCBlocks.petals, 0, 2);
 
-				world.setBlock(x + 3, y + 9, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x - 3, y + 9, z, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 9, z + 3, BOPCBlocks.petals, 0, 2);
-				world.setBlock(x, y + 9, z - 3, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x + 3, y + 9, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x - 3, y + 9, z, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 9, z + 3, BOPCBlocks.petals, 0, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 9, z - 3, BOPCBlocks.petals, 0, 2);
 			}
 			else
 			{
 				//Yellow
-				world.setBlock(x - 1, y + 5, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 1, y + 5, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 5, z - 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 5, z + 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 2, y + 5, z + 2, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 2, y + 5, z - 2, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 2, y + 5, z + 2, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 2, y + 5, z - 2, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 5, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 5, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 5, z - 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 5, z + 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 5, z + 2, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 5, z - 2, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 5, z + 2, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 5, z - 2, BOPCBlocks.petals, 1, 2);
 
-				world.setBlock(x, y + 6, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 1, y + 6, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 1, y + 6, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 6, z - 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 6, z + 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 1, y + 6, z + 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 1, y + 6, z - 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 1, y + 6, z + 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 1, y + 6, z - 1, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 2, y + 6, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 2, y + 6, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 6, z + 2, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 6, z - 2, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 6, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 6, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z - 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z + 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 6, z + 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 1, y + 6, z - 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 6, z + 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 1, y + 6, z - 1, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 2, y + 6, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 2, y + 6, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z + 2, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 6, z - 2, BOPCBlocks.petals, 1, 2);
 
-				world.setBlock(x, y + 7, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x + 3, y + 7, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x - 3, y + 7, z, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 7, z + 3, BOPCBlocks.petals, 1, 2);
-				world.setBlock(x, y + 7, z - 3, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 7, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x + 3, y + 7, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x - 3, y + 7, z, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 7, z + 3, BOPCBlocks.petals, 1, 2);
+				DecorationBlockWriter.setBlock(world, x, y + 7, z - 3, BOPCBlocks.petals, 1, 2);
 			}
 
 			return true;
@@ -1,15 +1,16 @@
 package biomesoplenty.common.world.features.trees;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.DecorationRegion;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenMiniShrub extends WorldGenAbstractTree
+public class WorldGenMiniShrub extends WorldGenAbstractTreeBOP
 {
     private Block wood;
     private Block leaves;
@@ -17,7 +18,7 @@ public class WorldGenMiniShrub extends WorldGenAbstractTree
     private int woodMeta;
     private int leavesMeta;
 
-    private List soilBlocks;
+    private BlockSet soilBlocks;
 
     public WorldGenMiniShrub(Block wood, Block leaves, int woodMeta, int leavesMeta, Block... soilBlocks) 
     {
@@ -29,7 +30,7 @@ public class WorldGenMiniShrub extends WorldGenAbstractTree
         this.leavesMeta = leavesMeta;
         this.woodMeta = woodMeta;
 
-        this.soilBlocks = Arrays.asList(soilBlocks);
+        this.soilBlocks = BlockSet.of(soilBlocks);
     }
 
     @Override
@@ -37,6 +38,8 @@ public class WorldGenMiniShrub extends WorldGenAbstractTree
     {
         Block block;
 
+        y = DecorationRegion.skipAirAboveSurface(world, x, y, z, 1);
+
         do
         {
             block = world.getBlock(x, y, z);
@@ -74,13 +77,13 @@ public class WorldGenMiniShrub extends WorldGenAbstractTree
 
             world.getBlock(x, y, z).onPlantGrow(world, x, y, z, x, y, z);
             
-            world.setBlock(x, y + 1, z, wood, woodMeta, 2);
-            world.setBlock(x, y + 2, z, wood, woodMeta, 2);
-            world.setBlock(x + 1, y + 2, z, leaves, leavesMeta, 2);
-            world.setBlock(x - 1, y + 2, z, leaves, leavesMeta, 2);
-            world.setBlock(x, y + 2, z + 1, leaves, leavesMeta, 2);
-            world.setBlock(x, y + 2, z - 1, leaves, leavesMeta, 2);
-            world.setBlock(x, y + 3, z, leaves, leavesMeta, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 1, z, wood, woodMeta, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z, wood, woodMeta, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 2, z, leaves, leavesMeta, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 2, z, leaves, leavesMeta, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z + 1, leaves, leavesMeta, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z - 1, leaves, leavesMeta, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 3, z, leaves, leavesMeta, 2);
             return true;
         }
     }
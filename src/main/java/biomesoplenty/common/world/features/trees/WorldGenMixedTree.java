@@ -7,11 +7,11 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.Direction;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenMixedTree extends WorldGenAbstractTree
+public class WorldGenMixedTree extends WorldGenAbstractTreeBOP
 {
 	private final int minTreeHeight;
 	private final int randomTreeHeight;
@@ -5,10 +5,11 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenPoplar extends WorldGenAbstractTree
+public class WorldGenPoplar extends WorldGenAbstractTreeBOP
 {
     public WorldGenPoplar()
     {
@@ -40,93 +41,93 @@ public class WorldGenPoplar extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.dirt);
-            world.setBlock(x, y + 1, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 2, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 3, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 4, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 5, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 6, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 7, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 8, z, Blocks.log2, 1, 2);
-            world.setBlock(x, y + 9, z, Blocks.log2, 1, 2);
-
-            world.setBlock(x + 1, y + 3, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 3, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 3, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 3, z - 1, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 4, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 4, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 4, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 4, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 4, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 4, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 4, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 4, z - 1, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 5, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 5, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 5, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 5, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 5, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 5, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 5, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 5, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 2, y + 5, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 2, y + 5, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 5, z + 2, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 5, z - 2, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 6, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 6, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 6, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 6, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 6, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 6, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 6, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 6, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 2, y + 6, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 2, y + 6, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 6, z + 2, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 6, z - 2, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 7, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 7, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 7, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 7, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 7, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 7, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 7, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 7, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 2, y + 7, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 2, y + 7, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 7, z + 2, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 7, z - 2, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 8, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 8, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 8, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 8, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 8, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x + 1, y + 8, z - 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 8, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 8, z - 1, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 9, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 9, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 9, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 9, z - 1, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x + 1, y + 10, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x - 1, y + 10, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 10, z + 1, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 10, z - 1, Blocks.leaves2, 1, 2);
-
-            world.setBlock(x, y + 10, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 11, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 12, z, Blocks.leaves2, 1, 2);
-            world.setBlock(x, y + 13, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y, z, Blocks.dirt, 0, 3);
+            DecorationBlockWriter.setBlock(world, x, y + 1, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 3, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 4, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 5, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 6, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 8, z, Blocks.log2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z, Blocks.log2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 3, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 3, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 3, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 3, z - 1, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 4, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 4, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 4, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 4, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 4, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 4, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 4, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 4, z - 1, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 5, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 5, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 5, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 5, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 5, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 5, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 5, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 5, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 2, y + 5, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 2, y + 5, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 5, z + 2, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 5, z - 2, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 6, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 6, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 6, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 6, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 6, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 6, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 6, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 6, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 2, y + 6, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 2, y + 6, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 6, z + 2, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 6, z - 2, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 7, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 7, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 7, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 7, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 7, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 7, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 2, y + 7, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 2, y + 7, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z + 2, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z - 2, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 8, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 8, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 8, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 8, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 8, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 8, z - 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 8, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 8, z - 1, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 9, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 9, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z - 1, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 10, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 10, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z + 1, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z - 1, Blocks.leaves2, 1, 2);
+
+            DecorationBlockWriter.setBlock(world, x, y + 10, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 11, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 12, z, Blocks.leaves2, 1, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 13, z, Blocks.leaves2, 1, 2);
 
             return true;
         }
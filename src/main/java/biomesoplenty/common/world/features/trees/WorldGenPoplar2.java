@@ -3,12 +3,13 @@ package biomesoplenty.common.world.features.trees;
 import java.util.Random;
 
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 
-public class WorldGenPoplar2 extends WorldGenAbstractTree
+public class WorldGenPoplar2 extends WorldGenAbstractTreeBOP
 {
     public WorldGenPoplar2()
     {
@@ -40,97 +41,97 @@ public class WorldGenPoplar2 extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.dirt);
-            world.setBlock(x, y + 1, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 2, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 3, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 4, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 5, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 6, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 7, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 8, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 9, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 10, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 11, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 12, z, Blocks.log, 2, 2);
-            world.setBlock(x, y + 13, z, Blocks.log, 2, 2);
-
-            world.setBlock(x + 1, y + 7, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 7, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 7, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 7, z - 1, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 8, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 8, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 8, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 8, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 8, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 8, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 8, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 8, z - 1, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 9, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 9, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 9, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 9, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 9, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 9, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 9, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 9, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 2, y + 9, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 2, y + 9, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 9, z + 2, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 9, z - 2, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 10, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 10, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 10, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 10, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 10, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 10, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 10, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 10, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 2, y + 10, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 2, y + 10, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 10, z + 2, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 10, z - 2, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 11, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 11, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 11, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 11, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 11, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 11, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 11, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 11, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 2, y + 11, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 2, y + 11, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 11, z + 2, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 11, z - 2, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 12, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 12, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 12, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 12, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 12, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x + 1, y + 12, z - 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 12, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 12, z - 1, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 13, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 13, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 13, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 13, z - 1, Blocks.leaves, 2, 2);
-
-            world.setBlock(x + 1, y + 14, z, Blocks.leaves, 2, 2);
-            world.setBlock(x - 1, y + 14, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 14, z + 1, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 14, z - 1, Blocks.leaves, 2, 2);
-
-            world.setBlock(x, y + 14, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 15, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 16, z, Blocks.leaves, 2, 2);
-            world.setBlock(x, y + 17, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y, z, Blocks.dirt, 0, 3);
+            DecorationBlockWriter.setBlock(world, x, y + 1, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 3, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 4, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 5, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 6, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 8, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 11, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 12, z, Blocks.log, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 13, z, Blocks.log, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 7, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 7, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 7, z - 1, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 8, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 8, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 8, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 8, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 8, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 8, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 8, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 8, z - 1, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 9, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 9, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 9, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 9, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 9, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 9, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 2, y + 9, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 2, y + 9, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z + 2, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 9, z - 2, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 10, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 10, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 10, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 10, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 10, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 10, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 2, y + 10, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 2, y + 10, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z + 2, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 10, z - 2, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 11, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 11, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 11, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 11, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 11, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 11, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 11, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 11, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 2, y + 11, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 2, y + 11, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 11, z + 2, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 11, z - 2, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 12, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 12, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 12, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 12, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 12, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 12, z - 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 12, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 12, z - 1, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 13, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 13, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 13, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 13, z - 1, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x + 1, y + 14, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 14, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 14, z + 1, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 14, z - 1, Blocks.leaves, 2, 2);
+
+            DecorationBlockWriter.setBlock(world, x, y + 14, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 15, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 16, z, Blocks.leaves, 2, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 17, z, Blocks.leaves, 2, 2);
 
             return true;
         }
@@ -7,11 +7,11 @@ import net.minecraft.block.BlockSapling;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenRedwoodTree extends WorldGenAbstractTree
+public class WorldGenRedwoodTree extends WorldGenAbstractTreeBOP
 {
     private final Block wood;
     private final Block leaves;
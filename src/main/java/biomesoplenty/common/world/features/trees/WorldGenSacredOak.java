@@ -6,10 +6,10 @@ import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 
-public class WorldGenSacredOak extends WorldGenAbstractTree
+public class WorldGenSacredOak extends WorldGenAbstractTreeBOP
 {
 	/**
 	 * Contains three sets of two values that provide complimentary indices for a given 'major' index - 1 and 2 for 0, 0
@@ -64,10 +64,8 @@ public class WorldGenSacredOak extends WorldGenAbstractTree
 		 basePos[1] = par4;
 		 basePos[2] = par5;
 
-		 if (heightLimit == 0)
-		 {
-			 heightLimit = 50;
-		 }
+		 //Generators are shared between trees, so the height is reset for every tree
+		 heightLimit = 50;
 
 		 if (!this.validTreeLocation())
 			 return false;
@@ -3,12 +3,13 @@ package biomesoplenty.common.world.features.trees;
 import java.util.Random;
 
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationBlockWriter;
+import biomesoplenty.common.world.generation.WorldGenAbstractTreeBOP;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 
-public class WorldGenTropicsShrub extends WorldGenAbstractTree
+public class WorldGenTropicsShrub extends WorldGenAbstractTreeBOP
 {
     public WorldGenTropicsShrub()
     {
@@ -42,14 +43,14 @@ public class WorldGenTropicsShrub extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.dirt);
-            world.setBlock(x, y + 1, z, Blocks.log, 3, 2);
-            world.setBlock(x, y + 2, z, Blocks.log, 3, 2);
-            world.setBlock(x + 1, y + 2, z, Blocks.leaves, 3, 2);
-            world.setBlock(x - 1, y + 2, z, Blocks.leaves, 3, 2);
-            world.setBlock(x, y + 2, z + 1, Blocks.leaves, 3, 2);
-            world.setBlock(x, y + 2, z - 1, Blocks.leaves, 3, 2);
-            world.setBlock(x, y + 3, z, Blocks.leaves, 3, 2);
+            DecorationBlockWriter.setBlock(world, x, y, z, Blocks.dirt, 0, 3);
+            DecorationBlockWriter.setBlock(world, x, y + 1, z, Blocks.log, 3, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z, Blocks.log, 3, 2);
+            DecorationBlockWriter.setBlock(world, x + 1, y + 2, z, Blocks.leaves, 3, 2);
+            DecorationBlockWriter.setBlock(world, x - 1, y + 2, z, Blocks.leaves, 3, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z + 1, Blocks.leaves, 3, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 2, z - 1, Blocks.leaves, 3, 2);
+            DecorationBlockWriter.setBlock(world, x, y + 3, z, Blocks.leaves, 3, 2);
 
             int var999 = random.nextInt(12);
             int var998 = random.nextInt(4);
@@ -58,57 +59,57 @@ public class WorldGenTropicsShrub extends WorldGenAbstractTree
             {
                 if (var999 == 0)
                 {
-                    world.setBlock(x - 1, y + 1, z, Blocks.cocoa, 11, 2);
+                    DecorationBlockWriter.setBlock(world, x - 1, y + 1, z, Blocks.cocoa, 11, 2);
                 }
                 if (var999 == 1)
                 {
-                    world.setBlock(x + 1, y + 1, z, Blocks.cocoa, 9, 2);
+                    DecorationBlockWriter.setBlock(world, x + 1, y + 1, z, Blocks.cocoa, 9, 2);
                 }
                 if (var999 == 2)
                 {
-                    world.setBlock(x, y + 1, z - 1, Blocks.cocoa, 8, 2);
+                    DecorationBlockWriter.setBlock(world, x, y + 1, z - 1, Blocks.cocoa, 8, 2);
                 }
                 if (var999 == 3)
                 {
-                    world.setBlock(x, y + 1, z + 1, Blocks.cocoa, 10, 2);
+                    DecorationBlockWriter.setBlock(world, x, y + 1, z + 1, Blocks.cocoa, 10, 2);
                 }
             }
             else if (var998 == 1)
             {
                 if (var999 == 0)
                 {
-                    world.setBlock(x - 1, y + 1, z, Blocks.cocoa, 7, 2);
+                    DecorationBlockWriter.setBlock(world, x - 1, y + 1, z, Blocks.cocoa, 7, 2);
                 }
                 if (var999 == 1)
                 {
-                    world.setBlock(x + 1, y + 1, z, Blocks.cocoa, 5, 2);
+                    DecorationBlockWriter.setBlock(world, x + 1, y + 1, z, Blocks.cocoa, 5, 2);
                 }
                 if (var999 == 2)
                 {
-                    world.setBlock(x, y + 1, z - 1, Blocks.cocoa, 4, 2);
+                    DecorationBlockWriter.setBlock(world, x, y + 1, z - 1, Blocks.cocoa, 4, 2);
                 }
                 if (var999 == 3)
                 {
-                    world.setBlock(x, y + 1, z + 1, Blocks.cocoa, 6, 2);
+                    DecorationBlockWriter.setBlock(world, x, y + 1, z + 1, Blocks.cocoa, 6, 2);
                 }
             }
             else if (var998 == 2)
             {
                 if (var999 == 0)
                 {
-                    world.setBlock(x - 1, y + 1, z, Blocks.cocoa, 3, 2);
+                    DecorationBlockWriter.setBlock(world, x - 1, y + 1, z, Blocks.cocoa, 3, 2);
                 }
                 if (var999 == 1)
                 {
-                    world.setBlock(x + 1, y + 1, z, Blocks.cocoa, 1, 2);
+                    DecorationBlockWriter.setBlock(world, x + 1, y + 1, z, Blocks.cocoa, 1, 2);
                 }
                 if (var999 == 2)
                 {
-                    world.setBlock(x, y + 1, z - 1, Blocks.cocoa, 0, 2);
+                    DecorationBlockWriter.setBlock(world, x, y + 1, z - 1, Blocks.cocoa, 0, 2);
                 }
                 if (var999 == 3)
                 {
-                    world.setBlock(x, y + 1, z + 1, Blocks.cocoa, 2, 2);
+                    DecorationBlockWriter.setBlock(world, x, y + 1, z + 1, Blocks.cocoa, 2, 2);
                 }
             }
             return true;
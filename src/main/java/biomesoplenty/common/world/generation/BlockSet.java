@@ -0,0 +1,66 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.block.Block;
+
+/**
+ * An immutable set of blocks compared by identity, for the soil and replaceable block checks generators
+ * make for every block they look at. Small sets, which is nearly all of them, are searched directly, and
+ * larger ones through an identity hash set. Sets with the same blocks are shared between generators.
+ *
+ * Blocks are not looked up by ID, as FML remaps block IDs to match each world that is loaded.
+ */
+public class BlockSet
+{
+    private static final int MAX_SEARCHED_SIZE = 8;
+
+    private static final Map<Set<Block>, BlockSet> sharedSets = new HashMap<Set<Block>, BlockSet>();
+
+    private final Block[] blocks;
+    private final Set<Block> blockSet;
+
+    private BlockSet(Set<Block> blocks)
+    {
+        this.blocks = blocks.toArray(new Block[blocks.size()]);
+
+        if (blocks.size() > MAX_SEARCHED_SIZE)
+        {
+            this.blockSet = Collections.newSetFromMap(new IdentityHashMap<Block, Boolean>());
+            this.blockSet.addAll(blocks);
+        }
+        else this.blockSet = null;
+    }
+
+    public static synchronized BlockSet of(Block... blocks)
+    {
+        Set<Block> contents = new LinkedHashSet<Block>(Arrays.asList(blocks));
+        BlockSet blockSet = sharedSets.get(contents);
+
+        if (blockSet == null)
+        {
+            blockSet = new BlockSet(contents);
+            sharedSets.put(contents, blockSet);
+        }
+
+        return blockSet;
+    }
+
+    public boolean contains(Block block)
+    {
+        if (blockSet != null) return blockSet.contains(block);
+
+        for (Block candidate : blocks)
+        {
+            if (candidate == block) return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,219 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.ChunkPosition;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * Places decoration blocks straight into chunk storage, skipping the per-block lighting updates
+ * and neighbour notifications done by World.setBlock. Blocks are visible to getBlock as soon as they
+ * are written, so generators may still read back what they have placed. Lighting for every chunk
+ * that was written to is recalculated once when decoration finishes.
+ */
+public class DecorationBlockWriter
+{
+    private static final Deque<DecorationBlockWriter> activeWriters = new ArrayDeque<DecorationBlockWriter>();
+
+    private final World world;
+    /** The region being decorated, whose column snapshots are forgotten as blocks are written */
+    private final DecorationRegion region;
+    private final List<ChunkEntry> chunks = new ArrayList<ChunkEntry>(4);
+    private final List<ChunkPosition> lightUpdates = new ArrayList<ChunkPosition>();
+
+    private ChunkEntry lastEntry;
+
+    private DecorationBlockWriter(World world, DecorationRegion region)
+    {
+        this.world = world;
+        this.region = region;
+    }
+
+    /**
+     * Starts routing decoration block writes for the given world through a new writer. Calls may be
+     * nested if decorating one chunk causes another to be populated.
+     */
+    public static void begin(World world, DecorationRegion region)
+    {
+        activeWriters.push(new DecorationBlockWriter(world, region));
+    }
+
+    /**
+     * Finishes the most recently started writer, relighting every chunk it has written to.
+     */
+    public static void end()
+    {
+        activeWriters.pop().finish();
+    }
+
+    /**
+     * @return the region being decorated in the given world, or null if it isn't currently being decorated
+     */
+    public static DecorationRegion getRegion(World world)
+    {
+        DecorationBlockWriter writer = activeWriters.peek();
+
+        return writer != null && writer.world == world ? writer.region : null;
+    }
+
+    /**
+     * Places a block through the active writer for the world, or through World.setBlock with the
+     * given flags if the world isn't currently being decorated.
+     */
+    public static boolean setBlock(World world, int x, int y, int z, Block block, int meta, int flags)
+    {
+        DecorationBlockWriter writer = activeWriters.peek();
+
+        if (writer != null && writer.world == world)
+        {
+            return writer.writeBlock(x, y, z, block, meta, flags);
+        }
+
+        return world.setBlock(x, y, z, block, meta, flags);
+    }
+
+    private boolean writeBlock(int x, int y, int z, Block block, int meta, int flags)
+    {
+        if (y < 0 || y >= 256) return false;
+
+        ChunkEntry entry = getChunkEntry(x >> 4, z >> 4);
+        Chunk chunk = entry.chunk;
+
+        int localX = x & 15;
+        int localZ = z & 15;
+
+        Block oldBlock = chunk.getBlock(localX, y, localZ);
+        int oldMeta = chunk.getBlockMetadata(localX, y, localZ);
+
+        if (oldBlock == block && oldMeta == meta) return false;
+
+        if (region != null) region.invalidateColumn(x, z);
+
+        //Tile entities need the full chunk handling to be created and removed correctly
+        if (oldBlock.hasTileEntity(oldMeta) || block.hasTileEntity(meta))
+        {
+            return world.setBlock(x, y, z, block, meta, flags);
+        }
+
+        ExtendedBlockStorage[] storageArrays = chunk.getBlockStorageArray();
+        ExtendedBlockStorage storage = storageArrays[y >> 4];
+
+        if (storage == null)
+        {
+            if (block == Blocks.air) return false;
+
+            storage = storageArrays[y >> 4] = new ExtendedBlockStorage(y >> 4 << 4, !world.provider.hasNoSky);
+        }
+
+        storage.func_150818_a(localX, y & 15, localZ, block);
+        storage.setExtBlockMetadata(localX, y & 15, localZ, meta);
+
+        this.updateHeightMap(chunk, localX, y, localZ, block);
+        chunk.setChunkModified();
+
+        block.onBlockAdded(world, x, y, z);
+
+        //Sky light is handled per chunk when finished, but light sources are relit individually
+        if (block.getLightValue() > 0 || oldBlock.getLightValue() > 0)
+        {
+            lightUpdates.add(new ChunkPosition(x, y, z));
+        }
+
+        if (entry.sendUpdates && (flags & 2) != 0)
+        {
+            world.markBlockForUpdate(x, y, z);
+        }
+
+        return true;
+    }
+
+    private void updateHeightMap(Chunk chunk, int localX, int y, int localZ, Block block)
+    {
+        int index = localZ << 4 | localX;
+        int height = chunk.heightMap[index];
+
+        if (y >= chunk.precipitationHeightMap[index] - 1)
+        {
+            chunk.precipitationHeightMap[index] = -999;
+        }
+
+        if (block.getLightOpacity() > 0)
+        {
+            if (y >= height)
+            {
+                chunk.heightMap[index] = y + 1;
+            }
+        }
+        else if (y == height - 1)
+        {
+            int newHeight = y;
+
+            while (newHeight > 0 && chunk.func_150808_b(localX, newHeight - 1, localZ) == 0)
+            {
+                --newHeight;
+            }
+
+            chunk.heightMap[index] = newHeight;
+        }
+    }
+
+    private ChunkEntry getChunkEntry(int chunkX, int chunkZ)
+    {
+        if (lastEntry != null && lastEntry.chunkX == chunkX && lastEntry.chunkZ == chunkZ) return lastEntry;
+
+        for (ChunkEntry entry : chunks)
+        {
+            if (entry.chunkX == chunkX && entry.chunkZ == chunkZ)
+            {
+                lastEntry = entry;
+                return entry;
+            }
+        }
+
+        lastEntry = new ChunkEntry(world.getChunkFromChunkCoords(chunkX, chunkZ), chunkX, chunkZ);
+        chunks.add(lastEntry);
+
+        return lastEntry;
+    }
+
+    private void finish()
+    {
+        for (ChunkEntry entry : chunks)
+        {
+            entry.chunk.generateSkylightMap();
+
+            //Have the chunk's light fully populated again the next time it is ticked
+            entry.chunk.isLightPopulated = false;
+        }
+
+        for (ChunkPosition position : lightUpdates)
+        {
+            world.func_147451_t(position.chunkPosX, position.chunkPosY, position.chunkPosZ);
+        }
+    }
+
+    private static class ChunkEntry
+    {
+        public final Chunk chunk;
+        public final int chunkX;
+        public final int chunkZ;
+
+        /** Chunks which have already been populated may have been sent to players, so changes to them are still synced */
+        public final boolean sendUpdates;
+
+        public ChunkEntry(Chunk chunk, int chunkX, int chunkZ)
+        {
+            this.chunk = chunk;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.sendUpdates = chunk.isTerrainPopulated;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package biomesoplenty.common.world.generation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.world.biome.BiomeGenBase;
+
+/**
+ * Collects invocation counts and timings for decoration, keyed by what was generated and the biome
+ * it was generated in. Nothing is recorded unless the profiler is enabled, and call sites only pay
+ * for a single field check when it isn't.
+ */
+public class DecorationProfiler
+{
+    public static enum Category
+    {
+        /** A BoP feature generated by name from BiomeFeatures */
+        FEATURE,
+        /** A tree generator picked for a biome. Only counted, as vanilla decoration generates most trees */
+        TREE,
+        /** A whole stage of decoration, such as the vanilla decorator */
+        STAGE;
+    }
+
+    private static volatile boolean enabled;
+    private static long enabledSince;
+    /** The time the current results were collected over before the profiler was last disabled */
+    private static long stoppedMillis;
+
+    private static final Map<Category, Map<String, Entry>> entries = new EnumMap<Category, Map<String, Entry>>(Category.class);
+
+    static
+    {
+        for (Category category : Category.values())
+        {
+            entries.put(category, new HashMap<String, Entry>());
+        }
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public static synchronized void setEnabled(boolean enable)
+    {
+        if (enable && !enabled) enabledSince = System.currentTimeMillis();
+        else if (!enable && enabled) stoppedMillis += System.currentTimeMillis() - enabledSince;
+
+        enabled = enable;
+    }
+
+    /**
+     * @return the time to pass to record once the profiled work is done, or 0 if the profiler is disabled
+     */
+    public static long start()
+    {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void record(Category category, String name, BiomeGenBase biome, long startTime)
+    {
+        if (!enabled || startTime == 0L) return;
+
+        add(category, name, biome, System.nanoTime() - startTime);
+    }
+
+    public static void count(Category category, String name, BiomeGenBase biome)
+    {
+        if (!enabled) return;
+
+        add(category, name, biome, 0L);
+    }
+
+    private static synchronized void add(Category category, String name, BiomeGenBase biome, long nanos)
+    {
+        Map<String, Entry> categoryEntries = entries.get(category);
+        Entry entry = categoryEntries.get(name);
+
+        if (entry == null)
+        {
+            entry = new Entry(category, name);
+            categoryEntries.put(name, entry);
+        }
+
+        int biomeID = biome.biomeID & 255;
+
+        entry.calls[biomeID]++;
+        entry.nanos[biomeID] += nanos;
+    }
+
+    public static synchronized void reset()
+    {
+        for (Map<String, Entry> categoryEntries : entries.values())
+        {
+            categoryEntries.clear();
+        }
+
+        enabledSince = System.currentTimeMillis();
+        stoppedMillis = 0L;
+    }
+
+    /**
+     * @return every recorded feature and biome pairing, ordered by the total time spent on it
+     */
+    public static synchronized List<Result> getResults()
+    {
+        List<Result> results = new ArrayList<Result>();
+
+        for (Map<String, Entry> categoryEntries : entries.values())
+        {
+            for (Entry entry : categoryEntries.values())
+            {
+                for (int biomeID = 0; biomeID < 256; biomeID++)
+                {
+                    if (entry.calls[biomeID] > 0)
+                    {
+                        results.add(new Result(entry.category, entry.name, biomeID, entry.calls[biomeID], entry.nanos[biomeID]));
+                    }
+                }
+            }
+        }
+
+        Collections.sort(results, new Comparator<Result>()
+        {
+            @Override
+            public int compare(Result first, Result second)
+            {
+                if (first.nanos != second.nanos) return first.nanos > second.nanos ? -1 : 1;
+
+                return first.calls > second.calls ? -1 : (first.calls == second.calls ? 0 : 1);
+            }
+        });
+
+        return results;
+    }
+
+    /**
+     * @return the number of milliseconds the current results have been collected over, not counting any
+     * time the profiler was disabled for
+     */
+    public static synchronized long getProfiledMillis()
+    {
+        return enabled ? stoppedMillis + System.currentTimeMillis() - enabledSince : stoppedMillis;
+    }
+
+    /**
+     * Writes the current results to a timestamped csv file in the given directory.
+     */
+    public static File dumpCSV(File directory) throws IOException
+    {
+        List<Result> results = getResults();
+
+        if (!directory.exists() && !directory.mkdirs()) throw new IOException("Unable to create " + directory);
+
+        File file = new File(directory, "decoration-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".csv");
+        PrintWriter writer = new PrintWriter(file, "UTF-8");
+
+        try
+        {
+            writer.println("category,name,biomeID,biomeName,calls,totalMillis,averageMicros");
+
+            for (Result result : results)
+            {
+                writer.println(result.category.name().toLowerCase() + "," + result.name + "," + result.biomeID + "," + result.getBiomeName() + "," + result.calls + ","
+                        + String.format("%.3f", result.getTotalMillis()) + "," + String.format("%.3f", result.getAverageMicros()));
+            }
+        }
+        finally
+        {
+            writer.close();
+        }
+
+        return file;
+    }
+
+    private static class Entry
+    {
+        public final Category category;
+        public final String name;
+
+        /** Indexed by biome ID */
+        public final long[] calls = new long[256];
+        public final long[] nanos = new long[256];
+
+        public Entry(Category category, String name)
+        {
+            this.category = category;
+            this.name = name;
+        }
+    }
+
+    public static class Result
+    {
+        public final Category category;
+        public final String name;
+        public final int biomeID;
+        public final long calls;
+        public final long nanos;
+
+        public Result(Category category, String name, int biomeID, long calls, long nanos)
+        {
+            this.category = category;
+            this.name = name;
+            this.biomeID = biomeID;
+            this.calls = calls;
+            this.nanos = nanos;
+        }
+
+        public String getBiomeName()
+        {
+            BiomeGenBase biome = BiomeGenBase.getBiome(biomeID);
+
+            return biome != null ? biome.biomeName : "unknown";
+        }
+
+        public double getTotalMillis()
+        {
+            return nanos / 1000000.0D;
+        }
+
+        public double getAverageMicros()
+        {
+            return calls == 0 ? 0.0D : nanos / 1000.0D / calls;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.Random;
+
+import net.minecraft.world.World;
+
+/**
+ * The random used for decorating a chunk. It is seeded from the world seed, dimension and chunk
+ * position rather than from the chunk provider's random, and can derive an independent substream for
+ * each feature so that the output of one feature never depends on how many values another has used.
+ *
+ * Uses the same sequence as java.util.Random, without its atomic seed updates. Like the vanilla
+ * decorator expects, nextInt returns 0 rather than throwing for bounds of 0 or less.
+ */
+public class DecorationRandom extends Random
+{
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    /** Set by setSeed, which the Random constructor calls before any field initializers would run */
+    private long state;
+    private final long baseSeed;
+
+    public DecorationRandom(long seed)
+    {
+        super(seed);
+
+        this.baseSeed = seed;
+    }
+
+    /**
+     * @param chunkX the chunk x coordinate, in chunks
+     * @param chunkZ the chunk z coordinate, in chunks
+     */
+    public DecorationRandom(World world, int chunkX, int chunkZ)
+    {
+        this(mix(world.getSeed() ^ mix(((long)chunkX * 0x4F9939F508L + (long)chunkZ * 0x1EF1565BD5L) ^ world.provider.dimensionId)));
+    }
+
+    /**
+     * Creates a random for a single feature, which only depends on the world, chunk and feature name.
+     * It is unaffected by anything drawn from this random or any other substream.
+     */
+    public DecorationRandom getSubstream(String featureName)
+    {
+        return new DecorationRandom(mix(baseSeed ^ mix(featureName.hashCode())));
+    }
+
+    @Override
+    public void setSeed(long seed)
+    {
+        super.setSeed(seed);
+
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits)
+    {
+        this.state = state * MULTIPLIER + ADDEND & MASK;
+
+        return (int)(state >>> 48 - bits);
+    }
+
+    @Override
+    public int nextInt(int n)
+    {
+        return n > 0 ? super.nextInt(n) : 0;
+    }
+
+    /**
+     * Scrambles all of the bits of the given value, so that nearby inputs give unrelated seeds
+     */
+    private static long mix(long value)
+    {
+        value = (value ^ value >>> 30) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ value >>> 27) * 0x94D049BB133111EBL;
+
+        return value ^ value >>> 31;
+    }
+}
@@ -0,0 +1,290 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.Arrays;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.util.ForgeDirection;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * A view of the 2x2 chunks being populated, holding direct references to them so that block
+ * lookups inside the decoration area don't have to go through the chunk provider. Lookups
+ * outside of the area fall back to the world.
+ *
+ * Surface heights which need a column scan are kept for the 32x32 area once found. Columns are
+ * forgotten when decoration writes to them, and rescanned if their chunk height map has changed or
+ * a block has been placed on their surface, which catches most blocks placed through World.setBlock
+ * by vanilla generators.
+ */
+public class DecorationRegion implements IBlockAccess
+{
+    private final World world;
+
+    private final int minChunkX;
+    private final int minChunkZ;
+
+    /** Indexed by (chunkZ - minChunkZ) * 2 + (chunkX - minChunkX) */
+    private final Chunk[] chunks = new Chunk[4];
+
+    private static final int AREA_SIZE = 32;
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    /** Column snapshots indexed by (z - minZ) * 32 + (x - minX), or UNKNOWN until they are first needed */
+    private final int[] topSolidOrLiquidBlocks = new int[AREA_SIZE * AREA_SIZE];
+    private final int[] surfaceHeights = new int[AREA_SIZE * AREA_SIZE];
+    /** The chunk height map value of each column when its snapshots were taken */
+    private final int[] snapshotHeights = new int[AREA_SIZE * AREA_SIZE];
+
+    /**
+     * @param chunkX the block x coordinate of the chunk being populated
+     * @param chunkZ the block z coordinate of the chunk being populated
+     */
+    public DecorationRegion(World world, int chunkX, int chunkZ)
+    {
+        this.world = world;
+        this.minChunkX = chunkX >> 4;
+        this.minChunkZ = chunkZ >> 4;
+
+        for (int i = 0; i < chunks.length; i++)
+        {
+            int x = minChunkX + (i & 1);
+            int z = minChunkZ + (i >> 1);
+
+            //Population only happens once all of these chunks exist, but avoid generating any if they don't
+            if (world.getChunkProvider().chunkExists(x, z))
+            {
+                chunks[i] = world.getChunkFromChunkCoords(x, z);
+            }
+        }
+
+        Arrays.fill(topSolidOrLiquidBlocks, UNKNOWN);
+        Arrays.fill(surfaceHeights, UNKNOWN);
+    }
+
+    public World getWorld()
+    {
+        return world;
+    }
+
+    private Chunk getChunk(int x, int z)
+    {
+        int offsetX = (x >> 4) - minChunkX;
+        int offsetZ = (z >> 4) - minChunkZ;
+
+        if ((offsetX & ~1) != 0 || (offsetZ & ~1) != 0) return null;
+
+        return chunks[offsetZ << 1 | offsetX];
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z)
+    {
+        Chunk chunk = getChunk(x, z);
+
+        if (chunk == null) return world.getBlock(x, y, z);
+        if (y < 0 || y >= 256) return Blocks.air;
+
+        return chunk.getBlock(x & 15, y, z & 15);
+    }
+
+    @Override
+    public int getBlockMetadata(int x, int y, int z)
+    {
+        Chunk chunk = getChunk(x, z);
+
+        if (chunk == null) return world.getBlockMetadata(x, y, z);
+        if (y < 0 || y >= 256) return 0;
+
+        return chunk.getBlockMetadata(x & 15, y, z & 15);
+    }
+
+    @Override
+    public boolean isAirBlock(int x, int y, int z)
+    {
+        return this.getBlock(x, y, z).isAir(this, x, y, z);
+    }
+
+    /**
+     * Equivalent to World.getHeightValue
+     */
+    public int getHeightValue(int x, int z)
+    {
+        Chunk chunk = getChunk(x, z);
+
+        if (chunk == null) return world.getHeightValue(x, z);
+
+        return chunk.getHeightValue(x & 15, z & 15);
+    }
+
+    /**
+     * Equivalent to World.getTopSolidOrLiquidBlock, the height above the highest block which blocks movement
+     * and isn't foliage, usually the ocean floor in water
+     */
+    public int getTopSolidOrLiquidBlock(int x, int z)
+    {
+        int index = getColumnIndex(x, z);
+
+        if (index == -1) return world.getTopSolidOrLiquidBlock(x, z);
+
+        this.validateColumn(index, x, z);
+
+        if (topSolidOrLiquidBlocks[index] == UNKNOWN)
+        {
+            Chunk chunk = getChunk(x, z);
+            int y = chunk.getTopFilledSegment() + 15;
+
+            for (; y > 0; --y)
+            {
+                Block block = chunk.getBlock(x & 15, y, z & 15);
+
+                if (block.getMaterial().blocksMovement() && block.getMaterial() != Material.leaves && !block.isFoliage(world, x, y, z)) break;
+            }
+
+            topSolidOrLiquidBlocks[index] = y > 0 ? y + 1 : -1;
+        }
+
+        return topSolidOrLiquidBlocks[index];
+    }
+
+    /**
+     * @return the height above the highest block in the column which isn't air, including plants and other
+     * blocks which don't count towards the height map
+     */
+    public int getSurfaceHeight(int x, int z)
+    {
+        int index = getColumnIndex(x, z);
+        Chunk chunk = index != -1 ? getChunk(x, z) : world.getChunkFromBlockCoords(x, z);
+
+        if (index != -1)
+        {
+            this.validateColumn(index, x, z);
+
+            int height = surfaceHeights[index];
+
+            //Plants don't count towards the height map, so check nothing has been placed on the surface
+            if (height != UNKNOWN && (height >= 256 || chunk.getBlock(x & 15, height, z & 15).isAir(world, x, height, z))) return height;
+        }
+
+        int y = chunk.getTopFilledSegment() + 15;
+
+        while (y >= 0 && chunk.getBlock(x & 15, y, z & 15).isAir(world, x, y, z))
+        {
+            --y;
+        }
+
+        if (index != -1) surfaceHeights[index] = y + 1;
+
+        return y + 1;
+    }
+
+    /**
+     * Moves the start of a scan down a column past the air above its surface in one step, when the world is
+     * being decorated. Scans which start below the surface, such as in caves, are left where they are.
+     *
+     * @param lowestY the lowest height the scan looks at
+     * @return the height to start the scan from
+     */
+    public static int skipAirAboveSurface(World world, int x, int y, int z, int lowestY)
+    {
+        DecorationRegion region = DecorationBlockWriter.getRegion(world);
+
+        if (region == null || y <= lowestY) return y;
+
+        int surfaceHeight = region.getSurfaceHeight(x, z);
+
+        return y >= surfaceHeight ? Math.max(surfaceHeight - 1, lowestY) : y;
+    }
+
+    /**
+     * Forgets the snapshots of a column which has been written to
+     */
+    public void invalidateColumn(int x, int z)
+    {
+        int index = getColumnIndex(x, z);
+
+        if (index != -1)
+        {
+            topSolidOrLiquidBlocks[index] = UNKNOWN;
+            surfaceHeights[index] = UNKNOWN;
+        }
+    }
+
+    /**
+     * @return the index of the column's snapshots, or -1 if it is outside of the loaded decoration area
+     */
+    private int getColumnIndex(int x, int z)
+    {
+        int offsetX = x - (minChunkX << 4);
+        int offsetZ = z - (minChunkZ << 4);
+
+        if ((offsetX & ~(AREA_SIZE - 1)) != 0 || (offsetZ & ~(AREA_SIZE - 1)) != 0 || getChunk(x, z) == null) return -1;
+
+        return offsetZ * AREA_SIZE + offsetX;
+    }
+
+    private void validateColumn(int index, int x, int z)
+    {
+        int height = getChunk(x, z).getHeightValue(x & 15, z & 15);
+
+        if (snapshotHeights[index] != height)
+        {
+            snapshotHeights[index] = height;
+            topSolidOrLiquidBlocks[index] = UNKNOWN;
+            surfaceHeights[index] = UNKNOWN;
+        }
+    }
+
+    @Override
+    public TileEntity getTileEntity(int x, int y, int z)
+    {
+        return world.getTileEntity(x, y, z);
+    }
+
+    @Override
+    public int isBlockProvidingPowerTo(int x, int y, int z, int side)
+    {
+        return world.isBlockProvidingPowerTo(x, y, z, side);
+    }
+
+    @Override
+    public boolean isSideSolid(int x, int y, int z, ForgeDirection side, boolean _default)
+    {
+        return world.isSideSolid(x, y, z, side, _default);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public int getLightBrightnessForSkyBlocks(int x, int y, int z, int lightValue)
+    {
+        return world.getLightBrightnessForSkyBlocks(x, y, z, lightValue);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public BiomeGenBase getBiomeGenForCoords(int x, int z)
+    {
+        return world.getBiomeGenForCoords(x, z);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public int getHeight()
+    {
+        return world.getHeight();
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean extendedLevelsInChunkCache()
+    {
+        return world.extendedLevelsInChunkCache();
+    }
+}
@@ -0,0 +1,41 @@
+package biomesoplenty.common.world.generation;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+
+public abstract class WorldGenAbstractTreeBOP extends WorldGenAbstractTree
+{
+    private final boolean doBlockNotify;
+
+    public WorldGenAbstractTreeBOP(boolean doBlockNotify)
+    {
+        super(doBlockNotify);
+
+        this.doBlockNotify = doBlockNotify;
+    }
+
+    /**
+     * Checks the blocks above a sapling which every tree this generator grows would need to replace,
+     * so that saplings can skip growing when there isn't room without running the whole generator
+     *
+     * @param height the number of blocks above the sapling to check
+     */
+    public boolean hasRoomToGrow(World world, int x, int y, int z, int height)
+    {
+        if (y + height >= 256) return false;
+
+        for (int i = 1; i <= height; i++)
+        {
+            if (!this.isReplaceable(world, x, y + i, z)) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+    {
+        DecorationBlockWriter.setBlock(world, x, y, z, block, meta, this.doBlockNotify ? 3 : 2);
+    }
+}
@@ -142,8 +142,9 @@ public class WorldGenFieldAssociation
     
     private static void associateFeaturesForced()
     {
-        associateFeatureForced("waterSpringsPerChunk", new WorldGenLiquids(Blocks.flowing_water), SpringForcedGenerator.class);
-        associateFeatureForced("lavaSpringsPerChunk", new WorldGenLiquids(Blocks.flowing_lava), SpringForcedGenerator.class);
+        //Spring generators generate every kind of spring, whichever of them they were associated with
+        associateFeatureForced("waterSpringsPerChunk", new WorldGenLiquids(Blocks.flowing_water), SpringForcedGenerator.class, "lavaSpringsPerChunk", "bloodSpringsPerChunk");
+        associateFeatureForced("lavaSpringsPerChunk", new WorldGenLiquids(Blocks.flowing_lava), SpringForcedGenerator.class, "waterSpringsPerChunk", "bloodSpringsPerChunk");
         //associateFeatureForced("bloodSpringsPerChunk", new WorldGenLiquids(BOPCBlocks.blood), SpringForcedGenerator.class);
 
         associateFeatureForced("waterLakesPerChunk", new WorldGenLakes(Blocks.water), LakesForcedGenerator.class);
@@ -164,9 +165,12 @@ public class WorldGenFieldAssociation
         featureMap.put(name, new WorldFeature(generator));
     }
 
-    public static void associateFeatureForced(String name, WorldGenerator generator, Class<? extends ForcedWorldFeatureBOP> forcedFeature)
+    /**
+     * @param otherFeatures any other features the forced generator reads, besides the one it is associated with
+     */
+    public static void associateFeatureForced(String name, WorldGenerator generator, Class<? extends ForcedWorldFeatureBOP> forcedFeature, String... otherFeatures)
     {
-        associateFeature(name, new WorldFeature(generator, forcedFeature));
+        associateFeature(name, new WorldFeature(generator, forcedFeature, otherFeatures));
     }
 
     public static WorldFeature getAssociatedFeature(String name)
@@ -178,11 +182,13 @@ public class WorldGenFieldAssociation
     {
         private WorldGenerator worldGenerator;
         private Class<? extends ForcedWorldFeatureBOP> forcedFeature;
+        private String[] otherFeatures;
 
-        protected WorldFeature(WorldGenerator worldGenerator, Class<? extends ForcedWorldFeatureBOP> forcedFeature)
+        protected WorldFeature(WorldGenerator worldGenerator, Class<? extends ForcedWorldFeatureBOP> forcedFeature, String... otherFeatures)
         {
             this.worldGenerator = worldGenerator;
             this.forcedFeature = forcedFeature;
+            this.otherFeatures = otherFeatures;
         }
 
         protected WorldFeature(WorldGenerator worldGenerator)
@@ -190,6 +196,14 @@ public class WorldGenFieldAssociation
             this(worldGenerator, null);
         }
 
+        /**
+         * @return the other features which the generator reads, which it may generate even if its own feature is unset
+         */
+        public String[] getOtherFeatures()
+        {
+            return otherFeatures;
+        }
+
         public IBOPWorldGenerator getBOPWorldGenerator()
         {
             if (this.worldGenerator instanceof IBOPWorldGenerator)
@@ -2,14 +2,19 @@ package biomesoplenty.common.world.generation;
 
 import java.util.Random;
 
+import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 
 public abstract class WorldGeneratorBOP extends WorldGenerator implements IBOPWorldGenerator
 {
+    private final boolean doBlockNotify;
+
     public WorldGeneratorBOP(boolean doBlockNotify)
     {
         super(doBlockNotify);
+
+        this.doBlockNotify = doBlockNotify;
     }
 
     public WorldGeneratorBOP()
@@ -18,4 +23,10 @@ public abstract class WorldGeneratorBOP extends WorldGenerator implements IBOPWo
     }
     
 	public abstract boolean generate(World world, Random rand, int x, int y, int z);
+
+    @Override
+    protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+    {
+        DecorationBlockWriter.setBlock(world, x, y, z, block, meta, this.doBlockNotify ? 3 : 2);
+    }
 }
@@ -0,0 +1,90 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerAddIslandBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerAddIslandBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int topLeft = inputBiomeIds[xItr + 0 + (zItr + 0) * (width + 2)];
+                int topRight = inputBiomeIds[xItr + 2 + (zItr + 0) * (width + 2)];
+                int bottomLeft = inputBiomeIds[xItr + 0 + (zItr + 2) * (width + 2)];
+                int bottomRight = inputBiomeIds[xItr + 2 + (zItr + 2) * (width + 2)];
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+
+                if (centre != 0 || topLeft == 0 && topRight == 0 && bottomLeft == 0 && bottomRight == 0)
+                {
+                    if (centre > 0 && (topLeft == 0 || topRight == 0 || bottomLeft == 0 || bottomRight == 0))
+                    {
+                        if (this.nextInt(5) == 0)
+                        {
+                            outputBiomeIds[xItr + zItr * width] = centre == 4 ? 4 : 0;
+                        }
+                        else
+                        {
+                            outputBiomeIds[xItr + zItr * width] = centre;
+                        }
+                    }
+                    else
+                    {
+                        outputBiomeIds[xItr + zItr * width] = centre;
+                    }
+                }
+                else
+                {
+                    int bound = 1;
+                    int landBiomeId = 1;
+
+                    if (topLeft != 0 && this.nextInt(bound++) == 0)
+                    {
+                        landBiomeId = topLeft;
+                    }
+
+                    if (topRight != 0 && this.nextInt(bound++) == 0)
+                    {
+                        landBiomeId = topRight;
+                    }
+
+                    if (bottomLeft != 0 && this.nextInt(bound++) == 0)
+                    {
+                        landBiomeId = bottomLeft;
+                    }
+
+                    if (bottomRight != 0 && this.nextInt(bound++) == 0)
+                    {
+                        landBiomeId = bottomRight;
+                    }
+
+                    if (this.nextInt(3) == 0)
+                    {
+                        outputBiomeIds[xItr + zItr * width] = landBiomeId;
+                    }
+                    else
+                    {
+                        outputBiomeIds[xItr + zItr * width] = landBiomeId == 4 ? 4 : 0;
+                    }
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
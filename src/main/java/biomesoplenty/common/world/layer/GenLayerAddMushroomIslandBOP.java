@@ -0,0 +1,47 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerAddMushroomIslandBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerAddMushroomIslandBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int topLeft = inputBiomeIds[xItr + 0 + (zItr + 0) * (width + 2)];
+                int topRight = inputBiomeIds[xItr + 2 + (zItr + 0) * (width + 2)];
+                int bottomLeft = inputBiomeIds[xItr + 0 + (zItr + 2) * (width + 2)];
+                int bottomRight = inputBiomeIds[xItr + 2 + (zItr + 2) * (width + 2)];
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+
+                if (centre == 0 && topLeft == 0 && topRight == 0 && bottomLeft == 0 && bottomRight == 0 && this.nextInt(100) == 0)
+                {
+                    outputBiomeIds[xItr + zItr * width] = BiomeGenBase.mushroomIsland.biomeID;
+                }
+                else
+                {
+                    outputBiomeIds[xItr + zItr * width] = centre;
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
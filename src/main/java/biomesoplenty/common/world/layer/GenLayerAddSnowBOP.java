@@ -0,0 +1,55 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerAddSnowBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerAddSnowBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+
+                if (centre == 0)
+                {
+                    outputBiomeIds[xItr + zItr * width] = 0;
+                }
+                else
+                {
+                    int temperature = this.nextInt(6);
+
+                    if (temperature == 0)
+                    {
+                        outputBiomeIds[xItr + zItr * width] = 4;
+                    }
+                    else if (temperature <= 1)
+                    {
+                        outputBiomeIds[xItr + zItr * width] = 3;
+                    }
+                    else
+                    {
+                        outputBiomeIds[xItr + zItr * width] = 1;
+                    }
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
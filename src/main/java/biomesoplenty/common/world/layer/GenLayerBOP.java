@@ -3,23 +3,14 @@ package biomesoplenty.common.world.layer;
 import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
 import net.minecraft.world.WorldType;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.GenLayerAddIsland;
-import net.minecraft.world.gen.layer.GenLayerAddMushroomIsland;
-import net.minecraft.world.gen.layer.GenLayerAddSnow;
-import net.minecraft.world.gen.layer.GenLayerDeepOcean;
 import net.minecraft.world.gen.layer.GenLayerEdge;
-import net.minecraft.world.gen.layer.GenLayerFuzzyZoom;
-import net.minecraft.world.gen.layer.GenLayerHills;
-import net.minecraft.world.gen.layer.GenLayerIsland;
-import net.minecraft.world.gen.layer.GenLayerRareBiome;
-import net.minecraft.world.gen.layer.GenLayerRemoveTooMuchOcean;
-import net.minecraft.world.gen.layer.GenLayerRiver;
-import net.minecraft.world.gen.layer.GenLayerRiverInit;
-import net.minecraft.world.gen.layer.GenLayerShore;
-import net.minecraft.world.gen.layer.GenLayerSmooth;
 import net.minecraft.world.gen.layer.GenLayerVoronoiZoom;
-import net.minecraft.world.gen.layer.GenLayerZoom;
 
+/**
+ * The overworld layers all keep their own buffers rather than sharing the IntCache, as the Nether layers do,
+ * so that separate copies of the chain can be used from separate threads. The vanilla layers are replaced by
+ * copies which pick exactly the same biomes.
+ */
 public abstract class GenLayerBOP extends GenLayer
 {
 	public GenLayerBOP(long par1) 
@@ -30,25 +21,25 @@ public abstract class GenLayerBOP extends GenLayer
     public static GenLayer[] initializeAllBiomeGenerators(long seed, WorldType par2WorldType)
     {
         boolean flag = false;
-        GenLayer genLayerCreateLand = BOPConfigurationTerrainGen.oceanFiller ? new GenLayerIsland(1L) : new GenLayerCreateLand(1L);
-        GenLayerFuzzyZoom genlayerfuzzyzoom = new GenLayerFuzzyZoom(2000L, genLayerCreateLand);
-        GenLayerAddIsland genlayeraddisland = new GenLayerAddIsland(1L, genlayerfuzzyzoom);
-        GenLayerZoom genlayerzoom = new GenLayerZoom(2001L, genlayeraddisland);
-        genlayeraddisland = new GenLayerAddIsland(2L, genlayerzoom);
-        genlayeraddisland = new GenLayerAddIsland(50L, genlayeraddisland);
-        genlayeraddisland = new GenLayerAddIsland(70L, genlayeraddisland);
-        GenLayerRemoveTooMuchOcean genlayerremovetoomuchocean = new GenLayerRemoveTooMuchOcean(2L, genlayeraddisland);
-        GenLayerAddSnow genlayeraddsnow = new GenLayerAddSnow(2L, BOPConfigurationTerrainGen.oceanFiller ? genlayerremovetoomuchocean : genlayeraddisland);
-        genlayeraddisland = new GenLayerAddIsland(3L, genlayeraddsnow);
-        GenLayerEdge genlayeredge = new GenLayerEdge(2L, genlayeraddisland, GenLayerEdge.Mode.COOL_WARM);
-        genlayeredge = new GenLayerEdge(2L, genlayeredge, GenLayerEdge.Mode.HEAT_ICE);
-        genlayeredge = new GenLayerEdge(3L, genlayeredge, GenLayerEdge.Mode.SPECIAL);
-        genlayerzoom = new GenLayerZoom(2002L, genlayeredge);
-        genlayerzoom = new GenLayerZoom(2003L, genlayerzoom);
-        genlayeraddisland = new GenLayerAddIsland(4L, genlayerzoom);
-        GenLayerAddMushroomIsland genlayeraddmushroomisland = new GenLayerAddMushroomIsland(5L, genlayeraddisland);
-        GenLayerDeepOcean genlayerdeepocean = new GenLayerDeepOcean(4L, genlayeraddmushroomisland);
-        GenLayer genlayer2 = GenLayerZoom.magnify(1000L, genlayerdeepocean, 0);
+        GenLayer genLayerCreateLand = BOPConfigurationTerrainGen.oceanFiller ? new GenLayerIslandBOP(1L) : new GenLayerCreateLand(1L);
+        GenLayerFuzzyZoomBOP genlayerfuzzyzoom = new GenLayerFuzzyZoomBOP(2000L, genLayerCreateLand);
+        GenLayerAddIslandBOP genlayeraddisland = new GenLayerAddIslandBOP(1L, genlayerfuzzyzoom);
+        GenLayerZoomBOP genlayerzoom = new GenLayerZoomBOP(2001L, genlayeraddisland);
+        genlayeraddisland = new GenLayerAddIslandBOP(2L, genlayerzoom);
+        genlayeraddisland = new GenLayerAddIslandBOP(50L, genlayeraddisland);
+        genlayeraddisland = new GenLayerAddIslandBOP(70L, genlayeraddisland);
+        GenLayerRemoveTooMuchOceanBOP genlayerremovetoomuchocean = new GenLayerRemoveTooMuchOceanBOP(2L, genlayeraddisland);
+        GenLayerAddSnowBOP genlayeraddsnow = new GenLayerAddSnowBOP(2L, BOPConfigurationTerrainGen.oceanFiller ? genlayerremovetoomuchocean : genlayeraddisland);
+        genlayeraddisland = new GenLayerAddIslandBOP(3L, genlayeraddsnow);
+        GenLayerEdgeBOP genlayeredge = new GenLayerEdgeBOP(2L, genlayeraddisland, GenLayerEdge.Mode.COOL_WARM);
+        genlayeredge = new GenLayerEdgeBOP(2L, genlayeredge, GenLayerEdge.Mode.HEAT_ICE);
+        genlayeredge = new GenLayerEdgeBOP(3L, genlayeredge, GenLayerEdge.Mode.SPECIAL);
+        genlayerzoom = new GenLayerZoomBOP(2002L, genlayeredge);
+        genlayerzoom = new GenLayerZoomBOP(2003L, genlayerzoom);
+        genlayeraddisland = new GenLayerAddIslandBOP(4L, genlayerzoom);
+        GenLayerAddMushroomIslandBOP genlayeraddmushroomisland = new GenLayerAddMushroomIslandBOP(5L, genlayeraddisland);
+        GenLayerDeepOceanBOP genlayerdeepocean = new GenLayerDeepOceanBOP(4L, genlayeraddmushroomisland);
+        GenLayer genlayer2 = GenLayerZoomBOP.magnify(1000L, genlayerdeepocean, 0);
         byte b0 = 4;
 
         if (flag)
@@ -57,30 +48,30 @@ public abstract class GenLayerBOP extends GenLayer
         }
         b0 = getModdedBiomeSize(par2WorldType, b0);
 
-        GenLayer genlayer = GenLayerZoom.magnify(1000L, genlayer2, 0);
-        GenLayerRiverInit genlayerriverinit = new GenLayerRiverInit(100L, genlayer);
+        GenLayer genlayer = GenLayerZoomBOP.magnify(1000L, genlayer2, 0);
+        GenLayerRiverInitBOP genlayerriverinit = new GenLayerRiverInitBOP(100L, genlayer);
         Object object = par2WorldType.getBiomeLayer(seed, genlayer2);
 
-        GenLayer genlayer1 = GenLayerZoom.magnify(1000L, genlayerriverinit, 2);
+        GenLayer genlayer1 = GenLayerZoomBOP.magnify(1000L, genlayerriverinit, 2);
         //GenLayerHills genlayerhills = new GenLayerHills(1000L, (GenLayer)object, genlayer1);
         GenLayerMutationBOP genlayermutation = new GenLayerMutationBOP(1000L, (GenLayer)object, genlayer1);
         //
         GenLayerSubBiome genlayersubbiome = new GenLayerSubBiome(1500L, genlayermutation);
         //
-        genlayer = GenLayerZoom.magnify(1000L, genlayerriverinit, 2);
-        genlayer = GenLayerZoom.magnify(1000L, genlayer, b0);
-        GenLayerRiver genlayerriver = new GenLayerRiver(1L, genlayer);
-        GenLayerSmooth genlayersmooth = new GenLayerSmooth(1000L, genlayerriver);
+        genlayer = GenLayerZoomBOP.magnify(1000L, genlayerriverinit, 2);
+        genlayer = GenLayerZoomBOP.magnify(1000L, genlayer, b0);
+        GenLayerRiverBOP genlayerriver = new GenLayerRiverBOP(1L, genlayer);
+        GenLayerSmoothBOP genlayersmooth = new GenLayerSmoothBOP(1000L, genlayerriver);
         //object = new GenLayerRareBiome(1001L, genlayerhills);
-        object = new GenLayerRareBiome(1001L, genlayersubbiome);
+        object = new GenLayerRareBiomeBOP(1001L, genlayersubbiome);
         
         for (int j = 0; j < b0; ++j)
         {
-            object = new GenLayerZoom((long)(1000 + j), (GenLayer)object);
+            object = new GenLayerZoomBOP((long)(1000 + j), (GenLayer)object);
 
             if (j == 0)
             {
-                object = new GenLayerAddIsland(3L, (GenLayer)object);
+                object = new GenLayerAddIslandBOP(3L, (GenLayer)object);
             }
 
             if (j == 1)
@@ -89,11 +80,19 @@ public abstract class GenLayerBOP extends GenLayer
             }
         }
 
-        GenLayerSmooth genlayersmooth1 = new GenLayerSmooth(1000L, (GenLayer)object);
+        GenLayerSmoothBOP genlayersmooth1 = new GenLayerSmoothBOP(1000L, (GenLayer)object);
         GenLayerRiverMixBOP genlayerrivermix = new GenLayerRiverMixBOP(100L, genlayersmooth1, genlayersmooth);
         GenLayerVoronoiZoom genlayervoronoizoom = new GenLayerVoronoiZoom(10L, genlayerrivermix);
         genlayerrivermix.initWorldGenSeed(seed);
         genlayervoronoizoom.initWorldGenSeed(seed);
         return new GenLayer[] {genlayerrivermix, genlayervoronoizoom, genlayerrivermix};
     }
+
+	/**
+	 * Returns the given buffer if it can hold the requested number of values, otherwise a new buffer
+	 */
+	protected static int[] ensureCapacity(int[] buffer, int size)
+	{
+		return buffer != null && buffer.length >= size ? buffer : new int[size];
+	}
 }
@@ -8,7 +8,6 @@ import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.GenLayerBiome;
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.common.BiomeManager;
 import net.minecraftforge.common.BiomeManager.BiomeEntry;
 
@@ -20,6 +19,7 @@ public class GenLayerBiomeBOP extends GenLayerBiome
 	//Desert, Warm, Cool, Icy
 	public final List<BiomeEntry>[] biomeLists = new ArrayList[] { new ArrayList(), new ArrayList(), new ArrayList(), new ArrayList() };
 	private final int[] totalWeights = new int[biomeLists.length];
+	private int[] outputBuffer;
 	
 	public GenLayerBiomeBOP(long seed, GenLayer parentLayer, WorldType worldType) 
 	{
@@ -68,7 +68,7 @@ public class GenLayerBiomeBOP extends GenLayerBiome
 	public int[] getInts(int x, int z, int width, int length)
     {
         int[] inputBiomeIDs = this.parent.getInts(x, z, width, length);
-        int[] outputBiomeIDs = IntCache.getIntCache(width * length);
+        int[] outputBiomeIDs = outputBuffer = GenLayerBOP.ensureCapacity(outputBuffer, width * length);
 
         for (int i1 = 0; i1 < length; ++i1)
         {
@@ -0,0 +1,163 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerBiomeEdgeBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerBiomeEdgeBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+                int biomeId = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+
+                if (!this.replaceBiomeEdgeIfNecessary(inputBiomeIds, outputBiomeIds, xItr, zItr, width, biomeId, BiomeGenBase.extremeHills.biomeID, BiomeGenBase.extremeHillsEdge.biomeID) && !this.replaceBiomeEdge(inputBiomeIds, outputBiomeIds, xItr, zItr, width, biomeId, BiomeGenBase.mesaPlateau_F.biomeID, BiomeGenBase.mesa.biomeID) && !this.replaceBiomeEdge(inputBiomeIds, outputBiomeIds, xItr, zItr, width, biomeId, BiomeGenBase.mesaPlateau.biomeID, BiomeGenBase.mesa.biomeID) && !this.replaceBiomeEdge(inputBiomeIds, outputBiomeIds, xItr, zItr, width, biomeId, BiomeGenBase.megaTaiga.biomeID, BiomeGenBase.taiga.biomeID))
+                {
+                    int north;
+                    int east;
+                    int west;
+                    int south;
+
+                    if (biomeId == BiomeGenBase.desert.biomeID)
+                    {
+                        north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+                        east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+                        west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+                        south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+
+                        if (north != BiomeGenBase.icePlains.biomeID && east != BiomeGenBase.icePlains.biomeID && west != BiomeGenBase.icePlains.biomeID && south != BiomeGenBase.icePlains.biomeID)
+                        {
+                            outputBiomeIds[xItr + zItr * width] = biomeId;
+                        }
+                        else
+                        {
+                            outputBiomeIds[xItr + zItr * width] = BiomeGenBase.extremeHillsPlus.biomeID;
+                        }
+                    }
+                    else if (biomeId == BiomeGenBase.swampland.biomeID)
+                    {
+                        north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+                        east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+                        west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+                        south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+
+                        if (north != BiomeGenBase.desert.biomeID && east != BiomeGenBase.desert.biomeID && west != BiomeGenBase.desert.biomeID && south != BiomeGenBase.desert.biomeID && north != BiomeGenBase.coldTaiga.biomeID && east != BiomeGenBase.coldTaiga.biomeID && west != BiomeGenBase.coldTaiga.biomeID && south != BiomeGenBase.coldTaiga.biomeID && north != BiomeGenBase.icePlains.biomeID && east != BiomeGenBase.icePlains.biomeID && west != BiomeGenBase.icePlains.biomeID && south != BiomeGenBase.icePlains.biomeID)
+                        {
+                            if (north != BiomeGenBase.jungle.biomeID && south != BiomeGenBase.jungle.biomeID && east != BiomeGenBase.jungle.biomeID && west != BiomeGenBase.jungle.biomeID)
+                            {
+                                outputBiomeIds[xItr + zItr * width] = biomeId;
+                            }
+                            else
+                            {
+                                outputBiomeIds[xItr + zItr * width] = BiomeGenBase.jungleEdge.biomeID;
+                            }
+                        }
+                        else
+                        {
+                            outputBiomeIds[xItr + zItr * width] = BiomeGenBase.plains.biomeID;
+                        }
+                    }
+                    else
+                    {
+                        outputBiomeIds[xItr + zItr * width] = biomeId;
+                    }
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+
+    /**
+     * Replaces a biome with its edge variant unless every neighbour is the same biome or one of a compatible temperature
+     */
+    private boolean replaceBiomeEdgeIfNecessary(int[] inputBiomeIds, int[] outputBiomeIds, int xItr, int zItr, int width, int biomeId, int fromBiomeId, int toBiomeId)
+    {
+        if (!compareBiomesById(biomeId, fromBiomeId))
+        {
+            return false;
+        }
+        else
+        {
+            int north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+            int east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+            int west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+            int south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+
+            if (this.canBiomesBeNeighbors(north, fromBiomeId) && this.canBiomesBeNeighbors(east, fromBiomeId) && this.canBiomesBeNeighbors(west, fromBiomeId) && this.canBiomesBeNeighbors(south, fromBiomeId))
+            {
+                outputBiomeIds[xItr + zItr * width] = biomeId;
+            }
+            else
+            {
+                outputBiomeIds[xItr + zItr * width] = toBiomeId;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Replaces a biome with its edge variant unless every neighbour is the same biome
+     */
+    private boolean replaceBiomeEdge(int[] inputBiomeIds, int[] outputBiomeIds, int xItr, int zItr, int width, int biomeId, int fromBiomeId, int toBiomeId)
+    {
+        if (biomeId != fromBiomeId)
+        {
+            return false;
+        }
+        else
+        {
+            int north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+            int east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+            int west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+            int south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+
+            if (compareBiomesById(north, fromBiomeId) && compareBiomesById(east, fromBiomeId) && compareBiomesById(west, fromBiomeId) && compareBiomesById(south, fromBiomeId))
+            {
+                outputBiomeIds[xItr + zItr * width] = biomeId;
+            }
+            else
+            {
+                outputBiomeIds[xItr + zItr * width] = toBiomeId;
+            }
+
+            return true;
+        }
+    }
+
+    private boolean canBiomesBeNeighbors(int biomeIdA, int biomeIdB)
+    {
+        if (compareBiomesById(biomeIdA, biomeIdB))
+        {
+            return true;
+        }
+        else if (BiomeGenBase.getBiome(biomeIdA) != null && BiomeGenBase.getBiome(biomeIdB) != null)
+        {
+            BiomeGenBase.TempCategory tempCategoryA = BiomeGenBase.getBiome(biomeIdA).getTempCategory();
+            BiomeGenBase.TempCategory tempCategoryB = BiomeGenBase.getBiome(biomeIdB).getTempCategory();
+
+            return tempCategoryA == tempCategoryB || tempCategoryA == BiomeGenBase.TempCategory.MEDIUM || tempCategoryB == BiomeGenBase.TempCategory.MEDIUM;
+        }
+        else
+        {
+            return false;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package biomesoplenty.common.world.layer;
 
 import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
-import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
-public class GenLayerCreateLand extends GenLayer
+public class GenLayerCreateLand extends GenLayerBOP
 {
+    private int[] outputBuffer;
+
     public GenLayerCreateLand(long seed)
     {
         super(seed);
@@ -14,7 +14,7 @@ public class GenLayerCreateLand extends GenLayer
     @Override
 	public int[] getInts(int x, int z, int length, int width)
     {
-        int[] outputBiomeIds = IntCache.getIntCache(length * width);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, length * width);
 
         for (int xItr = 0; xItr < length; ++xItr)
         {
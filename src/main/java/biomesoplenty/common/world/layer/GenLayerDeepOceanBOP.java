@@ -0,0 +1,67 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerDeepOceanBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerDeepOceanBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+                int east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+                int west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+                int south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+                int oceanNeighbours = 0;
+
+                if (north == 0)
+                {
+                    ++oceanNeighbours;
+                }
+
+                if (east == 0)
+                {
+                    ++oceanNeighbours;
+                }
+
+                if (west == 0)
+                {
+                    ++oceanNeighbours;
+                }
+
+                if (south == 0)
+                {
+                    ++oceanNeighbours;
+                }
+
+                if (centre == 0 && oceanNeighbours > 3)
+                {
+                    outputBiomeIds[xItr + zItr * width] = BiomeGenBase.deepOcean.biomeID;
+                }
+                else
+                {
+                    outputBiomeIds[xItr + zItr * width] = centre;
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
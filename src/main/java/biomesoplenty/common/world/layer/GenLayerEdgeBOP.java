@@ -0,0 +1,133 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.GenLayerEdge;
+
+public class GenLayerEdgeBOP extends GenLayerBOP
+{
+    private final GenLayerEdge.Mode mode;
+    private int[] outputBuffer;
+
+    public GenLayerEdgeBOP(long seed, GenLayer parent, GenLayerEdge.Mode mode)
+    {
+        super(seed);
+
+        this.parent = parent;
+        this.mode = mode;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        switch (this.mode)
+        {
+            case COOL_WARM:
+            default:
+                return this.getIntsCoolWarm(x, z, width, length);
+            case HEAT_ICE:
+                return this.getIntsHeatIce(x, z, width, length);
+            case SPECIAL:
+                return this.getIntsSpecial(x, z, width, length);
+        }
+    }
+
+    /**
+     * Puts temperate land between warm and cold or icy land
+     */
+    private int[] getIntsCoolWarm(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+
+                if (centre == 1)
+                {
+                    int north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+                    int east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+                    int west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+                    int south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+                    boolean cold = north == 3 || east == 3 || west == 3 || south == 3;
+                    boolean icy = north == 4 || east == 4 || west == 4 || south == 4;
+
+                    if (cold || icy)
+                    {
+                        centre = 2;
+                    }
+                }
+
+                outputBiomeIds[xItr + zItr * width] = centre;
+            }
+        }
+
+        return outputBiomeIds;
+    }
+
+    /**
+     * Puts cold land between icy and warm or temperate land
+     */
+    private int[] getIntsHeatIce(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+
+                if (centre == 4)
+                {
+                    int north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+                    int east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+                    int west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+                    int south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+                    boolean temperate = north == 2 || east == 2 || west == 2 || south == 2;
+                    boolean warm = north == 1 || east == 1 || west == 1 || south == 1;
+
+                    if (warm || temperate)
+                    {
+                        centre = 3;
+                    }
+                }
+
+                outputBiomeIds[xItr + zItr * width] = centre;
+            }
+        }
+
+        return outputBiomeIds;
+    }
+
+    /**
+     * Marks some land as special, which turns it into a rarer biome of its temperature
+     */
+    private int[] getIntsSpecial(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x, z, width, length);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+                int biomeId = inputBiomeIds[xItr + zItr * width];
+
+                if (biomeId != 0 && this.nextInt(13) == 0)
+                {
+                    biomeId |= 1 + this.nextInt(15) << 8 & 3840;
+                }
+
+                outputBiomeIds[xItr + zItr * width] = biomeId;
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
@@ -0,0 +1,20 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerFuzzyZoomBOP extends GenLayerZoomBOP
+{
+    public GenLayerFuzzyZoomBOP(long seed, GenLayer parent)
+    {
+        super(seed, parent);
+    }
+
+    /**
+     * Picks any one of the four corners, rather than the most common
+     */
+    @Override
+    protected int selectModeOrRandom(int topLeft, int topRight, int bottomLeft, int bottomRight)
+    {
+        return this.selectRandom(new int[] {topLeft, topRight, bottomLeft, bottomRight});
+    }
+}
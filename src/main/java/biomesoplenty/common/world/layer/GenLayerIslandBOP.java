@@ -0,0 +1,33 @@
+package biomesoplenty.common.world.layer;
+
+public class GenLayerIslandBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerIslandBOP(long seed)
+    {
+        super(seed);
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                this.initChunkSeed((long)(x + xItr), (long)(z + zItr));
+                outputBiomeIds[xItr + zItr * width] = this.nextInt(10) == 0 ? 1 : 0;
+            }
+        }
+
+        if (x > -width && x <= 0 && z > -length && z <= 0)
+        {
+            outputBiomeIds[-x + -z * width] = 1;
+        }
+
+        return outputBiomeIds;
+    }
+}
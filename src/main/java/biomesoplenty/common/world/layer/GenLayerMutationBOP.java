@@ -3,14 +3,14 @@ package biomesoplenty.common.world.layer;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.BiomeGenMutated;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class GenLayerMutationBOP extends GenLayer
+public class GenLayerMutationBOP extends GenLayerBOP
 {
     private GenLayer field_151628_d;
+    private int[] outputBuffer;
 
     public GenLayerMutationBOP(long seed, GenLayer parent, GenLayer p_i45479_4_)
     {
@@ -28,7 +28,7 @@ public class GenLayerMutationBOP extends GenLayer
     {
         int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, length + 2, width + 2);
         int[] aint1 = this.field_151628_d.getInts(x - 1, z - 1, length + 2, width + 2);
-        int[] outputBiomeIds = IntCache.getIntCache(length * width);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, length * width);
 
         for (int zItr = 0; zItr < width; ++zItr)
         {
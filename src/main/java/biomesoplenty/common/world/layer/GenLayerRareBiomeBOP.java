@@ -0,0 +1,44 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerRareBiomeBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerRareBiomeBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+                int biomeId = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+
+                //Plains occasionally become sunflower plains
+                if (this.nextInt(57) == 0 && biomeId == BiomeGenBase.plains.biomeID)
+                {
+                    outputBiomeIds[xItr + zItr * width] = biomeId + 128;
+                }
+                else
+                {
+                    outputBiomeIds[xItr + zItr * width] = biomeId;
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
@@ -0,0 +1,43 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerRemoveTooMuchOceanBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerRemoveTooMuchOceanBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int north = inputBiomeIds[xItr + 1 + (zItr + 1 - 1) * (width + 2)];
+                int east = inputBiomeIds[xItr + 1 + 1 + (zItr + 1) * (width + 2)];
+                int west = inputBiomeIds[xItr + 1 - 1 + (zItr + 1) * (width + 2)];
+                int south = inputBiomeIds[xItr + 1 + (zItr + 1 + 1) * (width + 2)];
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+                outputBiomeIds[xItr + zItr * width] = centre;
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+
+                if (centre == 0 && north == 0 && east == 0 && west == 0 && south == 0 && this.nextInt(2) == 0)
+                {
+                    outputBiomeIds[xItr + zItr * width] = 1;
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
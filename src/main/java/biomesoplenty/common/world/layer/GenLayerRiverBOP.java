@@ -0,0 +1,54 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerRiverBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerRiverBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputValues = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int west = getRiverFilter(inputValues[xItr + 0 + (zItr + 1) * (width + 2)]);
+                int east = getRiverFilter(inputValues[xItr + 2 + (zItr + 1) * (width + 2)]);
+                int north = getRiverFilter(inputValues[xItr + 1 + (zItr + 0) * (width + 2)]);
+                int south = getRiverFilter(inputValues[xItr + 1 + (zItr + 2) * (width + 2)]);
+                int centre = getRiverFilter(inputValues[xItr + 1 + (zItr + 1) * (width + 2)]);
+
+                if (centre == west && centre == north && centre == east && centre == south)
+                {
+                    outputBiomeIds[xItr + zItr * width] = -1;
+                }
+                else
+                {
+                    outputBiomeIds[xItr + zItr * width] = BiomeGenBase.river.biomeID;
+                }
+            }
+        }
+
+        return outputBiomeIds;
+    }
+
+    /**
+     * Rivers run along the edges between odd and even values
+     */
+    private static int getRiverFilter(int value)
+    {
+        return value >= 2 ? 2 + (value & 1) : value;
+    }
+}
@@ -0,0 +1,33 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerRiverInitBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerRiverInitBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x, z, width, length);
+        int[] outputValues = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+                outputValues[xItr + zItr * width] = inputBiomeIds[xItr + zItr * width] > 0 ? this.nextInt(299999) + 2 : 0;
+            }
+        }
+
+        return outputValues;
+    }
+}
@@ -3,7 +3,6 @@ package biomesoplenty.common.world.layer;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.GenLayerRiverMix;
-import net.minecraft.world.gen.layer.IntCache;
 import biomesoplenty.api.content.BOPCBiomes;
 import biomesoplenty.common.world.BOPBiomeManager;
 
@@ -11,6 +10,7 @@ public class GenLayerRiverMixBOP extends GenLayerRiverMix
 {
     private GenLayer biomePatternGeneratorChain;
     private GenLayer riverPatternGeneratorChain;
+    private int[] outputBuffer;
 
     public GenLayerRiverMixBOP(long seed, GenLayer biomePatternGeneratorChain, GenLayer riverPatternGeneratorChain)
     {
@@ -33,7 +33,7 @@ public class GenLayerRiverMixBOP extends GenLayerRiverMix
     {
         int[] inputBiomeIds = this.biomePatternGeneratorChain.getInts(x, z, width, length);
         int[] riverBiomeIds = this.riverPatternGeneratorChain.getInts(x, z, width, length);
-        int[] outputBiomeIds = IntCache.getIntCache(width * length);
+        int[] outputBiomeIds = outputBuffer = GenLayerBOP.ensureCapacity(outputBuffer, width * length);
 
         for (int i1 = 0; i1 < width * length; ++i1)
         {
@@ -4,11 +4,12 @@ import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.BiomeGenJungle;
 import net.minecraft.world.biome.BiomeGenMesa;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 import biomesoplenty.common.world.BOPBiomeManager;
 
-public class GenLayerShoreBOP extends GenLayer
+public class GenLayerShoreBOP extends GenLayerBOP
 {
+    private int[] outputBuffer;
+
     public GenLayerShoreBOP(long seed, GenLayer parent)
     {
         super(seed);
@@ -20,7 +21,7 @@ public class GenLayerShoreBOP extends GenLayer
     public int[] getInts(int x, int z, int width, int length)
     {
         int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
-        int[] outputBiomeIds = IntCache.getIntCache(width * length);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
 
         for (int i1 = 0; i1 < length; ++i1)
         {
@@ -0,0 +1,64 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerSmoothBOP extends GenLayerBOP
+{
+    private int[] outputBuffer;
+
+    public GenLayerSmoothBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int[] inputBiomeIds = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            for (int xItr = 0; xItr < width; ++xItr)
+            {
+                int west = inputBiomeIds[xItr + 0 + (zItr + 1) * (width + 2)];
+                int east = inputBiomeIds[xItr + 2 + (zItr + 1) * (width + 2)];
+                int north = inputBiomeIds[xItr + 1 + (zItr + 0) * (width + 2)];
+                int south = inputBiomeIds[xItr + 1 + (zItr + 2) * (width + 2)];
+                int centre = inputBiomeIds[xItr + 1 + (zItr + 1) * (width + 2)];
+
+                if (west == east && north == south)
+                {
+                    this.initChunkSeed((long)(xItr + x), (long)(zItr + z));
+
+                    if (this.nextInt(2) == 0)
+                    {
+                        centre = west;
+                    }
+                    else
+                    {
+                        centre = north;
+                    }
+                }
+                else
+                {
+                    if (west == east)
+                    {
+                        centre = west;
+                    }
+
+                    if (north == south)
+                    {
+                        centre = north;
+                    }
+                }
+
+                outputBiomeIds[xItr + zItr * width] = centre;
+            }
+        }
+
+        return outputBiomeIds;
+    }
+}
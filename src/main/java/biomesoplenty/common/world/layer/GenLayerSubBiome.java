@@ -4,20 +4,23 @@ import java.util.List;
 
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.common.BiomeManager.BiomeEntry;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import biomesoplenty.common.biome.BOPSubBiome;
 import biomesoplenty.common.world.BOPBiomeManager;
 import biomesoplenty.common.world.noise.SimplexNoise;
 
-public class GenLayerSubBiome extends GenLayer
+public class GenLayerSubBiome extends GenLayerBOP
 {
-	private final int OFFSET_RANGE = 500000;
+	/** Each sub biome has its own noise, seeded from the world seed, indexed by biome id */
+	private SimplexNoise[] subBiomeNoise = new SimplexNoise[BiomeGenBase.getBiomeGenArray().length];
 	
-	private Pair<Integer, Integer>[] offsets = new Pair[BiomeGenBase.getBiomeGenArray().length];
+	/** Scratch space for getInts, the number of cells each sub biome was picked for and the sub biomes picked */
+	private int[] subBiomeCounts = new int[BiomeGenBase.getBiomeGenArray().length];
+	private BOPSubBiome[] presentSubBiomes = new BOPSubBiome[BiomeGenBase.getBiomeGenArray().length];
+	private double[] noiseBuffer = new double[0];
+	private int[] subBiomeIDBuffer;
+	private int[] outputBuffer;
 	
 	public GenLayerSubBiome(long seed, GenLayer parent) 
 	{
@@ -25,14 +28,24 @@ public class GenLayerSubBiome extends GenLayer
 		
 		this.parent = parent;
 		
-		this.setOffsets();
+		this.createNoise(0L);
+	}
+	
+	@Override
+	public void initWorldGenSeed(long seed)
+	{
+		super.initWorldGenSeed(seed);
+		
+		this.createNoise(seed);
 	}
 	
     @Override
 	public int[] getInts(int x, int z, int width, int length)
     {
         int[] inputBiomeIDs = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
-        int[] outputBiomeIDs = IntCache.getIntCache(width * length);
+        int[] outputBiomeIDs = outputBuffer = ensureCapacity(outputBuffer, width * length);
+        int[] subBiomeIDs = subBiomeIDBuffer = ensureCapacity(subBiomeIDBuffer, width * length);
+        int subBiomeTypes = 0;
 
         for (int xi = 0; xi < width; ++xi) 
         {
@@ -44,36 +57,63 @@ public class GenLayerSubBiome extends GenLayer
         		List<BiomeEntry> currentSubBiomes = BOPBiomeManager.overworldSubBiomes[currentBiomeId];
         		BOPSubBiome selectedSubBiome = currentSubBiomes != null ? (BOPSubBiome)currentSubBiomes.get(this.nextInt(currentSubBiomes.size())).biome : null;
         		
-        		if (selectedSubBiome != null)
+        		outputBiomeIDs[xi + zi * width] = currentBiomeId;
+        		subBiomeIDs[xi + zi * width] = selectedSubBiome != null ? selectedSubBiome.biomeID : -1;
+        		
+        		if (selectedSubBiome != null && subBiomeCounts[selectedSubBiome.biomeID]++ == 0)
         		{
-        			Pair<Integer, Integer> offset = getOffset(selectedSubBiome);
-        			
-        			if (SimplexNoise.noise((xi + x + offset.getLeft()) * selectedSubBiome.zoom, (zi + z + offset.getRight()) * selectedSubBiome.zoom) > selectedSubBiome.threshold)  
-        			{
-        				outputBiomeIDs[xi + zi * width] = selectedSubBiome.biomeID;
-        			}
-        			else outputBiomeIDs[xi + zi * width] = currentBiomeId;
+        			presentSubBiomes[subBiomeTypes++] = selectedSubBiome;
         		}
-        		else
+        	}
+        }
+        
+        //Sub biomes covering most of the area have their noise generated in one batch, the rest are sampled where they were picked
+        for (int i = 0; i < subBiomeTypes; i++)
+        {
+        	BOPSubBiome subBiome = presentSubBiomes[i];
+        	SimplexNoise noise = subBiomeNoise[subBiome.biomeID];
+        	boolean batched = subBiomeCounts[subBiome.biomeID] * 2 >= width * length;
+        	
+        	if (batched)
+        	{
+        		if (noiseBuffer.length < width * length) noiseBuffer = new double[width * length];
+        		
+        		noise.noise(noiseBuffer, x, z, width, length, subBiome.zoom);
+        	}
+        	
+        	for (int zi = 0; zi < length; ++zi)
+        	{
+        		for (int xi = 0; xi < width; ++xi)
         		{
-        			outputBiomeIDs[xi + zi * width] = currentBiomeId;
+        			int index = xi + zi * width;
+        			
+        			if (subBiomeIDs[index] != subBiome.biomeID) continue;
+        			
+        			double value = batched ? noiseBuffer[index] : noise.noise((xi + x) * subBiome.zoom, (zi + z) * subBiome.zoom);
+        			
+        			if (value > subBiome.threshold) outputBiomeIDs[index] = subBiome.biomeID;
         		}
         	}
+        	
+        	subBiomeCounts[subBiome.biomeID] = 0;
+        	presentSubBiomes[i] = null;
         }
 
         return outputBiomeIDs;
     }
     
-    private Pair<Integer, Integer> getOffset(BiomeGenBase biome)
-    {
-    	return offsets[biome.biomeID];
-    }
-
-    private void setOffsets()
+    private void createNoise(long worldSeed)
     {
-    	for (int i = 0; i< offsets.length; i++)
+    	for (List<BiomeEntry> subBiomes : BOPBiomeManager.overworldSubBiomes)
     	{
-    		offsets[i] = Pair.of(this.nextInt(OFFSET_RANGE) - (OFFSET_RANGE / 2), this.nextInt(OFFSET_RANGE) - (OFFSET_RANGE / 2));
+    		if (subBiomes == null) continue;
+    		
+    		for (BiomeEntry entry : subBiomes)
+    		{
+    			int biomeID = entry.biome.biomeID;
+    			
+    			subBiomeNoise[biomeID] = new SimplexNoise(worldSeed ^ biomeID * 0x9E3779B97F4A7C15L);
+    		}
     	}
     }
 }
@@ -0,0 +1,112 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.IntCache;
+
+/**
+ * Evaluates its parent in large aligned tiles and keeps the most recently used ones, so that the
+ * border every layer pads its input with is only computed once per tile rather than once per chunk.
+ * This relies on each layer's output at a position not depending on the area it was requested with,
+ * which holds for all of the vanilla and BoP layers.
+ */
+public class GenLayerTileCache extends GenLayer
+{
+	public static final int TILE_SIZE = 256;
+	private static final int TILE_SHIFT = 8;
+
+	/** Requests covering more tiles than this go straight to the parent rather than flushing the cache */
+	private final int maxTilesPerRequest;
+
+	private final long[] tileKeys;
+	private final int[][] tiles;
+	private final long[] lastUsed;
+	private long useCounter;
+
+	public GenLayerTileCache(GenLayer parentLayer, int capacity)
+	{
+		super(0L);
+
+		this.parent = parentLayer;
+		this.tileKeys = new long[capacity];
+		this.tiles = new int[capacity][];
+		this.lastUsed = new long[capacity];
+		this.maxTilesPerRequest = Math.max(1, capacity / 2);
+	}
+
+	@Override
+	public void initWorldGenSeed(long seed)
+	{
+		this.parent.initWorldGenSeed(seed);
+		this.clear();
+	}
+
+	@Override
+	public synchronized int[] getInts(int x, int z, int width, int height)
+	{
+		int minTileX = x >> TILE_SHIFT;
+		int minTileZ = z >> TILE_SHIFT;
+		int maxTileX = x + width - 1 >> TILE_SHIFT;
+		int maxTileZ = z + height - 1 >> TILE_SHIFT;
+
+		if ((maxTileX - minTileX + 1) * (maxTileZ - minTileZ + 1) > maxTilesPerRequest) return this.parent.getInts(x, z, width, height);
+
+		int[] output = IntCache.getIntCache(width * height);
+
+		for (int tileZ = minTileZ; tileZ <= maxTileZ; tileZ++)
+		{
+			for (int tileX = minTileX; tileX <= maxTileX; tileX++)
+			{
+				int[] tile = this.getTile(tileX, tileZ);
+				int tileStartX = tileX << TILE_SHIFT;
+				int tileStartZ = tileZ << TILE_SHIFT;
+				int startX = Math.max(x, tileStartX);
+				int endX = Math.min(x + width, tileStartX + TILE_SIZE);
+				int startZ = Math.max(z, tileStartZ);
+				int endZ = Math.min(z + height, tileStartZ + TILE_SIZE);
+
+				for (int currentZ = startZ; currentZ < endZ; currentZ++)
+				{
+					System.arraycopy(tile, (currentZ - tileStartZ) * TILE_SIZE + (startX - tileStartX), output, (currentZ - z) * width + (startX - x), endX - startX);
+				}
+			}
+		}
+
+		return output;
+	}
+
+	public synchronized void clear()
+	{
+		for (int i = 0; i < tiles.length; i++)
+		{
+			this.tiles[i] = null;
+		}
+	}
+
+	private int[] getTile(int tileX, int tileZ)
+	{
+		long key = (long)tileX & 4294967295L | ((long)tileZ & 4294967295L) << 32;
+		int leastRecent = 0;
+
+		for (int i = 0; i < tiles.length; i++)
+		{
+			if (tiles[i] != null && tileKeys[i] == key)
+			{
+				this.lastUsed[i] = ++useCounter;
+				return tiles[i];
+			}
+
+			if (tiles[leastRecent] != null && (tiles[i] == null || lastUsed[i] < lastUsed[leastRecent])) leastRecent = i;
+		}
+
+		//The parent's output is a buffer it reuses for its next call
+		int[] tile = new int[TILE_SIZE * TILE_SIZE];
+
+		System.arraycopy(this.parent.getInts(tileX << TILE_SHIFT, tileZ << TILE_SHIFT, TILE_SIZE, TILE_SIZE), 0, tile, 0, tile.length);
+
+		this.tileKeys[leastRecent] = key;
+		this.tiles[leastRecent] = tile;
+		this.lastUsed[leastRecent] = ++useCounter;
+
+		return tile;
+	}
+}
@@ -0,0 +1,70 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.gen.layer.GenLayer;
+
+public class GenLayerZoomBOP extends GenLayerBOP
+{
+    private int[] zoomedBuffer;
+    private int[] outputBuffer;
+
+    public GenLayerZoomBOP(long seed, GenLayer parent)
+    {
+        super(seed);
+
+        this.parent = parent;
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int length)
+    {
+        int parentX = x >> 1;
+        int parentZ = z >> 1;
+        int parentWidth = (width >> 1) + 2;
+        int parentLength = (length >> 1) + 2;
+        int[] inputBiomeIds = this.parent.getInts(parentX, parentZ, parentWidth, parentLength);
+        int zoomedWidth = parentWidth - 1 << 1;
+        int zoomedLength = parentLength - 1 << 1;
+        int[] zoomedBiomeIds = zoomedBuffer = ensureCapacity(zoomedBuffer, zoomedWidth * zoomedLength);
+
+        for (int zItr = 0; zItr < parentLength - 1; ++zItr)
+        {
+            int index = (zItr << 1) * zoomedWidth;
+            int topLeft = inputBiomeIds[(zItr + 0) * parentWidth];
+            int bottomLeft = inputBiomeIds[(zItr + 1) * parentWidth];
+
+            for (int xItr = 0; xItr < parentWidth - 1; ++xItr)
+            {
+                this.initChunkSeed((long)(xItr + parentX << 1), (long)(zItr + parentZ << 1));
+                int topRight = inputBiomeIds[xItr + 1 + (zItr + 0) * parentWidth];
+                int bottomRight = inputBiomeIds[xItr + 1 + (zItr + 1) * parentWidth];
+                zoomedBiomeIds[index] = topLeft;
+                zoomedBiomeIds[index++ + zoomedWidth] = this.selectRandom(new int[] {topLeft, bottomLeft});
+                zoomedBiomeIds[index] = this.selectRandom(new int[] {topLeft, topRight});
+                zoomedBiomeIds[index++ + zoomedWidth] = this.selectModeOrRandom(topLeft, topRight, bottomLeft, bottomRight);
+                topLeft = topRight;
+                bottomLeft = bottomRight;
+            }
+        }
+
+        int[] outputBiomeIds = outputBuffer = ensureCapacity(outputBuffer, width * length);
+
+        for (int zItr = 0; zItr < length; ++zItr)
+        {
+            System.arraycopy(zoomedBiomeIds, (zItr + (z & 1)) * zoomedWidth + (x & 1), outputBiomeIds, zItr * width, width);
+        }
+
+        return outputBiomeIds;
+    }
+
+    public static GenLayer magnify(long seed, GenLayer parent, int times)
+    {
+        GenLayer layer = parent;
+
+        for (int i = 0; i < times; ++i)
+        {
+            layer = new GenLayerZoomBOP(seed + (long)i, layer);
+        }
+
+        return layer;
+    }
+}
@@ -16,11 +16,8 @@ public abstract class BiomeLayerHell extends GenLayer
 		}
 
 		//Hell and promised biome gen
-		BiomeLayerHell obj = new BiomeLayerHellCreate(1L, false);
-		obj = new BiomeLayerHellFuzzyZoom(2000L, (obj));
-		for(int i = 1; i < 3; i++) { obj = new BiomeLayerHellZoom(2000L + i, (obj)); }
-		obj = BiomeLayerHellZoom.magnify(1000L, ((obj)), 0);
-		obj = new BiomeLayerHellBiomes(200L, ((obj)));
+		//Biomes are picked independently for every cell, so the chain starts at the biome layer
+		BiomeLayerHell obj = new BiomeLayerHellBiomes(200L);
 		obj = BiomeLayerHellZoom.magnify(1000L, ((obj)), 2);
 		for(int j = 0; j < biomesize; j++) { obj = new BiomeLayerHellZoom(1000L + j, (obj)); }
 		BiomeLayerHellVoronoiZoom genlayervoronoizoom = new BiomeLayerHellVoronoiZoom(10L, ((obj)));
@@ -34,6 +31,15 @@ public abstract class BiomeLayerHell extends GenLayer
 	    super(seed);
 	}
 
+	/**
+	 * Returns the given buffer if it can hold the requested number of values, otherwise a new buffer.
+	 * Layers keep their own buffers rather than sharing the IntCache with every other layer.
+	 */
+	protected static int[] ensureCapacity(int[] buffer, int size)
+	{
+		return buffer != null && buffer.length >= size ? buffer : new int[size];
+	}
+
 	public static byte getModdedBiomeSize(WorldType worldType, byte original)
 	{
 		WorldTypeEvent.BiomeSize event = new WorldTypeEvent.BiomeSize(worldType, original);
@@ -3,46 +3,106 @@ package biomesoplenty.common.world.layer.hell;
 import java.util.ArrayList;
 import java.util.List;
 
-import net.minecraft.util.WeightedRandom;
 import net.minecraft.world.biome.BiomeGenBase;
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.common.BiomeManager.BiomeEntry;
 import biomesoplenty.common.world.BOPBiomeManager;
 
 public class BiomeLayerHellBiomes extends BiomeLayerHell
 {
+	/** Selection tables with up to this many entries are flattened into a direct lookup */
+	private static final int MAX_LOOKUP_SIZE = 4096;
+
 	public List<BiomeEntry> netherBiomes = new ArrayList();
-	
-    public BiomeLayerHellBiomes(long par1, BiomeLayerHell par3GenLayer)
+
+	/** Weights are picked in steps of 10, so totalSteps is the range of random values */
+	private final int totalSteps;
+	private final int[] biomeIDs;
+	private final int[] cumulativeWeights;
+	private final int[] lookup;
+
+	private int[] outputBuffer;
+
+    public BiomeLayerHellBiomes(long par1)
     {
         super(par1);
-		parent = par3GenLayer;
 
 		this.netherBiomes.add(new BiomeEntry(BiomeGenBase.hell, 10));
 		this.netherBiomes.addAll(BOPBiomeManager.netherBiomes);
-    } 
 
+		int totalWeight = 0;
+
+		this.biomeIDs = new int[netherBiomes.size()];
+		this.cumulativeWeights = new int[netherBiomes.size()];
+
+		for (int i = 0; i < biomeIDs.length; i++)
+		{
+			BiomeEntry entry = netherBiomes.get(i);
+
+			totalWeight += entry.itemWeight;
+			this.biomeIDs[i] = entry.biome.biomeID;
+			this.cumulativeWeights[i] = totalWeight;
+		}
+
+		this.totalSteps = totalWeight / 10;
+
+		if (totalSteps <= MAX_LOOKUP_SIZE)
+		{
+			this.lookup = new int[totalSteps];
+
+			for (int step = 0; step < totalSteps; step++)
+			{
+				this.lookup[step] = biomeIDs[getEntryIndex(step * 10)];
+			}
+		}
+		else this.lookup = null;
+    }
+
+    /**
+     * Biomes are picked independently for every cell, so this layer has no parent
+     */
     @Override
 	public int[] getInts(int par1, int par2, int par3, int par4)
     {
-        int[] var5 = this.parent.getInts(par1, par2, par3, par4);
-        int[] var6 = IntCache.getIntCache(par3 * par4);
+        int[] var6 = outputBuffer = ensureCapacity(outputBuffer, par3 * par4);
 
         for (int var7 = 0; var7 < par4; ++var7)
         {
             for (int var8 = 0; var8 < par3; ++var8)
             {
                 this.initChunkSeed((long)(var8 + par1), (long)(var7 + par2));
-                int var9 = var5[var8 + var7 * par3];
-				
-				var6[var8 + var7 * par3] = getWeightedBiomeFromList(netherBiomes);
+
+				var6[var8 + var7 * par3] = getWeightedBiome();
             }
         }
         return var6;
     }
-    
-    private int getWeightedBiomeFromList(List<BiomeEntry> biomeList)
+
+    /**
+     * Picks the same biome as WeightedRandom.getItem(netherBiomes, (int)nextLong(totalWeight / 10) * 10)
+     */
+    private int getWeightedBiome()
+    {
+    	int step = (int)this.nextLong(totalSteps);
+
+    	return lookup != null ? lookup[step] : biomeIDs[getEntryIndex(step * 10)];
+    }
+
+    /**
+     * @return the index of the first entry whose cumulative weight is greater than the given value
+     */
+    private int getEntryIndex(int value)
     {
-    	return ((BiomeEntry)WeightedRandom.getItem(biomeList, (int)this.nextLong(WeightedRandom.getTotalWeight(biomeList) / 10) * 10)).biome.biomeID;
+    	int low = 0;
+    	int high = cumulativeWeights.length - 1;
+
+    	while (low < high)
+    	{
+    		int mid = (low + high) >>> 1;
+
+    		if (cumulativeWeights[mid] > value) high = mid;
+    		else low = mid + 1;
+    	}
+
+    	return low;
     }
-}
\ No newline at end of file
+}
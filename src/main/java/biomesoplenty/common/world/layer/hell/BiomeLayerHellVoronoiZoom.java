@@ -1,9 +1,10 @@
 package biomesoplenty.common.world.layer.hell;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 public class BiomeLayerHellVoronoiZoom extends BiomeLayerHell
 {
+	private int[] zoomedBuffer;
+	private int[] outputBuffer;
+
 	public BiomeLayerHellVoronoiZoom(long par1, BiomeLayerHell par3GenLayer)
 	{
 		super(par1);
@@ -28,7 +29,7 @@ public class BiomeLayerHellVoronoiZoom extends BiomeLayerHell
 		int[] aint = parent.getInts(j1, k1, l1, i2);
 		int j2 = l1 << b0;
 		int k2 = i2 << b0;
-		int[] aint1 = IntCache.getIntCache(j2 * k2);
+		int[] aint1 = zoomedBuffer = ensureCapacity(zoomedBuffer, j2 * k2);
 		int l2;
 
 		for (int i3 = 0; i3 < i2 - 1; ++i3)
@@ -89,7 +90,7 @@ public class BiomeLayerHellVoronoiZoom extends BiomeLayerHell
 			}
 		}
 
-		int[] aint2 = IntCache.getIntCache(par3 * par4);
+		int[] aint2 = outputBuffer = ensureCapacity(outputBuffer, par3 * par4);
 
 		for (l2 = 0; l2 < par4; ++l2)
 		{
@@ -1,9 +1,10 @@
 package biomesoplenty.common.world.layer.hell;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 public class BiomeLayerHellZoom extends BiomeLayerHell
 {
+	private int[] zoomedBuffer;
+	private int[] outputBuffer;
+
 	public BiomeLayerHellZoom(long par1, BiomeLayerHell par3GenLayer)
 	{
 		super(par1);
@@ -18,7 +19,7 @@ public class BiomeLayerHellZoom extends BiomeLayerHell
 		int k1 = (par3 >> 1) + 3;
 		int l1 = (par4 >> 1) + 3;
 		int[] aint = parent.getInts(i1, j1, k1, l1);
-		int[] aint1 = IntCache.getIntCache(k1 * 2 * l1 * 2);
+		int[] aint1 = zoomedBuffer = ensureCapacity(zoomedBuffer, k1 * 2 * l1 * 2);
 		int i2 = k1 << 1;
 		int j2;
 
@@ -43,7 +44,7 @@ public class BiomeLayerHellZoom extends BiomeLayerHell
 			}
 		}
 
-		int[] aint2 = IntCache.getIntCache(par3 * par4);
+		int[] aint2 = outputBuffer = ensureCapacity(outputBuffer, par3 * par4);
 
 		for (j2 = 0; j2 < par4; ++j2)
 		{
@@ -1,5 +1,7 @@
 package biomesoplenty.common.world.noise;
 
+import java.util.Random;
+
 /**
  * A speed-improved simplex noise algorithm for 2D, 3D and 4D in Java.
  *
@@ -16,10 +18,10 @@ package biomesoplenty.common.world.noise;
  * attribution is appreciated.
  *
  */
-public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
-	private static Grad[] grad3 = {new Grad(1, 1, 0), new Grad(-1, 1, 0), new Grad(1, -1, 0), new Grad(-1, -1, 0),
-			new Grad(1, 0, 1), new Grad(-1, 0, 1),
-			new Grad(1, 0, -1), new Grad(-1, 0, -1), new Grad(0, 1, 1), new Grad(0, -1, 1), new Grad(0, 1, -1), new Grad(0, -1, -1)};
+public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D, with a permutation owned by each instance
+	// The x and y of each 3D gradient, which are all that 2D noise uses
+	private static final double[] grad3X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0};
+	private static final double[] grad3Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1};
 
 	// private static Grad grad4[]= {new Grad(0,1,1,1),new Grad(0,1,1,-1),new Grad(0,1,-1,1),new Grad(0,1,-1,-1),
 	// new Grad(0,-1,1,1),new Grad(0,-1,1,-1),new Grad(0,-1,-1,1),new Grad(0,-1,-1,-1),
@@ -30,7 +32,8 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 	// new Grad(1,1,1,0),new Grad(1,1,-1,0),new Grad(1,-1,1,0),new Grad(1,-1,-1,0),
 	// new Grad(-1,1,1,0),new Grad(-1,1,-1,0),new Grad(-1,-1,1,0),new Grad(-1,-1,-1,0)};
 
-	private static short[] p = {151, 160, 137, 91, 90, 15, 131, 13, 201, 95, 96, 53, 194, 233, 7, 225, 140, 36, 103,
+	// The reference permutation, used when no seed is given
+	private static final short[] p = {151, 160, 137, 91, 90, 15, 131, 13, 201, 95, 96, 53, 194, 233, 7, 225, 140, 36, 103,
 			30, 69, 142, 8, 99, 37, 240, 21, 10, 23,
 			190, 6, 148, 247, 120, 234, 75, 0, 26, 197, 62, 94, 252, 219, 203, 117, 35, 11, 32, 57, 177, 33, 88, 237, 149, 56, 87, 174, 20, 125, 136, 171, 168,
 			68, 175, 74, 165, 71, 134, 139, 48, 27, 166, 77, 146, 158, 231, 83, 111, 229, 122, 60, 211, 133, 230, 220, 105, 92, 41, 55, 46, 245, 40, 244, 102,
@@ -41,14 +44,8 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 			199, 106, 157, 184, 84, 204, 176, 115, 121, 50, 45, 127, 4, 150, 254, 138, 236, 205, 93, 222, 114, 67, 29, 24, 72, 243, 141, 128, 195, 78, 66, 215,
 			61, 156, 180};
 	// To remove the need for index wrapping, double the permutation table length
-	private static short[] perm = new short[512];
-	private static short[] permMod12 = new short[512];
-	static {
-		for (int i = 0; i < 512; i++) {
-			perm[i] = p[i & 255];
-			permMod12[i] = (short) (perm[i] % 12);
-		}
-	}
+	private final short[] perm = new short[512];
+	private final byte[] permMod12 = new byte[512];
 
 	// Skewing and unskewing factors for 2, 3, and 4 dimensions
 	private static final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);
@@ -60,9 +57,32 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 	// private static final double G4 = (5.0-Math.sqrt(5.0))/20.0;
 
 	/**
-	 * Deactivate constructor
+	 * Creates noise using the reference permutation
+	 */
+	public SimplexNoise() {
+		this.setPermutation(p);
+	}
+
+	/**
+	 * Creates noise with its own permutation, shuffled using the given seed
 	 */
-	private SimplexNoise() {
+	public SimplexNoise(long seed) {
+		short[] shuffled = p.clone();
+		Random random = new Random(seed);
+		for (int i = shuffled.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			short swap = shuffled[i];
+			shuffled[i] = shuffled[j];
+			shuffled[j] = swap;
+		}
+		this.setPermutation(shuffled);
+	}
+
+	private void setPermutation(short[] permutation) {
+		for (int i = 0; i < 512; i++) {
+			perm[i] = permutation[i & 255];
+			permMod12[i] = (byte) (perm[i] % 12);
+		}
 	}
 
 	// This method is a *lot* faster than using (int)Math.floor(x)
@@ -71,10 +91,6 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 		return x < xi ? xi - 1 : xi;
 	}
 
-	private static double dot(Grad g, double x, double y) {
-		return g.x * x + g.y * y;
-	}
-
 	// private static double dot(Grad g, double x, double y, double z) {
 	// return g.x*x + g.y*y + g.z*z; }
 	//
@@ -82,7 +98,7 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 	// return g.x*x + g.y*y + g.z*z + g.w*w; }
 
 	// 2D simplex noise
-	public static double noise(double xin, double yin) {
+	public double noise(double xin, double yin) {
 		double n0, n1, n2; // Noise contributions from the three corners
 		// Skew the input space to determine which simplex cell we're in
 		double s = (xin + yin) * F2; // Hairy factor for 2D
@@ -123,27 +139,73 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 			n0 = 0.0;
 		} else {
 			t0 *= t0;
-			n0 = t0 * t0 * dot(grad3[gi0], x0, y0); // (x,y) of grad3 used for 2D gradient
+			n0 = t0 * t0 * (grad3X[gi0] * x0 + grad3Y[gi0] * y0); // (x,y) of grad3 used for 2D gradient
 		}
 		double t1 = 0.5 - x1 * x1 - y1 * y1;
 		if (t1 < 0) {
 			n1 = 0.0;
 		} else {
 			t1 *= t1;
-			n1 = t1 * t1 * dot(grad3[gi1], x1, y1);
+			n1 = t1 * t1 * (grad3X[gi1] * x1 + grad3Y[gi1] * y1);
 		}
 		double t2 = 0.5 - x2 * x2 - y2 * y2;
 		if (t2 < 0) {
 			n2 = 0.0;
 		} else {
 			t2 *= t2;
-			n2 = t2 * t2 * dot(grad3[gi2], x2, y2);
+			n2 = t2 * t2 * (grad3X[gi2] * x2 + grad3Y[gi2] * y2);
 		}
 		// Add contributions from each corner to get the final noise value.
 		// The result is scaled to return values in the interval [-1,1].
 		return 70.0 * (n0 + n1 + n2);
 	}
 
+	// 2D simplex noise over a grid. Fills output[i + j * width] with noise((x + i) * scale, (y + j) * scale),
+	// giving exactly the same values as calling noise for each point.
+	public void noise(double[] output, int x, int y, int width, int length, double scale) {
+		for (int j = 0; j < length; j++) {
+			double yin = (y + j) * scale;
+			int row = j * width;
+			for (int i = 0; i < width; i++) {
+				double xin = (x + i) * scale;
+				double s = (xin + yin) * F2;
+				int ci = fastfloor(xin + s);
+				int cj = fastfloor(yin + s);
+				double t = (ci + cj) * G2;
+				double x0 = xin - (ci - t);
+				double y0 = yin - (cj - t);
+				int i1 = x0 > y0 ? 1 : 0;
+				int j1 = 1 - i1;
+				double x1 = x0 - i1 + G2;
+				double y1 = y0 - j1 + G2;
+				double x2 = x0 - 1.0 + 2.0 * G2;
+				double y2 = y0 - 1.0 + 2.0 * G2;
+				int ii = ci & 255;
+				int jj = cj & 255;
+				double n = 0.0;
+				double t0 = 0.5 - x0 * x0 - y0 * y0;
+				if (t0 >= 0) {
+					int gi0 = permMod12[ii + perm[jj]];
+					t0 *= t0;
+					n += t0 * t0 * (grad3X[gi0] * x0 + grad3Y[gi0] * y0);
+				}
+				double t1 = 0.5 - x1 * x1 - y1 * y1;
+				if (t1 >= 0) {
+					int gi1 = permMod12[ii + i1 + perm[jj + j1]];
+					t1 *= t1;
+					n += t1 * t1 * (grad3X[gi1] * x1 + grad3Y[gi1] * y1);
+				}
+				double t2 = 0.5 - x2 * x2 - y2 * y2;
+				if (t2 >= 0) {
+					int gi2 = permMod12[ii + 1 + perm[jj + 1]];
+					t2 *= t2;
+					n += t2 * t2 * (grad3X[gi2] * x2 + grad3Y[gi2] * y2);
+				}
+				output[row + i] = 70.0 * n;
+			}
+		}
+	}
+
 	/*
 	 *
 	 * // 3D simplex noise public static double noise(double xin, double yin, double zin) { double n0, n1, n2, n3; // Noise contributions from the four corners
@@ -200,23 +262,4 @@ public final class SimplexNoise { // Simplex noise in 2D, 3D and 4D
 	 * if(t4<0) n4 = 0.0; else { t4 *= t4; n4 = t4 * t4 * dot(grad4[gi4], x4, y4, z4, w4); } // Sum up and scale the result to cover the range [-1,1] return
 	 * 27.0 * (n0 + n1 + n2 + n3 + n4); }
 	 */
-
-	// Inner class to speed upp gradient computations
-	// (array access is a lot slower than member access)
-	private static class Grad {
-		double x, y, z, w;
-
-		Grad(double x, double y, double z) {
-			this.x = x;
-			this.y = y;
-			this.z = z;
-		}
-
-		Grad(double x, double y, double z, double w) {
-			this.x = x;
-			this.y = y;
-			this.z = z;
-			this.w = w;
-		}
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package biomesoplenty.common.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class PerlinNoiseTest
+{
+	private static final long[] SEEDS = { 0L, 100L, -7394659318243L, 8214906547102L };
+	
+	@Test
+	public void noise2GridMatchesPointNoise()
+	{
+		for (long seed : SEEDS)
+		{
+			PerlinNoise noise = new PerlinNoise(seed);
+			
+			for (float divisor : new float[] { 1.0F, 8.0F, 12.0F, 100.0F })
+			{
+				assertNoise2GridMatches(noise, -33, -33, 16, 16, divisor);
+				assertNoise2GridMatches(noise, 1000, -30000, 5, 19, divisor);
+				assertNoise2GridMatches(noise, -1000000, 1000000, 16, 16, divisor);
+			}
+		}
+	}
+	
+	@Test
+	public void noise3ColumnMatchesPointNoise()
+	{
+		for (long seed : SEEDS)
+		{
+			PerlinNoise noise = new PerlinNoise(seed);
+			
+			for (float zDivisor : new float[] { 1.0F, 8.0F, 12.0F })
+			{
+				assertNoise3ColumnMatches(noise, 0.0F, 0.0F, 0, 127, zDivisor);
+				assertNoise3ColumnMatches(noise, -4.75F, 12.125F, 17, 96, zDivisor);
+				assertNoise3ColumnMatches(noise, 83333.34F, -83333.34F, 0, 255, zDivisor);
+			}
+		}
+	}
+	
+	private static void assertNoise2GridMatches(PerlinNoise noise, int x, int y, int width, int length, float divisor)
+	{
+		float[] grid = new float[width * length];
+		noise.noise2(grid, x, y, width, length, divisor);
+		
+		for (int j = 0; j < length; j++)
+		{
+			for (int i = 0; i < width; i++)
+			{
+				float expected = noise.noise2((x + i) / divisor, (y + j) / divisor);
+				
+				assertEquals("at " + (x + i) + ", " + (y + j), Float.floatToIntBits(expected), Float.floatToIntBits(grid[i + j * width]));
+			}
+		}
+	}
+	
+	private static void assertNoise3ColumnMatches(PerlinNoise noise, float x, float y, int minZ, int maxZ, float zDivisor)
+	{
+		float[] column = new float[maxZ + 1];
+		noise.noise3Column(column, x, y, minZ, maxZ, zDivisor);
+		
+		for (int k = minZ; k <= maxZ; k++)
+		{
+			float expected = noise.noise3(x, y, k / zDivisor);
+			
+			assertEquals("at " + x + ", " + y + ", " + k, Float.floatToIntBits(expected), Float.floatToIntBits(column[k]));
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package biomesoplenty.common.world.layer;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.minecraft.world.WorldType;
+import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.GenLayerAddIsland;
+import net.minecraft.world.gen.layer.GenLayerAddMushroomIsland;
+import net.minecraft.world.gen.layer.GenLayerAddSnow;
+import net.minecraft.world.gen.layer.GenLayerBiomeEdge;
+import net.minecraft.world.gen.layer.GenLayerDeepOcean;
+import net.minecraft.world.gen.layer.GenLayerEdge;
+import net.minecraft.world.gen.layer.GenLayerFuzzyZoom;
+import net.minecraft.world.gen.layer.GenLayerIsland;
+import net.minecraft.world.gen.layer.GenLayerRareBiome;
+import net.minecraft.world.gen.layer.GenLayerRemoveTooMuchOcean;
+import net.minecraft.world.gen.layer.GenLayerRiver;
+import net.minecraft.world.gen.layer.GenLayerRiverInit;
+import net.minecraft.world.gen.layer.GenLayerSmooth;
+import net.minecraft.world.gen.layer.GenLayerZoom;
+import net.minecraft.world.gen.layer.IntCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
+import biomesoplenty.common.core.BOPBiomes;
+import biomesoplenty.common.world.BiomeMapTool;
+
+public class GenLayerBOPTest
+{
+	private static final long[] WORLD_SEEDS = { 0L, 1L, -1L, 42L, 8214906547102L, -7394659318243L };
+	/** Areas as x, z, width and length, covering negative coordinates, odd sizes and a full chunk's worth of biomes */
+	private static final int[][] AREAS = { { 0, 0, 16, 16 }, { -37, -12, 7, 9 }, { 4000, -90000, 30, 30 }, { -1000000, 1000000, 1, 64 } };
+
+	private boolean savedOceanFiller;
+
+	@BeforeClass
+	public static void bootstrap() throws Exception
+	{
+		BiomeMapTool.bootstrap(Files.createTempDirectory("bop-layers").toFile());
+	}
+
+	@Before
+	public void saveOceanFiller()
+	{
+		savedOceanFiller = BOPConfigurationTerrainGen.oceanFiller;
+	}
+
+	@After
+	public void restoreOceanFiller()
+	{
+		BOPConfigurationTerrainGen.oceanFiller = savedOceanFiller;
+	}
+
+	@Test
+	public void matchesVanillaLayersWithOceanFiller()
+	{
+		BOPConfigurationTerrainGen.oceanFiller = true;
+
+		assertMatchesVanillaLayers();
+	}
+
+	@Test
+	public void matchesVanillaLayersWithoutOceanFiller()
+	{
+		BOPConfigurationTerrainGen.oceanFiller = false;
+
+		assertMatchesVanillaLayers();
+	}
+
+	@Test
+	public void separateCopiesMatchAcrossThreads() throws Exception
+	{
+		final long worldSeed = 8214906547102L;
+		final int[] area = AREAS[2];
+		int[] expected = GenLayerBOP.initializeAllBiomeGenerators(worldSeed, BOPBiomes.worldTypeBOP)[0].getInts(area[0], area[1], area[2], area[3]).clone();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<int[]>> results = new ArrayList<Future<int[]>>();
+
+		try
+		{
+			for (int i = 0; i < 4; i++)
+			{
+				results.add(executor.submit(new Callable<int[]>()
+				{
+					@Override
+					public int[] call()
+					{
+						GenLayer layer = GenLayerBOP.initializeAllBiomeGenerators(worldSeed, BOPBiomes.worldTypeBOP)[0];
+						int[] biomeIDs = null;
+
+						//Each copy is asked repeatedly so that the threads overlap
+						for (int j = 0; j < 20; j++)
+						{
+							biomeIDs = layer.getInts(area[0], area[1], area[2], area[3]).clone();
+						}
+
+						return biomeIDs;
+					}
+				}));
+			}
+
+			for (Future<int[]> result : results)
+			{
+				assertArrayEquals(expected, result.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static void assertMatchesVanillaLayers()
+	{
+		for (long worldSeed : WORLD_SEEDS)
+		{
+			GenLayer expectedLayer = VanillaLayers.create(worldSeed, BOPBiomes.worldTypeBOP);
+			GenLayer actualLayer = GenLayerBOP.initializeAllBiomeGenerators(worldSeed, BOPBiomes.worldTypeBOP)[0];
+
+			for (int[] area : AREAS)
+			{
+				int[] expected = expectedLayer.getInts(area[0], area[1], area[2], area[3]).clone();
+
+				IntCache.resetIntCache();
+
+				assertArrayEquals("seed " + worldSeed + " at " + area[0] + ", " + area[1], expected, actualLayer.getInts(area[0], area[1], area[2], area[3]));
+			}
+		}
+	}
+
+	/**
+	 * The overworld chain as it was built from vanilla's layers, which all share the IntCache
+	 */
+	private static class VanillaLayers extends GenLayer
+	{
+		private VanillaLayers()
+		{
+			super(0L);
+		}
+
+		@Override
+		public int[] getInts(int x, int z, int width, int length)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		private static GenLayer create(long seed, WorldType worldType)
+		{
+			GenLayer genLayerCreateLand = BOPConfigurationTerrainGen.oceanFiller ? new GenLayerIsland(1L) : new GenLayerCreateLand(1L);
+			GenLayerFuzzyZoom genlayerfuzzyzoom = new GenLayerFuzzyZoom(2000L, genLayerCreateLand);
+			GenLayerAddIsland genlayeraddisland = new GenLayerAddIsland(1L, genlayerfuzzyzoom);
+			GenLayerZoom genlayerzoom = new GenLayerZoom(2001L, genlayeraddisland);
+			genlayeraddisland = new GenLayerAddIsland(2L, genlayerzoom);
+			genlayeraddisland = new GenLayerAddIsland(50L, genlayeraddisland);
+			genlayeraddisland = new GenLayerAddIsland(70L, genlayeraddisland);
+			GenLayerRemoveTooMuchOcean genlayerremovetoomuchocean = new GenLayerRemoveTooMuchOcean(2L, genlayeraddisland);
+			GenLayerAddSnow genlayeraddsnow = new GenLayerAddSnow(2L, BOPConfigurationTerrainGen.oceanFiller ? genlayerremovetoomuchocean : genlayeraddisland);
+			genlayeraddisland = new GenLayerAddIsland(3L, genlayeraddsnow);
+			GenLayerEdge genlayeredge = new GenLayerEdge(2L, genlayeraddisland, GenLayerEdge.Mode.COOL_WARM);
+			genlayeredge = new GenLayerEdge(2L, genlayeredge, GenLayerEdge.Mode.HEAT_ICE);
+			genlayeredge = new GenLayerEdge(3L, genlayeredge, GenLayerEdge.Mode.SPECIAL);
+			genlayerzoom = new GenLayerZoom(2002L, genlayeredge);
+			genlayerzoom = new GenLayerZoom(2003L, genlayerzoom);
+			genlayeraddisland = new GenLayerAddIsland(4L, genlayerzoom);
+			GenLayerAddMushroomIsland genlayeraddmushroomisland = new GenLayerAddMushroomIsland(5L, genlayeraddisland);
+			GenLayerDeepOcean genlayerdeepocean = new GenLayerDeepOcean(4L, genlayeraddmushroomisland);
+			GenLayer genlayer2 = GenLayerZoom.magnify(1000L, genlayerdeepocean, 0);
+			byte b0 = getModdedBiomeSize(worldType, (byte)4);
+
+			GenLayer genlayer = GenLayerZoom.magnify(1000L, genlayer2, 0);
+			GenLayerRiverInit genlayerriverinit = new GenLayerRiverInit(100L, genlayer);
+			GenLayer object = new GenLayerBiomeBOP(200L, genlayer2, worldType);
+			object = GenLayerZoom.magnify(1000L, object, 2);
+			object = new GenLayerBiomeEdge(1000L, object);
+
+			GenLayer genlayer1 = GenLayerZoom.magnify(1000L, genlayerriverinit, 2);
+			GenLayerMutationBOP genlayermutation = new GenLayerMutationBOP(1000L, object, genlayer1);
+			GenLayerSubBiome genlayersubbiome = new GenLayerSubBiome(1500L, genlayermutation);
+			genlayer = GenLayerZoom.magnify(1000L, genlayerriverinit, 2);
+			genlayer = GenLayerZoom.magnify(1000L, genlayer, b0);
+			GenLayerRiver genlayerriver = new GenLayerRiver(1L, genlayer);
+			GenLayerSmooth genlayersmooth = new GenLayerSmooth(1000L, genlayerriver);
+			object = new GenLayerRareBiome(1001L, genlayersubbiome);
+
+			for (int j = 0; j < b0; ++j)
+			{
+				object = new GenLayerZoom((long)(1000 + j), object);
+
+				if (j == 0)
+				{
+					object = new GenLayerAddIsland(3L, object);
+				}
+
+				if (j == 1)
+				{
+					object = new GenLayerShoreBOP(1000L, object);
+				}
+			}
+
+			GenLayerSmooth genlayersmooth1 = new GenLayerSmooth(1000L, object);
+			GenLayerRiverMixBOP genlayerrivermix = new GenLayerRiverMixBOP(100L, genlayersmooth1, genlayersmooth);
+			genlayerrivermix.initWorldGenSeed(seed);
+
+			return genlayerrivermix;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package biomesoplenty.common.world.layer.hell;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.util.WeightedRandom;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraftforge.common.BiomeManager.BiomeEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import biomesoplenty.common.world.BOPBiomeManager;
+
+public class BiomeLayerHellBiomesTest
+{
+	private static final long[] WORLD_SEEDS = { 0L, 1L, -1L, 42L, 8214906547102L, -7394659318243L, Long.MAX_VALUE, Long.MIN_VALUE };
+	/** Areas as x, z, width and length, covering negative coordinates and the sizes the zoom layers ask for */
+	private static final int[][] AREAS = { { 0, 0, 16, 16 }, { -37, -12, 7, 9 }, { 4000, -90000, 30, 30 }, { -1000000, 1000000, 1, 64 } };
+	
+	private List<BiomeEntry> savedNetherBiomes;
+	
+	@Before
+	public void saveNetherBiomes()
+	{
+		savedNetherBiomes = new ArrayList<BiomeEntry>(BOPBiomeManager.netherBiomes);
+		BOPBiomeManager.netherBiomes.clear();
+	}
+	
+	@After
+	public void restoreNetherBiomes()
+	{
+		BOPBiomeManager.netherBiomes.clear();
+		BOPBiomeManager.netherBiomes.addAll(savedNetherBiomes);
+	}
+	
+	@Test
+	public void matchesWeightedRandomWithOnlyHell()
+	{
+		assertMatchesOracle();
+	}
+	
+	@Test
+	public void matchesWeightedRandomWithUnevenWeights()
+	{
+		//Weights which are not multiples of 10 put the boundaries between entries part way through a step
+		addNetherBiome(BiomeGenBase.desert, 10);
+		addNetherBiome(BiomeGenBase.forest, 25);
+		addNetherBiome(BiomeGenBase.taiga, 7);
+		addNetherBiome(BiomeGenBase.swampland, 50);
+		addNetherBiome(BiomeGenBase.jungle, 3);
+		addNetherBiome(BiomeGenBase.mesa, 0);
+		addNetherBiome(BiomeGenBase.savanna, 18);
+		
+		assertMatchesOracle();
+	}
+	
+	@Test
+	public void matchesWeightedRandomWithoutLookupTable()
+	{
+		//Totals above 40960 are too large for the direct lookup, so these go through the binary search
+		addNetherBiome(BiomeGenBase.desert, 20000);
+		addNetherBiome(BiomeGenBase.forest, 15005);
+		addNetherBiome(BiomeGenBase.taiga, 9999);
+		addNetherBiome(BiomeGenBase.swampland, 1);
+		
+		assertMatchesOracle();
+	}
+	
+	private static void addNetherBiome(BiomeGenBase biome, int weight)
+	{
+		BOPBiomeManager.netherBiomes.add(new BiomeEntry(biome, weight));
+	}
+	
+	private static void assertMatchesOracle()
+	{
+		for (long worldSeed : WORLD_SEEDS)
+		{
+			BiomeLayerHellBiomes layer = new BiomeLayerHellBiomes(200L);
+			WeightedRandomHellBiomes oracle = new WeightedRandomHellBiomes(200L);
+			
+			layer.initWorldGenSeed(worldSeed);
+			oracle.initWorldGenSeed(worldSeed);
+			
+			for (int[] area : AREAS)
+			{
+				int size = area[2] * area[3];
+				int[] expected = oracle.getInts(area[0], area[1], area[2], area[3]);
+				int[] actual = new int[size];
+				
+				//The layer reuses its buffer, which may be larger than the area asked for
+				System.arraycopy(layer.getInts(area[0], area[1], area[2], area[3]), 0, actual, 0, size);
+				
+				assertArrayEquals("world seed " + worldSeed + " at " + area[0] + ", " + area[1], expected, actual);
+			}
+		}
+	}
+	
+	/**
+	 * The Nether biome layer as it was before the weight table, picking every cell with WeightedRandom
+	 */
+	private static class WeightedRandomHellBiomes extends BiomeLayerHell
+	{
+		private final List<BiomeEntry> netherBiomes = new ArrayList<BiomeEntry>();
+		
+		public WeightedRandomHellBiomes(long seed)
+		{
+			super(seed);
+			
+			this.netherBiomes.add(new BiomeEntry(BiomeGenBase.hell, 10));
+			this.netherBiomes.addAll(BOPBiomeManager.netherBiomes);
+		}
+		
+		@Override
+		public int[] getInts(int x, int z, int width, int length)
+		{
+			int[] ints = new int[width * length];
+			
+			for (int j = 0; j < length; ++j)
+			{
+				for (int i = 0; i < width; ++i)
+				{
+					this.initChunkSeed((long)(i + x), (long)(j + z));
+					
+					ints[i + j * width] = ((BiomeEntry)WeightedRandom.getItem(netherBiomes, (int)this.nextLong(WeightedRandom.getTotalWeight(netherBiomes) / 10) * 10)).biome.biomeID;
+				}
+			}
+			
+			return ints;
+		}
+	}
+}
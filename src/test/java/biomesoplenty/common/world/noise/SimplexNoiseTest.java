@@ -0,0 +1,50 @@
+package biomesoplenty.common.world.noise;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SimplexNoiseTest
+{
+	private static final long[] SEEDS = { 0L, 1L, -7394659318243L, 8214906547102L };
+	private static final double[] SCALES = { 0.0625D, 0.001D, 0.0045D, 1.0D / 3.0D };
+	
+	@Test
+	public void gridMatchesPointNoise()
+	{
+		for (long seed : SEEDS)
+		{
+			SimplexNoise noise = new SimplexNoise(seed);
+			
+			for (double scale : SCALES)
+			{
+				assertGridMatches(noise, -48, -48, 16, 16, scale);
+				assertGridMatches(noise, 1000, -30000, 7, 23, scale);
+				assertGridMatches(noise, -2000000, 2000000, 16, 16, scale);
+			}
+		}
+	}
+	
+	@Test
+	public void gridMatchesPointNoiseWithReferencePermutation()
+	{
+		assertGridMatches(new SimplexNoise(), -16, 32, 16, 16, 0.01D);
+	}
+	
+	private static void assertGridMatches(SimplexNoise noise, int x, int y, int width, int length, double scale)
+	{
+		double[] grid = new double[width * length];
+		noise.noise(grid, x, y, width, length, scale);
+		
+		for (int j = 0; j < length; j++)
+		{
+			for (int i = 0; i < width; i++)
+			{
+				double expected = noise.noise((x + i) * scale, (y + j) * scale);
+				
+				//Batched noise has to give bit-identical values, not just close ones
+				assertEquals("at " + (x + i) + ", " + (y + j), Double.doubleToLongBits(expected), Double.doubleToLongBits(grid[i + j * width]));
+			}
+		}
+	}
+}